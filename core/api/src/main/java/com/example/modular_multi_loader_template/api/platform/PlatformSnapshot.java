@@ -0,0 +1,85 @@
+package com.example.modular_multi_loader_template.api.platform;
+
+import com.example.modular_multi_loader_template.api.platform.mods.ModDiff;
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Lazily creates and caches an immutable {@link PlatformInfo}.
+ *
+ * <p>The static facts (loader and game version, game directory, environment, operating system) are gathered
+ * once, including the game directory check performed by {@link PlatformInfo}'s constructor. The only mutable
+ * part, the running mod list, lives in the cached info's {@link com.example.modular_multi_loader_template.api.platform.mods.ModRegistry}
+ * and can be refreshed through {@link #refreshMods()}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * private final PlatformSnapshot snapshot = new PlatformSnapshot(this::createInfo);
+ *
+ * public PlatformInfo getInfo() {
+ *     return snapshot.get();
+ * }
+ * }</pre>
+ */
+public final class PlatformSnapshot {
+    private final Supplier<PlatformInfo> factory;
+    private volatile PlatformInfo info;
+
+    /**
+     * Creates a snapshot that is populated from the given factory on first access.
+     *
+     * @param factory Supplier that gathers the platform information.
+     */
+    public PlatformSnapshot(Supplier<PlatformInfo> factory) {
+        this.factory = Objects.requireNonNull(factory, "Platform info factory cannot be null");
+    }
+
+    /**
+     * Returns the cached platform information, creating it on first access.
+     *
+     * @return The platform information.
+     */
+    public PlatformInfo get() {
+        PlatformInfo current = this.info;
+        if (current == null) {
+            synchronized (this) {
+                current = this.info;
+                if (current == null) {
+                    current = Objects.requireNonNull(this.factory.get(), "Platform info factory returned null");
+                    this.info = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Rebuilds the running mod list and reports what changed.
+     *
+     * @return The differences since the previous mod list.
+     */
+    public ModDiff refreshMods() {
+        return this.get().modRegistry().refresh();
+    }
+
+    /**
+     * Returns the current mod list generation; see {@link com.example.modular_multi_loader_template.api.platform.mods.ModRegistry#generation()}.
+     *
+     * @return The mod list generation.
+     */
+    public long modGeneration() {
+        return this.get().modRegistry().generation();
+    }
+
+    /**
+     * Checks whether the mod list may have changed since the given generation was observed.
+     *
+     * @param generation A generation previously returned by {@link #modGeneration()}.
+     * @return true if the mod list may have changed.
+     */
+    public boolean hasChangedSince(long generation) {
+        return this.modGeneration() != generation;
+    }
+}
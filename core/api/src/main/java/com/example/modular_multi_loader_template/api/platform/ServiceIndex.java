@@ -0,0 +1,33 @@
+package com.example.modular_multi_loader_template.api.platform;
+
+import java.util.function.Supplier;
+
+/**
+ * Build-time index of the service providers of a platform.
+ *
+ * <p>The implementation ({@value #GENERATED_CLASS}) is generated by the {@code core:processor} annotation
+ * processor while a platform module is compiled, from the same {@code META-INF/services} files that
+ * {@link java.util.ServiceLoader} reads. It maps each service interface to a constructor reference of its
+ * highest-priority provider, so {@link Services} can instantiate it without scanning the class path. Services
+ * that are not in the index are still resolved through {@link java.util.ServiceLoader}.</p>
+ */
+public interface ServiceIndex {
+    /** Binary name of the generated implementation. */
+    String GENERATED_CLASS = "com.example.modular_multi_loader_template.generated.GeneratedServiceIndex";
+
+    /**
+     * Returns a factory for the highest-priority provider of the given service.
+     *
+     * @param service The service interface.
+     * @return A factory creating a new provider instance, or {@code null} if the service is not indexed.
+     */
+    Supplier<?> factory(Class<?> service);
+
+    /**
+     * Returns how many providers were declared for the given service.
+     *
+     * @param service The service interface.
+     * @return The number of declared providers, or {@code 0} if the service is not indexed.
+     */
+    int candidates(Class<?> service);
+}
@@ -0,0 +1,17 @@
+package com.example.modular_multi_loader_template.api.platform;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets the priority of a service provider when several implementations of the same interface are present.
+ * <p>
+ * {@link Services#load(Class)} picks the provider with the highest value. Providers without this
+ * annotation have a priority of {@code 0}. The annotation is read from the provider class without
+ * instantiating it.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ServicePriority {
+    int value();
+}
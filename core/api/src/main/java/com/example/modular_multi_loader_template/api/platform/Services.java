@@ -1,13 +1,170 @@
 package com.example.modular_multi_loader_template.api.platform;
 
+import com.example.modular_multi_loader_template.api.platform.diagnostics.ServiceLoadEvent;
 import com.example.modular_multi_loader_template.api.platform.services.IPlatformHelper;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import org.apache.logging.log4j.LogManager;
 
-import java.util.ServiceLoader;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
+/**
+ * Resolves and caches platform service implementations declared in {@code META-INF/services}.
+ *
+ * <p>Each service interface is resolved once. When the platform was compiled with the service index processor,
+ * the provider is taken from the generated {@link ServiceIndex} and constructed directly. Otherwise candidate
+ * providers are discovered lazily through {@link ServiceLoader.Provider}, ordered by {@link ServicePriority},
+ * and only the winning provider is instantiated. Later calls to {@link #load(Class)} return the cached instance.
+ * The time spent resolving each interface is recorded, available through {@link #getLoadTimings()} and exported
+ * as the {@code services_load_seconds} metric.</p>
+ */
 public class Services {
+    private static final ConcurrentMap<Class<?>, Object> PROVIDERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, LoadTiming> TIMINGS = new ConcurrentHashMap<>();
+    private static final Histogram LOAD_TIME = MetricRegistry.global()
+            .timer("services_load_seconds", "Time spent discovering and instantiating a platform service.");
+    private static final ServiceIndex INDEX = loadIndex();
+
     public static final IPlatformHelper PLATFORM = load(IPlatformHelper.class);
 
+    /**
+     * Returns the highest-priority implementation of the given service, resolving it on first use.
+     *
+     * @param clazz The service interface.
+     * @return The cached service implementation.
+     * @throws NullPointerException if no implementation is available.
+     */
     public static <T> T load(Class<T> clazz) {
-        return ServiceLoader.load(clazz).findFirst().orElseThrow(() -> new NullPointerException("Failed to load service for " + clazz.getName()));
+        Object cached = PROVIDERS.get(clazz);
+        if (cached != null) {
+            return clazz.cast(cached);
+        }
+
+        // Resolved outside the map so providers may load other services from their constructors.
+        T resolved = resolve(clazz);
+        Object existing = PROVIDERS.putIfAbsent(clazz, resolved);
+        return existing != null ? clazz.cast(existing) : resolved;
+    }
+
+    /**
+     * Returns a supplier that resolves the service on first access only.
+     *
+     * @param clazz The service interface.
+     * @return A memoizing supplier for the service implementation.
+     */
+    public static <T> Supplier<T> lazy(Class<T> clazz) {
+        return new Supplier<>() {
+            private volatile T instance;
+
+            @Override
+            public T get() {
+                T current = this.instance;
+                if (current == null) {
+                    current = load(clazz);
+                    this.instance = current;
+                }
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns all providers of the given service ordered by descending {@link ServicePriority}, without
+     * instantiating them.
+     *
+     * @param clazz The service interface.
+     * @return The ordered providers (possibly empty).
+     */
+    public static <T> List<ServiceLoader.Provider<T>> providers(Class<T> clazz) {
+        return ServiceLoader.load(clazz).stream()
+                .sorted(Comparator.comparingInt((ServiceLoader.Provider<T> provider) -> priorityOf(provider.type())).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns how long each resolved service took to load.
+     *
+     * @return An unmodifiable snapshot of the load timings, keyed by service interface.
+     */
+    public static Map<Class<?>, LoadTiming> getLoadTimings() {
+        return Map.copyOf(TIMINGS);
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private static <T> T resolve(Class<T> clazz) {
+        ServiceLoadEvent event = new ServiceLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        T instance;
+        int candidates;
+        Supplier<?> factory = INDEX != null ? INDEX.factory(clazz) : null;
+        if (factory != null) {
+            instance = clazz.cast(factory.get());
+            candidates = INDEX.candidates(clazz);
+        } else {
+            List<ServiceLoader.Provider<T>> providers = providers(clazz);
+            if (providers.isEmpty()) {
+                throw new NullPointerException("Failed to load service for " + clazz.getName());
+            }
+            instance = providers.get(0).get();
+            candidates = providers.size();
+        }
+
+        long nanos = System.nanoTime() - start;
+        TIMINGS.put(clazz, new LoadTiming(clazz, instance.getClass(), candidates, nanos, factory != null));
+        LOAD_TIME.record(nanos);
+
+        if (event.shouldCommit()) {
+            event.service = clazz;
+            event.provider = instance.getClass();
+            event.candidates = candidates;
+            event.indexed = factory != null;
+            event.commit();
+        }
+        return instance;
+    }
+
+    // The index only exists in platform builds; tests and the common module fall back to ServiceLoader.
+    private static ServiceIndex loadIndex() {
+        try {
+            Class<?> type = Class.forName(ServiceIndex.GENERATED_CLASS, true, Services.class.getClassLoader());
+            return (ServiceIndex) type.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            LogManager.getLogger(Services.class).warn("Ignoring unusable service index {}", ServiceIndex.GENERATED_CLASS, e);
+            return null;
+        }
+    }
+
+    private static int priorityOf(Class<?> type) {
+        ServicePriority priority = type.getAnnotation(ServicePriority.class);
+        return priority != null ? priority.value() : 0;
+    }
+
+    /**
+     * Records how a service interface was resolved.
+     *
+     * @param service    The service interface.
+     * @param provider   The implementation class that was selected.
+     * @param candidates The number of providers that were found.
+     * @param nanos      The time spent discovering and instantiating the provider, in nanoseconds.
+     * @param indexed    Whether the provider came from the build-time {@link ServiceIndex} rather than a
+     *                   {@link ServiceLoader} scan.
+     */
+    public record LoadTiming(Class<?> service, Class<?> provider, int candidates, long nanos, boolean indexed) {
+        /**
+         * Returns the load time as a {@link Duration}.
+         *
+         * @return The load duration.
+         */
+        public Duration duration() {
+            return Duration.ofNanos(this.nanos);
+        }
     }
 }
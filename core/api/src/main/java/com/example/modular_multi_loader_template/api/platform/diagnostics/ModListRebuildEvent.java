@@ -0,0 +1,31 @@
+package com.example.modular_multi_loader_template.api.platform.diagnostics;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder event for a rebuild of the cached mod list in
+ * {@link com.example.modular_multi_loader_template.api.platform.mods.ModRegistry}.
+ *
+ * <p>Disabled by default, like the other events of this project.</p>
+ */
+@Name(ModListRebuildEvent.NAME)
+@Label("Mod List Rebuild")
+@Category({"Modular Multi Loader Template", "Platform"})
+@Description("Rebuild of the mod list snapshot and its lookup indexes")
+@Enabled(false)
+@StackTrace(false)
+public final class ModListRebuildEvent extends Event {
+    /** The JFR event name. */
+    public static final String NAME = "com.example.modular_multi_loader_template.ModListRebuild";
+
+    @Label("Mod Count")
+    public int modCount;
+
+    @Label("Refresh")
+    @Description("Whether the rebuild was an explicit refresh rather than a lazy rebuild after invalidation")
+    public boolean refresh;
+
+    @Label("Generation")
+    @Description("Registry generation after the rebuild")
+    public long generation;
+}
@@ -0,0 +1,53 @@
+package com.example.modular_multi_loader_template.api.platform.diagnostics;
+
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Log message that renders a {@link PlatformInfo} directly into the layout's buffer.
+ *
+ * <p>Logging {@code info.toString()} builds the whole text up front, even when the level is disabled.
+ * This message defers rendering until an appender actually needs it and then appends into the builder
+ * it is given, so no intermediate string is created:</p>
+ * <pre>{@code
+ * Constants.LOG.info(new PlatformInfoMessage(Services.PLATFORM.getInfo()));
+ * }</pre>
+ */
+public final class PlatformInfoMessage implements Message, StringBuilderFormattable {
+    private final PlatformInfo info;
+
+    /**
+     * Creates a message for the given platform information.
+     *
+     * @param info The platform information to render.
+     */
+    public PlatformInfoMessage(PlatformInfo info) {
+        this.info = info;
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        PlatformInfoWriter.appendTo(this.info, buffer);
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        return PlatformInfoWriter.render(this.info);
+    }
+
+    @Override
+    public String getFormat() {
+        return "PlatformInfo";
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[]{this.info};
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.modular_multi_loader_template.api.platform.diagnostics;
+
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Renders and serializes {@link PlatformInfo} for diagnostics.
+ *
+ * <p>The running mod list is fetched once per call and written straight to the target {@link Appendable}
+ * or {@link Writer}, mod by mod, instead of being concatenated into one large string first.
+ * {@link #render(PlatformInfo)} additionally caches its result until the mod registry changes.</p>
+ *
+ * <p>Snapshots can be written to a directory (typically the logs directory) as JSON or as a compact
+ * binary file for later comparison:</p>
+ * <pre>{@code
+ * PlatformInfoWriter.writeSnapshot(info, info.gameDirectory().resolve("logs"), PlatformInfoWriter.Format.JSON);
+ * }</pre>
+ */
+public final class PlatformInfoWriter {
+    /** Magic number at the start of binary snapshots ({@code "MMLP"}). */
+    public static final int BINARY_MAGIC = 0x4D4D4C50;
+
+    /** Current binary snapshot format version. */
+    public static final int BINARY_VERSION = 1;
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private static volatile CachedRender cached;
+
+    /**
+     * Supported snapshot file formats.
+     */
+    public enum Format {
+        JSON(".json"), BINARY(".bin");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    private PlatformInfoWriter() {
+    }
+
+    /**
+     * Returns the text representation of the platform information.
+     * <p>
+     * The result is cached and reused while the same info instance is rendered and its mod registry
+     * generation has not changed.
+     *
+     * @param info The platform information.
+     * @return The rendered text.
+     */
+    public static String render(PlatformInfo info) {
+        long generation = info.modRegistry().generation();
+        CachedRender current = cached;
+        if (current != null && current.info == info && current.generation == generation) {
+            return current.text;
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        appendTo(info, buffer);
+        String text = buffer.toString();
+        if (buffer.capacity() > 1 << 20) {
+            BUFFER.remove(); // Do not pin very large buffers to the thread.
+        }
+
+        cached = new CachedRender(info, generation, text);
+        return text;
+    }
+
+    /**
+     * Appends the text representation of the platform information to the given builder.
+     *
+     * @param info    The platform information.
+     * @param builder The builder to append to.
+     * @return The same builder.
+     */
+    public static StringBuilder appendTo(PlatformInfo info, StringBuilder builder) {
+        try {
+            return appendTo(info, builder, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // A StringBuilder never throws.
+        }
+    }
+
+    /**
+     * Streams the text representation of the platform information to the given writer.
+     *
+     * @param info   The platform information.
+     * @param writer The target writer.
+     * @throws IOException if writing fails.
+     */
+    public static void write(PlatformInfo info, Writer writer) throws IOException {
+        // Rendering mod by mod keeps the intermediate buffer small regardless of pack size.
+        appendTo(info, writer, new StringBuilder(256));
+    }
+
+    // Each mod is rendered into modBuffer first; when out is that builder, mods are appended in place.
+    private static <A extends Appendable> A appendTo(PlatformInfo info, A out, StringBuilder modBuffer) throws IOException {
+        List<ModInfo> mods = info.getRunningMods();
+        out.append("PlatformInfo {\n")
+                .append("    type='").append(String.valueOf(info.type())).append("',\n")
+                .append("    version='").append(info.version()).append("',\n")
+                .append("    gameVersion='").append(info.gameVersion()).append("',\n")
+                .append("    gameDirectory='").append(String.valueOf(info.gameDirectory())).append("',\n")
+                .append("    isDevelopment=").append(String.valueOf(info.isDevelopment())).append(",\n")
+                .append("    environment='").append(String.valueOf(info.environment())).append("',\n")
+                .append("    runningMods=");
+        if (mods.isEmpty()) {
+            out.append("No Mods Loaded");
+        } else {
+            out.append('[');
+            for (int i = 0; i < mods.size(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                if (out == modBuffer) {
+                    mods.get(i).appendTo(modBuffer);
+                } else {
+                    modBuffer.setLength(0);
+                    out.append(mods.get(i).appendTo(modBuffer));
+                }
+            }
+            out.append(']');
+        }
+        out.append(",\n")
+                .append("    operatingSystem='").append(String.valueOf(info.operatingSystem())).append("'\n")
+                .append('}');
+        return out;
+    }
+
+    /**
+     * Streams the platform information as compact JSON to the given writer.
+     *
+     * @param info   The platform information.
+     * @param writer The target writer.
+     * @throws IOException if writing fails.
+     */
+    public static void writeJson(PlatformInfo info, Writer writer) throws IOException {
+        writer.write("{\"type\":");
+        writeJsonString(writer, info.type().name());
+        writer.write(",\"version\":");
+        writeJsonString(writer, info.version());
+        writer.write(",\"gameVersion\":");
+        writeJsonString(writer, info.gameVersion());
+        writer.write(",\"gameDirectory\":");
+        writeJsonString(writer, info.gameDirectory().toString());
+        writer.write(",\"isDevelopment\":");
+        writer.write(Boolean.toString(info.isDevelopment()));
+        writer.write(",\"environment\":");
+        writeJsonString(writer, info.environment().name());
+        writer.write(",\"operatingSystem\":");
+        writeJsonString(writer, info.operatingSystem().name());
+        writer.write(",\"runningMods\":[");
+
+        List<ModInfo> mods = info.getRunningMods();
+        for (int i = 0; i < mods.size(); i++) {
+            ModInfo mod = mods.get(i);
+            writer.write(i == 0 ? "\n{\"id\":" : ",\n{\"id\":");
+            writeJsonString(writer, mod.id());
+            writer.write(",\"name\":");
+            writeJsonString(writer, mod.name());
+            writer.write(",\"type\":");
+            writeJsonString(writer, mod.type().name());
+            writer.write(",\"version\":");
+            writeJsonString(writer, mod.version());
+            writer.write(",\"description\":");
+            writeJsonString(writer, mod.description());
+            writer.write(",\"environment\":");
+            writeJsonString(writer, mod.environment().name());
+            writer.write(",\"authors\":");
+            writeJsonArray(writer, mod.authors());
+            writer.write(",\"contributors\":");
+            writeJsonArray(writer, mod.contributors());
+            writer.write(",\"license\":");
+            writeJsonArray(writer, mod.license());
+            writer.write('}');
+        }
+        writer.write("\n]}\n");
+    }
+
+    /**
+     * Writes the platform information in the compact binary snapshot format.
+     * <p>
+     * Layout: magic, version, platform fields, then the mod count followed by each mod's fields.
+     * Strings are written as their UTF-8 byte count ({@code int}) followed by the bytes, so unlike
+     * {@link DataOutput#writeUTF(String)} they are not limited to 65535 bytes; collections are prefixed with
+     * their size as an {@code int}.
+     *
+     * @param info The platform information.
+     * @param out  The target stream.
+     * @throws IOException if writing fails.
+     */
+    public static void writeBinary(PlatformInfo info, DataOutput out) throws IOException {
+        out.writeInt(BINARY_MAGIC);
+        out.writeShort(BINARY_VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeByte(info.type().ordinal());
+        writeBinaryString(out, info.version());
+        writeBinaryString(out, info.gameVersion());
+        writeBinaryString(out, info.gameDirectory().toString());
+        out.writeBoolean(info.isDevelopment());
+        out.writeByte(info.environment().ordinal());
+        out.writeByte(info.operatingSystem().ordinal());
+
+        List<ModInfo> mods = info.getRunningMods();
+        out.writeInt(mods.size());
+        for (ModInfo mod : mods) {
+            writeBinaryString(out, mod.id());
+            writeBinaryString(out, mod.name());
+            out.writeByte(mod.type().ordinal());
+            writeBinaryString(out, mod.version());
+            writeBinaryString(out, mod.description() != null ? mod.description() : "");
+            out.writeByte(mod.environment().ordinal());
+            writeBinaryCollection(out, mod.authors());
+            writeBinaryCollection(out, mod.contributors());
+            writeBinaryCollection(out, mod.license());
+        }
+    }
+
+    /**
+     * Writes a timestamped snapshot file ({@code platform-<timestamp>.json|.bin}) into the given directory.
+     *
+     * @param info      The platform information.
+     * @param directory The target directory; created if missing.
+     * @param format    The snapshot format.
+     * @return The path of the written file.
+     * @throws IOException if writing fails.
+     */
+    public static Path writeSnapshot(PlatformInfo info, Path directory, Format format) throws IOException {
+        PlatformSnapshotEvent event = new PlatformSnapshotEvent();
+        event.begin();
+        Files.createDirectories(directory);
+        Path file = directory.resolve("platform-" + LocalDateTime.now().format(FILE_TIMESTAMP) + format.extension);
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            if (format == Format.JSON) {
+                Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+                writeJson(info, writer);
+                writer.flush();
+            } else {
+                writeBinary(info, new DataOutputStream(stream));
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.file = file.toString();
+            event.format = format.name();
+            event.modCount = info.modRegistry().size();
+            event.bytes = Files.size(file);
+            event.commit();
+        }
+        return file;
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private static void writeJsonArray(Writer writer, Collection<String> values) throws IOException {
+        writer.write('[');
+        boolean first = true;
+        for (String value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            writeJsonString(writer, value);
+            first = false;
+        }
+        writer.write(']');
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private static void writeBinaryCollection(DataOutput out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeBinaryString(out, value != null ? value : "");
+        }
+    }
+
+    private static void writeBinaryString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private record CachedRender(PlatformInfo info, long generation, String text) {
+    }
+}
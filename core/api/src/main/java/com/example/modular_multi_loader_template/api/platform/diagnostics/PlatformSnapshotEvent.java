@@ -0,0 +1,32 @@
+package com.example.modular_multi_loader_template.api.platform.diagnostics;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder event for writing a platform snapshot with {@link PlatformInfoWriter}.
+ *
+ * <p>Disabled by default, like the other events of this project.</p>
+ */
+@Name(PlatformSnapshotEvent.NAME)
+@Label("Platform Snapshot")
+@Category({"Modular Multi Loader Template", "Platform"})
+@Description("A platform information snapshot written to disk")
+@Enabled(false)
+@StackTrace(false)
+public final class PlatformSnapshotEvent extends Event {
+    /** The JFR event name. */
+    public static final String NAME = "com.example.modular_multi_loader_template.PlatformSnapshot";
+
+    @Label("File")
+    public String file;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Mod Count")
+    public int modCount;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
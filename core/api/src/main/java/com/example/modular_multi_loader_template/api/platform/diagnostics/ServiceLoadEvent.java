@@ -0,0 +1,35 @@
+package com.example.modular_multi_loader_template.api.platform.diagnostics;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder event for the resolution of a platform service by
+ * {@link com.example.modular_multi_loader_template.api.platform.Services}.
+ *
+ * <p>Disabled by default; enable it in a recording settings file or with
+ * {@code jcmd <pid> JFR.start settings=<file>}. When it is not enabled, emitting it costs a few instructions.</p>
+ */
+@Name(ServiceLoadEvent.NAME)
+@Label("Service Load")
+@Category({"Modular Multi Loader Template", "Platform"})
+@Description("Discovery and instantiation of a platform service provider")
+@Enabled(false)
+@StackTrace(false)
+public final class ServiceLoadEvent extends Event {
+    /** The JFR event name. */
+    public static final String NAME = "com.example.modular_multi_loader_template.ServiceLoad";
+
+    @Label("Service")
+    public Class<?> service;
+
+    @Label("Provider")
+    public Class<?> provider;
+
+    @Label("Candidates")
+    @Description("Number of providers found for the service")
+    public int candidates;
+
+    @Label("Indexed")
+    @Description("Whether the provider came from the build-time service index instead of a ServiceLoader scan")
+    public boolean indexed;
+}
@@ -0,0 +1,32 @@
+package com.example.modular_multi_loader_template.api.platform.mods;
+
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+
+import java.util.List;
+
+/**
+ * Describes how the running mod list changed between two {@link ModRegistry} snapshots.
+ *
+ * @param added   Mods present only in the new snapshot.
+ * @param removed Mods present only in the old snapshot.
+ * @param changed Mods whose ID is present in both snapshots but whose details differ (new values).
+ */
+public record ModDiff(List<ModInfo> added, List<ModInfo> removed, List<ModInfo> changed) {
+    /** A diff without any changes. */
+    public static final ModDiff EMPTY = new ModDiff(List.of(), List.of(), List.of());
+
+    public ModDiff {
+        added = List.copyOf(added);
+        removed = List.copyOf(removed);
+        changed = List.copyOf(changed);
+    }
+
+    /**
+     * Checks whether the diff contains no changes.
+     *
+     * @return true if nothing was added, removed or changed.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.modular_multi_loader_template.api.platform.mods;
+
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Converts raw loader metadata into {@link ModInfo} instances, one mod at a time.
+ *
+ * <p>Every collection handed to {@link ModInfo} is a small, immutable list owned by that mod alone.
+ * Loader properties such as {@code authors = "A, B, C"} are split into real lists instead of being
+ * stored as a single string.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ModInfo info = ModMetadataParser.fromProperties(
+ *         container.getModId(), container.getDisplayName(), Platform.Neoforge,
+ *         container.getVersion().toString(), container.getDescription(), Environment.Both,
+ *         container.getModProperties(), container.getOwningFile().getLicense());
+ * }</pre>
+ */
+public final class ModMetadataParser {
+    /** Property key holding the mod authors in {@code mods.toml}-style metadata. */
+    public static final String AUTHORS_PROPERTY = "authors";
+
+    /** Property key holding the mod credits in {@code mods.toml}-style metadata. */
+    public static final String CREDITS_PROPERTY = "credits";
+
+    private ModMetadataParser() {
+    }
+
+    /**
+     * Creates a {@link ModInfo} from {@code mods.toml}-style properties.
+     *
+     * @param id          The mod ID.
+     * @param name        The display name.
+     * @param type        The platform type.
+     * @param version     The mod version.
+     * @param description The description, may be {@code null}.
+     * @param environment The execution environment.
+     * @param properties  The mod properties containing {@value #AUTHORS_PROPERTY} and {@value #CREDITS_PROPERTY}.
+     * @param license     The license string, may be {@code null}.
+     * @return A new ModInfo with per-mod, immutable collections.
+     */
+    public static ModInfo fromProperties(String id, String name, Platform type, String version, String description,
+                                         Environment environment, Map<String, Object> properties, String license) {
+        return fromProperties(id, name, type, version, description, environment, properties, license, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a {@link ModInfo} from {@code mods.toml}-style properties, passing every name and license
+     * through the given interner so repeated values share one instance.
+     *
+     * @param interner Function returning a canonical instance for a string.
+     * @see #fromProperties(String, String, Platform, String, String, Environment, Map, String)
+     */
+    public static ModInfo fromProperties(String id, String name, Platform type, String version, String description,
+                                         Environment environment, Map<String, Object> properties, String license,
+                                         UnaryOperator<String> interner) {
+        return new ModInfo(
+                id,
+                name,
+                type,
+                version,
+                description != null ? description : "",
+                environment,
+                splitNames(properties.get(AUTHORS_PROPERTY), interner),
+                splitNames(properties.get(CREDITS_PROPERTY), interner),
+                single(license, interner)
+        );
+    }
+
+    /**
+     * Splits a raw name property into a list of trimmed names.
+     * <p>
+     * Strings are split on commas only, so names such as {@code "Black and Decker"} stay whole; collections are
+     * flattened element by element.
+     *
+     * @param raw The raw property value, may be {@code null}.
+     * @return An immutable list of names (possibly empty).
+     */
+    public static List<String> splitNames(Object raw) {
+        return splitNames(raw, UnaryOperator.identity());
+    }
+
+    /**
+     * Splits a raw name property into a list of trimmed, interned names.
+     *
+     * @param raw      The raw property value, may be {@code null}.
+     * @param interner Function returning a canonical instance for a string.
+     * @return An immutable list of names (possibly empty).
+     * @see #splitNames(Object)
+     */
+    public static List<String> splitNames(Object raw, UnaryOperator<String> interner) {
+        if (raw == null) {
+            return List.of();
+        }
+        if (raw instanceof Collection<?> collection) {
+            List<String> names = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                names.addAll(splitNames(element, interner));
+            }
+            return List.copyOf(names);
+        }
+
+        String value = raw.toString();
+        if (value.isBlank()) {
+            return List.of();
+        }
+        if (value.indexOf(',') < 0) {
+            return List.of(interner.apply(value.trim()));
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                names.add(interner.apply(trimmed));
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * Wraps a single optional value in an immutable list.
+     *
+     * @param value The value, may be {@code null} or blank.
+     * @return An empty list, or a list containing the trimmed value.
+     */
+    public static List<String> single(String value) {
+        return single(value, UnaryOperator.identity());
+    }
+
+    /**
+     * Wraps a single optional value in an immutable list after interning it.
+     *
+     * @param value    The value, may be {@code null} or blank.
+     * @param interner Function returning a canonical instance for a string.
+     * @return An empty list, or a list containing the trimmed, interned value.
+     */
+    public static List<String> single(String value, UnaryOperator<String> interner) {
+        return value == null || value.isBlank() ? List.of() : List.of(interner.apply(value.trim()));
+    }
+
+    /**
+     * Copies names into an immutable list, dropping {@code null} and blank entries.
+     *
+     * @param names The names to copy.
+     * @return An immutable list of names (possibly empty).
+     */
+    public static List<String> copyNames(Collection<String> names) {
+        return copyNames(names, UnaryOperator.identity());
+    }
+
+    /**
+     * Copies names into an immutable list after interning them, dropping {@code null} and blank entries.
+     *
+     * @param names    The names to copy.
+     * @param interner Function returning a canonical instance for a string.
+     * @return An immutable list of names (possibly empty).
+     */
+    public static List<String> copyNames(Collection<String> names, UnaryOperator<String> interner) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+        List<String> copy = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                copy.add(interner.apply(name));
+            }
+        }
+        return List.copyOf(copy);
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.modular_multi_loader_template.api.platform.mods;
+
+import com.example.modular_multi_loader_template.api.platform.diagnostics.ModListRebuildEvent;
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Caches the running mod list reported by a platform and indexes it for fast lookups.
+ *
+ * <p>The underlying supplier is only invoked when the registry is first accessed, after an explicit
+ * {@link #invalidate()}, or when {@link #refresh()} is called. Each snapshot keeps a case-folded hash index
+ * by mod ID, so {@link #find(String)} is a constant-time lookup that returns a pre-built {@link Optional}
+ * instead of allocating a new one. Snapshots are also grouped by {@link Platform} and {@link Environment}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ModRegistry registry = new ModRegistry(this::fetchRunningMods);
+ * Optional<ModInfo> jei = registry.find("JEI");
+ *
+ * // After the loader reports a change (e.g. a resource reload):
+ * ModDiff diff = registry.refresh();
+ * }</pre>
+ *
+ * <p>{@link #generation()} provides a cheap way to detect changes: it only moves when the contents may
+ * have changed, so callers can compare it against a previously observed value.</p>
+ */
+public final class ModRegistry {
+    private static final String REBUILD_METRIC = "mod_registry_rebuild_seconds";
+    private static final String REBUILD_HELP = "Time spent fetching and indexing the running mod list.";
+    private static final Histogram LAZY_REBUILD_TIME = MetricRegistry.global().timer(REBUILD_METRIC, REBUILD_HELP, "trigger", "lazy");
+    private static final Histogram REFRESH_TIME = MetricRegistry.global().timer(REBUILD_METRIC, REBUILD_HELP, "trigger", "refresh");
+
+    private final Supplier<List<ModInfo>> source;
+    private final Object lock = new Object();
+
+    private volatile Snapshot snapshot;
+    private volatile long generation;
+    private Snapshot baseline; // The last snapshot built, kept across invalidate() for refresh diffs; guarded by lock
+
+    /**
+     * Creates a registry backed by the given mod list supplier.
+     *
+     * @param source Supplier used to (re)build the mod list.
+     */
+    public ModRegistry(Supplier<List<ModInfo>> source) {
+        this.source = Objects.requireNonNull(source, "Mod list source cannot be null");
+    }
+
+    /**
+     * Returns the cached running mods, building the snapshot if needed.
+     *
+     * @return An unmodifiable list of running mods.
+     */
+    public List<ModInfo> getMods() {
+        return this.snapshot().mods;
+    }
+
+    /**
+     * Finds a mod by its ID, ignoring case.
+     *
+     * @param modId The mod ID to search for.
+     * @return An Optional containing the ModInfo if found, otherwise empty.
+     */
+    public Optional<ModInfo> find(String modId) {
+        if (modId == null) {
+            return Optional.empty();
+        }
+        return this.snapshot().byId.getOrDefault(foldCase(modId), Optional.empty());
+    }
+
+    /**
+     * Checks whether a mod with the given ID is running.
+     *
+     * @param modId The mod ID to check.
+     * @return true if the mod is present, false otherwise.
+     */
+    public boolean isLoaded(String modId) {
+        return this.find(modId).isPresent();
+    }
+
+    /**
+     * Returns all running mods of the given platform type.
+     *
+     * @param platform The platform type.
+     * @return An unmodifiable list of matching mods (possibly empty).
+     */
+    public List<ModInfo> getMods(Platform platform) {
+        return this.snapshot().byPlatform.getOrDefault(platform, List.of());
+    }
+
+    /**
+     * Returns all running mods declared for the given environment.
+     *
+     * @param environment The execution environment.
+     * @return An unmodifiable list of matching mods (possibly empty).
+     */
+    public List<ModInfo> getMods(Environment environment) {
+        return this.snapshot().byEnvironment.getOrDefault(environment, List.of());
+    }
+
+    /**
+     * Returns the number of running mods.
+     *
+     * @return The mod count.
+     */
+    public int size() {
+        return this.snapshot().mods.size();
+    }
+
+    /**
+     * Discards the cached snapshot. The next access rebuilds it from the source.
+     * <p>
+     * The discarded snapshot is still the baseline of the next {@link #refresh()}, so a refresh after an
+     * invalidation only reports what actually changed.
+     */
+    public void invalidate() {
+        synchronized (this.lock) {
+            this.snapshot = null;
+            this.generation++;
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot immediately and compares it with the previous one.
+     * <p>
+     * Unlike {@link #invalidate()}, the {@link #generation()} only changes if the mod list actually differs.
+     * The previous snapshot is the last one built, even if it has been invalidated since; only the very first
+     * snapshot of a registry reports every mod as added.
+     *
+     * @return The differences between the previous and the new snapshot.
+     */
+    public ModDiff refresh() {
+        synchronized (this.lock) {
+            Snapshot previous = this.baseline;
+            ModListRebuildEvent event = new ModListRebuildEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Snapshot current = Snapshot.of(this.source.get());
+            this.snapshot = current;
+            this.baseline = current;
+            REFRESH_TIME.recordSince(start);
+
+            ModDiff diff = previous == null ? new ModDiff(current.mods, List.of(), List.of()) : previous.diff(current);
+            if (!diff.isEmpty()) {
+                this.generation++;
+            }
+            commit(event, current, true, this.generation);
+            return diff;
+        }
+    }
+
+    /**
+     * Returns a counter that is incremented whenever the contents may have changed: on every
+     * {@link #invalidate()}, and on {@link #refresh()} when the mod list differs.
+     *
+     * @return The current generation.
+     */
+    public long generation() {
+        return this.generation;
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private Snapshot snapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this.lock) {
+                current = this.snapshot;
+                if (current == null) {
+                    ModListRebuildEvent event = new ModListRebuildEvent();
+                    event.begin();
+                    long start = System.nanoTime();
+                    current = Snapshot.of(this.source.get());
+                    this.snapshot = current;
+                    this.baseline = current;
+                    LAZY_REBUILD_TIME.recordSince(start);
+                    commit(event, current, false, this.generation);
+                }
+            }
+        }
+        return current;
+    }
+
+    private static void commit(ModListRebuildEvent event, Snapshot snapshot, boolean refresh, long generation) {
+        if (event.shouldCommit()) {
+            event.modCount = snapshot.mods.size();
+            event.refresh = refresh;
+            event.generation = generation;
+            event.commit();
+        }
+    }
+
+    // Mod IDs are lowercase by convention, so toLowerCase usually returns the same instance.
+    private static String foldCase(String modId) {
+        return modId.toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(
+            List<ModInfo> mods,
+            Map<String, Optional<ModInfo>> byId,
+            Map<Platform, List<ModInfo>> byPlatform,
+            Map<Environment, List<ModInfo>> byEnvironment
+    ) {
+        static Snapshot of(List<ModInfo> source) {
+            List<ModInfo> mods = source == null ? List.of() : List.copyOf(source);
+            Map<String, Optional<ModInfo>> byId = new HashMap<>(Math.max(16, (int) (mods.size() / 0.75f) + 1));
+            Map<Platform, List<ModInfo>> byPlatform = new EnumMap<>(Platform.class);
+            Map<Environment, List<ModInfo>> byEnvironment = new EnumMap<>(Environment.class);
+
+            for (ModInfo mod : mods) {
+                // Keep the first occurrence, matching the previous linear-scan behaviour.
+                byId.putIfAbsent(foldCase(mod.id()), Optional.of(mod));
+                byPlatform.computeIfAbsent(mod.type(), key -> new ArrayList<>()).add(mod);
+                byEnvironment.computeIfAbsent(mod.environment(), key -> new ArrayList<>()).add(mod);
+            }
+
+            byPlatform.replaceAll((key, list) -> List.copyOf(list));
+            byEnvironment.replaceAll((key, list) -> List.copyOf(list));
+            return new Snapshot(mods, byId, byPlatform, byEnvironment);
+        }
+
+        ModDiff diff(Snapshot next) {
+            if (this.mods.equals(next.mods)) {
+                return ModDiff.EMPTY;
+            }
+
+            List<ModInfo> added = new ArrayList<>();
+            List<ModInfo> changed = new ArrayList<>();
+            next.byId.forEach((id, mod) -> {
+                Optional<ModInfo> old = this.byId.get(id);
+                if (old == null) {
+                    added.add(mod.get());
+                } else if (!old.get().equals(mod.get())) {
+                    changed.add(mod.get());
+                }
+            });
+
+            List<ModInfo> removed = new ArrayList<>();
+            this.byId.forEach((id, mod) -> {
+                if (!next.byId.containsKey(id)) {
+                    removed.add(mod.get());
+                }
+            });
+            return new ModDiff(added, removed, changed);
+        }
+    }
+}
@@ -1,4 +1,13 @@
 package com.example.modular_multi_loader_template.api.platform.services;
 
 public interface IClientHelper {
+    /**
+     * Registers a listener that runs at the end of every client tick, on the client (render) thread.
+     * <p>
+     * Only call this on the physical client. Listeners must be registered during mod initialization and cannot
+     * be removed.
+     *
+     * @param listener The listener to run once per tick.
+     */
+    void registerTickListener(Runnable listener);
 }
@@ -1,9 +1,30 @@
 package com.example.modular_multi_loader_template.api.platform.services;
 
 
+import com.example.modular_multi_loader_template.api.platform.mods.ModDiff;
 import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
 
 public interface IPlatformHelper {
+    /**
+     * Returns the platform information. Implementations cache it, so repeated calls are cheap.
+     */
     PlatformInfo getInfo();
 
-}
\ No newline at end of file
+    /**
+     * Discards the cached mod list so it is rebuilt on next access.
+     * <p>
+     * Call this when the loader reports a change to the running mods (e.g. after a resource reload).
+     */
+    default void invalidateMods() {
+        getInfo().modRegistry().invalidate();
+    }
+
+    /**
+     * Rebuilds the cached mod list immediately and reports what changed.
+     *
+     * @return The differences since the previous mod list.
+     */
+    default ModDiff refreshMods() {
+        return getInfo().modRegistry().refresh();
+    }
+}
@@ -1,4 +1,60 @@
 package com.example.modular_multi_loader_template.api.platform.services;
 
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
 public interface IServerHelper {
+    /**
+     * Registers a listener that runs at the end of every server tick, on the server thread.
+     * <p>
+     * Applies to both the dedicated and the integrated server. Listeners must be registered during mod
+     * initialization and cannot be removed.
+     *
+     * @param listener The listener to run once per tick.
+     */
+    void registerTickListener(Runnable listener);
+
+    /**
+     * Registers a listener that runs when a server is starting, before its worlds are loaded, on the server thread.
+     * <p>
+     * Applies to both the dedicated and the integrated server, so on the client it runs every time a world is
+     * opened. Listeners must be registered during mod initialization and cannot be removed.
+     *
+     * @param listener The listener to run once per server start.
+     */
+    void registerServerStartingListener(Runnable listener);
+
+    /**
+     * Registers a listener that runs when a server has loaded a save, on the server thread.
+     * <p>
+     * Runs once per save, when its overworld is loaded, not once per dimension. The listener gets the world
+     * directory the server actually uses: a folder in {@code saves} on the integrated server, {@code world} (or the
+     * configured level name) on a dedicated server. Listeners must be registered during mod initialization and
+     * cannot be removed.
+     *
+     * @param listener The listener, called with the absolute world directory of the save.
+     */
+    void registerWorldLoadListener(Consumer<Path> listener);
+
+    /**
+     * Registers a listener that runs when a server saves a save, on the server thread.
+     * <p>
+     * Runs on autosave, on {@code /save-all} and when the server stops, once per save and not once per dimension.
+     * Listeners must be registered during mod initialization and cannot be removed.
+     *
+     * @param listener The listener, called with the absolute world directory of the save, as for
+     *                 {@link #registerWorldLoadListener(Consumer)}.
+     */
+    void registerWorldSaveListener(Consumer<Path> listener);
+
+    /**
+     * Registers a listener that runs when a server unloads a save, on the server thread.
+     * <p>
+     * Runs once per save, when its overworld is unloaded, not once per dimension. Listeners must be registered
+     * during mod initialization and cannot be removed.
+     *
+     * @param listener The listener, called with the absolute world directory of the save, as for
+     *                 {@link #registerWorldLoadListener(Consumer)}.
+     */
+    void registerWorldUnloadListener(Consumer<Path> listener);
 }
@@ -58,7 +58,39 @@ public record ModInfo(
      */
     @Override
     public String toString() {
-        return String.format("ModInfo{id='%s', name='%s', type='%s', version='%s', description='%s', environment='%s', authors=%s, contributors=%s, license=%s}",
-                id, name, type, version, description, environment, authors, contributors, license);
+        return appendTo(new StringBuilder(128)).toString();
+    }
+
+    /**
+     * Appends the same representation as {@link #toString()} to the given builder, without intermediate strings.
+     *
+     * @param builder The builder to append to.
+     * @return The same builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append("ModInfo{id='").append(id)
+                .append("', name='").append(name)
+                .append("', type='").append(type)
+                .append("', version='").append(version)
+                .append("', description='").append(description)
+                .append("', environment='").append(environment)
+                .append("', authors=");
+        appendCollection(builder, authors).append(", contributors=");
+        appendCollection(builder, contributors).append(", license=");
+        return appendCollection(builder, license).append('}');
+    }
+
+    // Helper: Renders a collection like AbstractCollection#toString.
+    private static StringBuilder appendCollection(StringBuilder builder, Collection<String> values) {
+        builder.append('[');
+        boolean first = true;
+        for (String value : values) {
+            if (!first) {
+                builder.append(", ");
+            }
+            builder.append(value);
+            first = false;
+        }
+        return builder.append(']');
     }
 }
@@ -1,5 +1,8 @@
 package com.example.modular_multi_loader_template.api.platform.types;
 
+import com.example.modular_multi_loader_template.api.platform.diagnostics.PlatformInfoWriter;
+import com.example.modular_multi_loader_template.api.platform.mods.ModRegistry;
+
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,7 +18,7 @@ import java.util.function.Supplier;
  * @param gameDirectory            The directory where the game is installed.
  * @param isDevelopment            Indicates whether the platform is running in a development environment (e.g., for testing/debugging).
  * @param environment              The execution environment (e.g., CLIENT, SERVER).
- * @param runningModsSupplier      Supplier for information about currently running mods.
+ * @param modRegistry              Cached, indexed registry of the currently running mods.
  * @param operatingSystem          The operating system the platform is running on.
  */
 public record PlatformInfo(
@@ -25,7 +28,7 @@ public record PlatformInfo(
         Path gameDirectory,
         boolean isDevelopment,
         Environment environment,
-        Supplier<List<ModInfo>> runningModsSupplier,  // Use Supplier for dynamic mod retrieval
+        ModRegistry modRegistry,  // Cached registry, rebuilt only when invalidated
         OperatingSystem operatingSystem
 ) {
     public PlatformInfo {
@@ -34,7 +37,7 @@ public record PlatformInfo(
         Objects.requireNonNull(gameVersion, "Game version cannot be null");
         Objects.requireNonNull(gameDirectory, "Game directory cannot be null");
         Objects.requireNonNull(environment, "Environment cannot be null");
-        Objects.requireNonNull(runningModsSupplier, "Running mods supplier cannot be null");
+        Objects.requireNonNull(modRegistry, "Mod registry cannot be null");
         Objects.requireNonNull(operatingSystem, "Operating system cannot be null");
 
         if (version.isBlank()) {
@@ -48,6 +51,18 @@ public record PlatformInfo(
         }
     }
 
+    /**
+     * Creates platform information backed by a new {@link ModRegistry} over the given supplier.
+     * <p>
+     * Prefer passing a long-lived {@link ModRegistry} so the mod list is not rebuilt per instance.
+     */
+    public PlatformInfo(Platform type, String version, String gameVersion, Path gameDirectory, boolean isDevelopment,
+                        Environment environment, Supplier<List<ModInfo>> runningModsSupplier, OperatingSystem operatingSystem) {
+        this(type, version, gameVersion, gameDirectory, isDevelopment, environment,
+                new ModRegistry(Objects.requireNonNull(runningModsSupplier, "Running mods supplier cannot be null")),
+                operatingSystem);
+    }
+
     /**
      * Gets the configuration directory inside the game directory.
      *
@@ -77,22 +92,20 @@ public record PlatformInfo(
     }
 
     /**
-     * Returns the dynamically fetched running mods.
+     * Returns the cached running mods.
      */
     public List<ModInfo> getRunningMods() {
-        return runningModsSupplier.get();  // Call the supplier to get an updated list
+        return modRegistry.getMods();  // Rebuilt by the registry only after invalidation
     }
 
     /**
-     * Finds a mod by its mod ID.
+     * Finds a mod by its mod ID, ignoring case.
      *
      * @param modId The mod ID to search for.
      * @return An Optional containing the ModInfo if found, otherwise empty.
      */
     public Optional<ModInfo> findModInfo(String modId) {
-        return this.getRunningMods().stream()
-                .filter(modInfo -> modInfo.id().equalsIgnoreCase(modId))
-                .findFirst();
+        return modRegistry.find(modId);
     }
 
     /**
@@ -124,23 +137,14 @@ public record PlatformInfo(
 
     /**
      * Returns a formatted string representation of the platform information.
+     * <p>
+     * Rendering is delegated to {@link PlatformInfoWriter}, which reads the mod list once and caches
+     * the text until the mod registry changes.
      *
      * @return A formatted string containing platform details.
      */
     @Override
     public String toString() {
-        return String.format("""
-                PlatformInfo {
-                    type='%s',
-                    version='%s',
-                    gameVersion='%s',
-                    gameDirectory='%s',
-                    isDevelopment=%b,
-                    environment='%s',
-                    runningMods=%s,
-                    operatingSystem='%s'
-                }""",
-                type, version, gameVersion, gameDirectory, isDevelopment, environment,
-                getRunningMods().isEmpty() ? "No Mods Loaded" : getRunningMods(), operatingSystem);
+        return PlatformInfoWriter.render(this);
     }
 }
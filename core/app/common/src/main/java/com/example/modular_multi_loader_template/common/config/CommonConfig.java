@@ -0,0 +1,93 @@
+package com.example.modular_multi_loader_template.common.config;
+
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+import com.example.modular_multi_loader_template.common.shared.Constants;
+import com.example.modular_multi_loader_template.utils.functions.config.ConfigKey;
+import com.example.modular_multi_loader_template.utils.functions.config.ConfigSpec;
+import com.example.modular_multi_loader_template.utils.functions.config.ReloadableConfig;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricsExporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The common config file, {@code config/<project id>.toml}.
+ *
+ * <p>Keys are read with their typed {@code get()} methods from any thread. The file is watched and reloaded in the
+ * background, so edits take effect without a restart.</p>
+ */
+public final class CommonConfig {
+    /** File name inside the config directory. */
+    public static final String FILE_NAME = Constants.PROJECT_ID + ".toml";
+
+    private static final ConfigSpec SPEC = new ConfigSpec();
+
+    /** Platform snapshot written on startup; overridden by the {@code platformSnapshot} system property. */
+    public static final ConfigKey.EnumKey<SnapshotMode> PLATFORM_SNAPSHOT =
+            SPEC.defineEnum("diagnostics.platformSnapshot", SnapshotMode.NONE);
+
+    /** Whether the time taken to resolve each platform service is logged on startup. */
+    public static final ConfigKey.BooleanKey LOG_SERVICE_TIMINGS =
+            SPEC.defineBoolean("diagnostics.logServiceTimings", true);
+
+    /** Time the main thread schedulers may spend on queued tasks per tick, in nanoseconds. */
+    public static final ConfigKey.LongKey SCHEDULER_TICK_BUDGET_NANOS =
+            SPEC.defineLong("scheduler.tickBudgetNanos", 5_000_000L, 100_000L, 50_000_000L);
+
+    /** Maximum number of concurrent asynchronous writes within one directory; read on first use. */
+    public static final ConfigKey.IntKey IO_MAX_WRITES_PER_DIRECTORY =
+            SPEC.defineInt("io.maxWritesPerDirectory", 2, 1, 64);
+
+    /** Whether metrics are periodically written to {@code logs/<project name>}; read on startup. */
+    public static final ConfigKey.BooleanKey METRICS_ENABLED =
+            SPEC.defineBoolean("metrics.enabled", true);
+
+    /** File format of the exported metrics; read on startup. */
+    public static final ConfigKey.EnumKey<MetricsExporter.Format> METRICS_FORMAT =
+            SPEC.defineEnum("metrics.format", MetricsExporter.Format.PROMETHEUS);
+
+    /** Seconds between metric exports; read on startup. */
+    public static final ConfigKey.IntKey METRICS_INTERVAL_SECONDS =
+            SPEC.defineInt("metrics.intervalSeconds", 15, 1, 3600);
+
+    private static volatile ReloadableConfig config;
+
+    private CommonConfig() {
+    }
+
+    /**
+     * Loads the config from the platform's config directory and starts watching it. Safe to call more than once.
+     *
+     * @param info The platform information.
+     */
+    public static synchronized void load(PlatformInfo info) {
+        if (config != null) {
+            return;
+        }
+
+        Path file = info.getConfigDirectory().resolve(FILE_NAME);
+        config = ReloadableConfig.open(file, SPEC)
+                .onReload(snapshot -> Constants.LOG.info("Reloaded {} (generation {})", FILE_NAME, snapshot.generation()));
+        try {
+            config.watch();
+        } catch (IOException e) {
+            Constants.LOG.warn("Cannot watch {} for changes; edits require a restart", file, e);
+        }
+    }
+
+    /**
+     * Returns the spec holding the current values.
+     *
+     * @return The spec.
+     */
+    public static ConfigSpec spec() {
+        return SPEC;
+    }
+
+    /**
+     * The platform snapshot formats selectable in the config.
+     */
+    public enum SnapshotMode {
+        NONE, JSON, BINARY
+    }
+}
@@ -1,13 +1,125 @@
 package com.example.modular_multi_loader_template.common.core;
 
 import com.example.modular_multi_loader_template.api.platform.Services;
+import com.example.modular_multi_loader_template.api.platform.diagnostics.PlatformInfoMessage;
+import com.example.modular_multi_loader_template.api.platform.diagnostics.PlatformInfoWriter;
+import com.example.modular_multi_loader_template.api.platform.services.IServerHelper;
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+import com.example.modular_multi_loader_template.common.config.CommonConfig;
+import com.example.modular_multi_loader_template.common.profiling.StartupProfiler;
+import com.example.modular_multi_loader_template.common.scheduling.MainThreadScheduler;
 import com.example.modular_multi_loader_template.common.shared.Constants;
+import com.example.modular_multi_loader_template.common.storage.WorldStores;
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.SessionTriggeringPolicy;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricsExporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 public class MainEntrypoint {
+    /**
+     * System property selecting a platform snapshot format ({@code json} or {@code binary}) to write on startup.
+     * Takes precedence over {@link CommonConfig#PLATFORM_SNAPSHOT}.
+     */
+    public static final String SNAPSHOT_PROPERTY = Constants.PROJECT_ID + ".platformSnapshot";
+
+    private static MetricsExporter metricsExporter;
+
     public static void initialize()    {
-        Constants.LOG.info("Common Loaded!");
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Logger")) {
+            Constants.LOG.info("Common Loaded!");
+        }
 
         // Add any necessary initialization code here.
-        Constants.LOG.info(Services.PLATFORM.getInfo().toString());
+        PlatformInfo info;
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Services")) {
+            info = Services.PLATFORM.getInfo();
+        }
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Config")) {
+            CommonConfig.load(info);
+        }
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Platform info")) {
+            Constants.LOG.info(new PlatformInfoMessage(info));
+            writeSnapshot(info);
+        }
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Scheduler")) {
+            MainThreadScheduler.install(info);
+        }
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Server hooks")) {
+            installServerHooks();
+        }
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("Metrics")) {
+            startMetrics(info);
+        }
+
+        // Report how long each platform service took to resolve.
+        if (CommonConfig.LOG_SERVICE_TIMINGS.get()) {
+            Services.getLoadTimings().values().forEach(timing ->
+                    Constants.LOG.debug("Loaded service {} -> {} ({} candidate(s), {}) in {} us",
+                            timing.service().getSimpleName(), timing.provider().getName(), timing.candidates(),
+                            timing.indexed() ? "indexed" : "ServiceLoader", timing.nanos() / 1_000));
+        }
+    }
+
+    /**
+     * Logs the startup profile and writes its trace to {@code logs/<project name>}, if
+     * {@linkplain StartupProfiler#PROPERTY profiling} is enabled. Called by the loader entry points once their own
+     * initialization phase has been closed.
+     */
+    public static void finishStartupProfile() {
+        if (StartupProfiler.isEnabled()) {
+            StartupProfiler.finish(Services.PLATFORM.getInfo().gameDirectory().resolve("logs").resolve(Constants.PROJECT_NAME));
+        }
+    }
+
+    // Log files with session rollover start over whenever a server starts (once, before its save is loaded), and
+    // per-world stores follow the saves they belong to
+    private static void installServerHooks() {
+        IServerHelper server = Services.load(IServerHelper.class);
+        server.registerServerStartingListener(SessionTriggeringPolicy::startNewSession);
+        server.registerWorldSaveListener(WorldStores::flush);
+        server.registerWorldUnloadListener(WorldStores::close);
+    }
+
+    // Writes logs/<project name>/metrics.prom (or .json) every few seconds, and once more on shutdown
+    private static synchronized void startMetrics(PlatformInfo info) {
+        if (metricsExporter != null || !CommonConfig.METRICS_ENABLED.get()) {
+            return;
+        }
+
+        MetricRegistry.global().gauge("mods_loaded", "Number of running mods.", () -> info.modRegistry().size());
+
+        MetricsExporter.Format format = CommonConfig.METRICS_FORMAT.get();
+        Path file = info.gameDirectory().resolve("logs").resolve(Constants.PROJECT_NAME)
+                .resolve("metrics" + format.getExtension());
+        metricsExporter = MetricsExporter.start(MetricRegistry.global(), file, format, Constants.PROJECT_ID + "_",
+                CommonConfig.METRICS_INTERVAL_SECONDS.get(), TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(metricsExporter::close, "Metrics-Exporter-Shutdown"));
+    }
+
+    // Opt-in, e.g. -Dmodular_multi_loader_template.platformSnapshot=json or in the config file
+    private static void writeSnapshot(PlatformInfo info) {
+        String format = System.getProperty(SNAPSHOT_PROPERTY);
+        if (format == null || format.isBlank()) {
+            CommonConfig.SnapshotMode mode = CommonConfig.PLATFORM_SNAPSHOT.get();
+            if (mode == CommonConfig.SnapshotMode.NONE) {
+                return;
+            }
+            format = mode.name();
+        }
+
+        try {
+            PlatformInfoWriter.Format snapshotFormat = PlatformInfoWriter.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+            var file = PlatformInfoWriter.writeSnapshot(info,
+                    info.gameDirectory().resolve("logs").resolve(Constants.PROJECT_NAME), snapshotFormat);
+            Constants.LOG.info("Wrote platform snapshot to {}", file);
+        } catch (IllegalArgumentException e) {
+            Constants.LOG.warn("Unknown platform snapshot format '{}', expected json or binary", format);
+        } catch (IOException e) {
+            Constants.LOG.error("Failed to write platform snapshot", e);
+        }
     }
-}
\ No newline at end of file
+}
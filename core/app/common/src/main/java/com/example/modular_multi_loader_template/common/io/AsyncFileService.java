@@ -0,0 +1,331 @@
+package com.example.modular_multi_loader_template.common.io;
+
+import com.example.modular_multi_loader_template.common.config.CommonConfig;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Counter;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * Runs blocking file I/O, e.g. under the config and save directories of {@code PlatformInfo}, on virtual threads
+ * instead of the calling thread.
+ *
+ * <p>Every operation returns a {@link CompletableFuture}; chain the follow-up work, or hand it back to the game
+ * thread with {@code thenAcceptAsync(..., MainThreadScheduler.server())}.</p>
+ *
+ * <p>Writes are coalesced per file: while a write to a file is waiting, further writes to it replace the waiting
+ * data and share its future, so only the latest content is written. Reads of a file with a waiting write return
+ * that data, as do reads while a write is in progress. Each write goes to a temporary file that is then moved over
+ * the target, so readers never see a partial file. At most {@link CommonConfig#IO_MAX_WRITES_PER_DIRECTORY} writes
+ * run in the same directory at once; a burst of saves queues up instead of thrashing the disk.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * AsyncFileService.global()
+ *         .writeString(info.getSaveDirectory(world).resolve("my_mod.json"), json)
+ *         .exceptionally(error -> { Constants.LOG.error("Failed to save", error); return null; });
+ * }</pre>
+ */
+public class AsyncFileService implements AutoCloseable {
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("AsyncFile-", 0).factory());
+    private final Map<Path, PendingWrite> writes = new ConcurrentHashMap<>();
+    private final Map<Path, Semaphore> directoryLimits = new ConcurrentHashMap<>();
+    private final int maxWritesPerDirectory;
+
+    private final Histogram writeTime;
+    private final Counter coalesced;
+
+    /**
+     * Creates a file service.
+     *
+     * @param maxWritesPerDirectory The maximum number of concurrent writes within one directory.
+     */
+    public AsyncFileService(int maxWritesPerDirectory) {
+        if (maxWritesPerDirectory <= 0) {
+            throw new IllegalArgumentException("Max writes per directory must be positive: " + maxWritesPerDirectory);
+        }
+        this.maxWritesPerDirectory = maxWritesPerDirectory;
+
+        MetricRegistry metrics = MetricRegistry.global();
+        this.writeTime = metrics.timer("io_write_seconds", "Time spent writing a file asynchronously, including waiting for the directory limit.");
+        this.coalesced = metrics.counter("io_writes_coalesced_total", "Asynchronous writes replaced by a later write to the same file.");
+    }
+
+    /**
+     * Returns the shared service, created on first use with the limits from {@link CommonConfig}. It finishes
+     * waiting writes when the JVM shuts down.
+     *
+     * @return The shared service.
+     */
+    public static AsyncFileService global() {
+        return Holder.INSTANCE;
+    }
+
+    // ----------------------- Reading -----------------------
+
+    /**
+     * Reads a file.
+     *
+     * @param file The file.
+     * @return A future with the file content, or the content of a write to it that has not finished yet.
+     */
+    public CompletableFuture<byte[]> read(Path file) {
+        Path key = key(file);
+        PendingWrite pending = this.writes.get(key);
+        if (pending != null) {
+            byte[] latest = pending.data;
+            if (latest == null) {
+                latest = pending.inFlightData;
+            }
+            if (latest != null) {
+                return CompletableFuture.completedFuture(latest.clone());
+            }
+        }
+        return this.submit(() -> Files.readAllBytes(key));
+    }
+
+    /**
+     * Reads a UTF-8 text file.
+     *
+     * @param file The file.
+     * @return A future with the file content.
+     */
+    public CompletableFuture<String> readString(Path file) {
+        return this.read(file).thenApply(bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs any blocking file operation on a virtual thread, e.g. listing a directory or deleting a file.
+     *
+     * @param task The operation.
+     * @return A future with the result, or completed exceptionally with the thrown exception.
+     */
+    public <T> CompletableFuture<T> submit(IoTask<T> task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        this.executor.execute(() -> {
+            try {
+                future.complete(task.run());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    // ----------------------- Writing -----------------------
+
+    /**
+     * Replaces the content of a file, creating it and its parent directories if needed. The array must not be
+     * modified afterwards.
+     *
+     * @param file The file.
+     * @param data The new content.
+     * @return A future completed once the content (or that of a later, coalesced write) is on disk.
+     */
+    public CompletableFuture<Void> write(Path file, byte[] data) {
+        Objects.requireNonNull(data, "Data cannot be null");
+        Path key = key(file);
+
+        // compute() makes every state change of a file atomic with respect to its writer thread.
+        Object[] result = new Object[2];
+        this.writes.compute(key, (path, pending) -> {
+            if (pending == null) {
+                pending = new PendingWrite();
+            }
+            if (pending.data != null) {
+                this.coalesced.increment();
+            } else {
+                pending.future = new CompletableFuture<>();
+            }
+            pending.data = data;
+            result[0] = pending.future;
+            if (!pending.writing) {
+                pending.writing = true;
+                result[1] = Boolean.TRUE;
+            }
+            return pending;
+        });
+
+        if (result[1] != null) {
+            this.executor.execute(() -> this.drain(key));
+        }
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Void> future = (CompletableFuture<Void>) result[0];
+        return future;
+    }
+
+    /**
+     * Replaces the content of a file with UTF-8 text.
+     *
+     * @param file The file.
+     * @param text The new content.
+     * @return A future completed once the content is on disk.
+     */
+    public CompletableFuture<Void> writeString(Path file, String text) {
+        return this.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a future that completes once every write submitted so far is on disk or has failed.
+     *
+     * @return The future.
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        this.writes.values().forEach(write -> {
+            addIgnoringFailure(pending, write.inFlight);
+            addIgnoringFailure(pending, write.future);
+        });
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Waits for waiting writes and stops the service.
+     */
+    @Override
+    public void close() {
+        try {
+            this.flush().get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Individual failures were reported through their own futures.
+        }
+        this.executor.close();
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    // Runs on the virtual thread that owns the file until no write is waiting.
+    private void drain(Path file) {
+        Semaphore limit = this.directoryLimits.computeIfAbsent(directoryOf(file),
+                directory -> new Semaphore(this.maxWritesPerDirectory, true));
+        while (true) {
+            Object[] taken = new Object[2];
+            this.writes.compute(file, (path, pending) -> {
+                if (pending.data == null) {
+                    return null; // Nothing left; the next write starts a new writer.
+                }
+                taken[0] = pending.data;
+                taken[1] = pending.future;
+                pending.inFlightData = pending.data;
+                pending.inFlight = pending.future;
+                pending.data = null;
+                pending.future = null;
+                return pending;
+            });
+            if (taken[0] == null) {
+                return;
+            }
+
+            @SuppressWarnings("unchecked")
+            CompletableFuture<Void> future = (CompletableFuture<Void>) taken[1];
+            long start = System.nanoTime();
+            try {
+                limit.acquire();
+                try {
+                    writeAtomically(file, (byte[]) taken[0]);
+                } finally {
+                    limit.release();
+                }
+                this.writeTime.recordSince(start);
+                future.complete(null);
+            } catch (InterruptedException e) {
+                // The writer is being shut down: fail what is left and let the next write start a new writer.
+                future.completeExceptionally(e);
+                this.abandon(file, e);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable t) {
+                // Fails only this write; the loop goes on so later writes to the file are not stranded.
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    // Removes the file's state and fails the write still waiting for it, if any.
+    private void abandon(Path file, Throwable cause) {
+        Object[] waiting = new Object[1];
+        this.writes.computeIfPresent(file, (path, pending) -> {
+            waiting[0] = pending.future;
+            return null;
+        });
+        if (waiting[0] != null) {
+            // Completed outside compute(), whose map must not be touched by the future's dependents.
+            ((CompletableFuture<?>) waiting[0]).completeExceptionally(cause);
+        }
+    }
+
+    private static void addIgnoringFailure(List<CompletableFuture<Void>> futures, CompletableFuture<Void> future) {
+        if (future != null) {
+            futures.add(future.exceptionally(error -> null));
+        }
+    }
+
+    private static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path key(Path file) {
+        return Objects.requireNonNull(file, "File cannot be null").toAbsolutePath().normalize();
+    }
+
+    private static Path directoryOf(Path file) {
+        Path parent = file.getParent();
+        return parent != null ? parent : file;
+    }
+
+    /**
+     * A blocking file operation.
+     *
+     * @param <T> The result type.
+     */
+    @FunctionalInterface
+    public interface IoTask<T> {
+        T run() throws IOException;
+    }
+
+    // The write waiting for a file and the one being written; data and future are null while nothing waits.
+    private static final class PendingWrite {
+        volatile byte[] data;
+        volatile CompletableFuture<Void> future;
+        volatile byte[] inFlightData;
+        volatile CompletableFuture<Void> inFlight;
+        boolean writing;
+    }
+
+    private static final class Holder {
+        static final AsyncFileService INSTANCE = create();
+
+        private static AsyncFileService create() {
+            AsyncFileService service = new AsyncFileService(CommonConfig.IO_MAX_WRITES_PER_DIRECTORY.get());
+            // Virtual threads do not keep the JVM alive; finish waiting writes before it exits.
+            Runtime.getRuntime().addShutdownHook(new Thread(service::close, "AsyncFile-Shutdown"));
+            return service;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.modular_multi_loader_template.common.platform;
+
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+
+/**
+ * Converts one loader-specific mod container into a {@link ModInfo}.
+ *
+ * <p>Implementations are called concurrently by {@link ModExtractionEngine} and must only read from the
+ * container. Repeated strings (authors, licenses, ...) should be passed through the supplied
+ * {@link StringInterner} so identical values share a single instance.</p>
+ *
+ * @param <C> the loader's mod container type.
+ */
+@FunctionalInterface
+public interface ModContainerAdapter<C> {
+    ModInfo toModInfo(C container, StringInterner interner);
+}
@@ -0,0 +1,152 @@
+package com.example.modular_multi_loader_template.common.platform;
+
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Converts loader mod containers into an immutable {@link ModInfo} list, in parallel for large modpacks.
+ *
+ * <p>Platforms plug in a small {@link ModContainerAdapter} for their container type. Lists with fewer than
+ * {@value #PARALLEL_THRESHOLD} containers are converted on the calling thread. Larger lists are split across
+ * a bounded fork-join pool owned by the engine. Results are written into a presized array and returned as an
+ * unmodifiable list in the original order. Every adapter call shares one {@link StringInterner}, so repeated
+ * author and license strings are stored once across refreshes.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * private final ModExtractionEngine engine = new ModExtractionEngine();
+ *
+ * private List<ModInfo> fetchRunningMods() {
+ *     return engine.extract(FabricLoader.getInstance().getAllMods(), this::toModInfo);
+ * }
+ * }</pre>
+ */
+public final class ModExtractionEngine {
+    /** Minimum number of containers before work is split across the pool. */
+    public static final int PARALLEL_THRESHOLD = 64;
+
+    // Containers handled by a single fork-join task before it stops splitting.
+    private static final int LEAF_SIZE = 32;
+    private static final int MAX_PARALLELISM = 4;
+
+    private final StringInterner interner = new StringInterner(1024);
+    private final int parallelism;
+    private volatile ForkJoinPool pool;
+
+    /**
+     * Creates an engine using up to {@value #MAX_PARALLELISM} worker threads, leaving one core free.
+     */
+    public ModExtractionEngine() {
+        this(Math.max(1, Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors() - 1)));
+    }
+
+    /**
+     * Creates an engine using the given number of worker threads.
+     *
+     * @param parallelism the maximum number of worker threads.
+     */
+    public ModExtractionEngine(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Converts all containers into {@link ModInfo} objects.
+     *
+     * @param containers the loader's mod containers.
+     * @param adapter    the platform-specific conversion.
+     * @param <C>        the container type.
+     * @return an unmodifiable list of mods, in container order.
+     */
+    public <C> List<ModInfo> extract(Collection<? extends C> containers, ModContainerAdapter<C> adapter) {
+        Objects.requireNonNull(adapter, "Adapter cannot be null");
+        if (containers.isEmpty()) {
+            return List.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        C[] input = (C[]) containers.toArray();
+        ModInfo[] output = new ModInfo[input.length];
+
+        if (input.length < PARALLEL_THRESHOLD || this.parallelism == 1) {
+            for (int i = 0; i < input.length; i++) {
+                output[i] = adapter.toModInfo(input[i], this.interner);
+            }
+        } else {
+            this.pool().invoke(new ExtractTask<>(input, output, 0, input.length, adapter, this.interner));
+        }
+        return Collections.unmodifiableList(Arrays.asList(output));
+    }
+
+    /**
+     * Returns the intern table shared by all extractions of this engine.
+     *
+     * @return the string interner.
+     */
+    public StringInterner getInterner() {
+        return this.interner;
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private ForkJoinPool pool() {
+        ForkJoinPool current = this.pool;
+        if (current == null) {
+            synchronized (this) {
+                current = this.pool;
+                if (current == null) {
+                    ClassLoader loader = ModExtractionEngine.class.getClassLoader();
+                    current = new ForkJoinPool(this.parallelism, forkJoinPool -> {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                        thread.setName("ModExtraction-" + thread.getPoolIndex());
+                        thread.setDaemon(true);
+                        // Mod loaders resolve classes through the context class loader.
+                        thread.setContextClassLoader(loader);
+                        return thread;
+                    }, null, false);
+                    this.pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class ExtractTask<C> extends RecursiveAction {
+        private final C[] input;
+        private final ModInfo[] output;
+        private final int from;
+        private final int to;
+        private final ModContainerAdapter<C> adapter;
+        private final StringInterner interner;
+
+        ExtractTask(C[] input, ModInfo[] output, int from, int to, ModContainerAdapter<C> adapter, StringInterner interner) {
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.adapter = adapter;
+            this.interner = interner;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= LEAF_SIZE) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.output[i] = this.adapter.toModInfo(this.input[i], this.interner);
+                }
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new ExtractTask<>(this.input, this.output, this.from, middle, this.adapter, this.interner),
+                    new ExtractTask<>(this.input, this.output, middle, this.to, this.adapter, this.interner));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.modular_multi_loader_template.common.platform;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe intern table used to de-duplicate repeated metadata strings.
+ *
+ * <p>Unlike {@link String#intern()}, entries live in an ordinary map owned by the caller and are released
+ * together with it.</p>
+ */
+public final class StringInterner implements UnaryOperator<String> {
+    private final ConcurrentHashMap<String, String> table;
+
+    /**
+     * Creates an interner with the given expected number of distinct strings.
+     *
+     * @param expectedSize the expected number of distinct strings.
+     */
+    public StringInterner(int expectedSize) {
+        this.table = new ConcurrentHashMap<>(Math.max(16, expectedSize));
+    }
+
+    /**
+     * Returns the canonical instance of the given string.
+     *
+     * @param value the string, may be {@code null}.
+     * @return the canonical instance, or {@code null} if {@code value} is {@code null}.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = this.table.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    @Override
+    public String apply(String value) {
+        return this.intern(value);
+    }
+
+    /**
+     * Returns the number of distinct strings held by this interner.
+     *
+     * @return the table size.
+     */
+    public int size() {
+        return this.table.size();
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.modular_multi_loader_template.common.profiling;
+
+import com.example.modular_multi_loader_template.common.shared.Constants;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Measures how long our own startup phases take, such as service loading, logger construction and config loading.
+ *
+ * <p>Phases are opened with {@link #begin(String)} and closed with try-with-resources; they nest per thread. Each
+ * phase records its wall time with {@link System#nanoTime()} and, where the JVM supports it, the bytes allocated
+ * by its thread. {@link #finish(Path)} logs a summary table and writes a Chrome trace ({@code chrome://tracing} or
+ * Perfetto) to {@code startup-<timestamp>.json}.</p>
+ *
+ * <p>Profiling is off unless the JVM is started with {@code -Dmodular_multi_loader_template.profileStartup=true}.
+ * When it is off, {@link #begin(String)} returns a shared no-op phase: no clock reads and no allocation.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try (StartupProfiler.Phase phase = StartupProfiler.begin("Services")) {
+ *     Services.PLATFORM.getInfo();
+ * }
+ * }</pre>
+ */
+public final class StartupProfiler {
+    /** System property that enables the profiler. */
+    public static final String PROPERTY = Constants.PROJECT_ID + ".profileStartup";
+
+    private static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+    private static final Phase NO_OP = new Phase(null, null, 0, 0, 0);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    // Initialized on first use, so nothing is touched while profiling is disabled.
+    private static StartupProfiler instance;
+
+    private final long originNanos = System.nanoTime();
+    private final long originUptimeMicros = ManagementFactory.getRuntimeMXBean().getUptime() * 1_000;
+    private final com.sun.management.ThreadMXBean allocations = allocationBean();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+    private final Queue<Record> records = new ConcurrentLinkedQueue<>();
+
+    // Package-private so tests can profile without the system property.
+    StartupProfiler() {
+    }
+
+    /**
+     * Returns whether startup profiling is enabled for this run.
+     *
+     * @return {@code true} if phases are being recorded.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Opens a phase on the current thread. Close it on the same thread, preferably with try-with-resources.
+     *
+     * @param name the phase name shown in the summary and the trace.
+     * @return the open phase.
+     */
+    public static Phase begin(String name) {
+        if (!ENABLED) {
+            return NO_OP;
+        }
+
+        return profiler().open(name);
+    }
+
+    /**
+     * Logs the summary table and writes the trace file. Phases still open are not included.
+     *
+     * @param directory the directory for the trace file, usually {@code logs/<project name>}.
+     * @return the trace file, or {@code null} if profiling is disabled or nothing was recorded.
+     */
+    public static Path finish(Path directory) {
+        return ENABLED ? profiler().write(directory) : null;
+    }
+
+    Phase open(String name) {
+        int[] depth = this.depth.get();
+        return new Phase(this, name, depth[0]++, allocatedBytes(), System.nanoTime());
+    }
+
+    Path write(Path directory) {
+        List<Record> recorded = sortedRecords();
+        if (recorded.isEmpty()) {
+            return null;
+        }
+        Constants.LOG.info("Startup profile:\n{}", summary(recorded));
+
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("startup-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".json");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writeTrace(recorded, writer);
+            }
+            Constants.LOG.info("Wrote startup trace to {}", file);
+            return file;
+        } catch (IOException e) {
+            Constants.LOG.error("Failed to write startup trace", e);
+            return null;
+        }
+    }
+
+    String summary() {
+        return summary(sortedRecords());
+    }
+
+    // ----------------------- Output -----------------------
+
+    private static String summary(List<Record> recorded) {
+        int nameWidth = "Phase".length();
+        for (Record record : recorded) {
+            nameWidth = Math.max(nameWidth, record.depth() * 2 + record.name().length());
+        }
+
+        StringBuilder table = new StringBuilder();
+        Formatter formatter = new Formatter(table, Locale.ROOT);
+        String format = "%-" + nameWidth + "s  %-24s %10s %12s%n";
+        formatter.format(format, "Phase", "Thread", "Time (ms)", "Alloc (KiB)");
+        for (Record record : recorded) {
+            formatter.format(format,
+                    "  ".repeat(record.depth()) + record.name(),
+                    record.threadName().length() > 24 ? record.threadName().substring(0, 24) : record.threadName(),
+                    String.format(Locale.ROOT, "%.3f", record.durationNanos() / 1_000_000.0),
+                    record.allocatedBytes() >= 0 ? Long.toString(record.allocatedBytes() / 1024) : "n/a");
+        }
+        return table.toString();
+    }
+
+    private void writeTrace(List<Record> recorded, Writer writer) throws IOException {
+        writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        Map<Long, String> threads = new LinkedHashMap<>();
+        boolean first = true;
+        for (Record record : recorded) {
+            threads.putIfAbsent(record.threadId(), record.threadName());
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+            // Timestamps are microseconds since JVM start, so our phases line up with the rest of the boot.
+            long ts = this.originUptimeMicros + (record.startNanos() - this.originNanos) / 1_000;
+            writer.write("{\"name\":");
+            writeJsonString(writer, record.name());
+            writer.write(",\"cat\":\"startup\",\"ph\":\"X\",\"pid\":1,\"tid\":" + record.threadId()
+                    + ",\"ts\":" + ts + ",\"dur\":" + Math.max(1, record.durationNanos() / 1_000)
+                    + ",\"args\":{\"allocatedBytes\":" + record.allocatedBytes() + "}}");
+        }
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            writer.write(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getKey() + ",\"args\":{\"name\":");
+            writeJsonString(writer, thread.getValue());
+            writer.write("}}");
+        }
+        writer.write("\n]}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private List<Record> sortedRecords() {
+        List<Record> recorded = new ArrayList<>(this.records);
+        recorded.sort(Comparator.comparingLong(Record::threadId).thenComparingLong(Record::startNanos));
+        return recorded;
+    }
+
+    private static synchronized StartupProfiler profiler() {
+        if (instance == null) {
+            instance = new StartupProfiler();
+        }
+        return instance;
+    }
+
+    private long allocatedBytes() {
+        return this.allocations != null ? this.allocations.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return sunBean;
+        }
+        return null;
+    }
+
+    private record Record(String name, long threadId, String threadName, int depth,
+                          long startNanos, long durationNanos, long allocatedBytes) {
+    }
+
+    /**
+     * An open startup phase; closing it records its duration and allocation.
+     */
+    public static final class Phase implements AutoCloseable {
+        private final StartupProfiler profiler;
+        private final String name;
+        private final int depth;
+        private final long startAllocated;
+        private final long startNanos;
+        private boolean closed;
+
+        private Phase(StartupProfiler profiler, String name, int depth, long startAllocated, long startNanos) {
+            this.profiler = profiler;
+            this.name = name;
+            this.depth = depth;
+            this.startAllocated = startAllocated;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (this.profiler == null || this.closed) {
+                return;
+            }
+            long duration = System.nanoTime() - this.startNanos;
+            long allocated = this.startAllocated >= 0 ? this.profiler.allocatedBytes() - this.startAllocated : -1;
+            this.closed = true;
+            this.profiler.depth.get()[0]--;
+
+            Thread thread = Thread.currentThread();
+            this.profiler.records.add(new Record(this.name, thread.threadId(), thread.getName(), this.depth,
+                    this.startNanos, duration, allocated));
+        }
+    }
+}
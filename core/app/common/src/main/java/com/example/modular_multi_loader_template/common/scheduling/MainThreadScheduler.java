@@ -0,0 +1,193 @@
+package com.example.modular_multi_loader_template.common.scheduling;
+
+import com.example.modular_multi_loader_template.api.platform.Services;
+import com.example.modular_multi_loader_template.api.platform.services.IClientHelper;
+import com.example.modular_multi_loader_template.api.platform.services.IServerHelper;
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+import com.example.modular_multi_loader_template.common.config.CommonConfig;
+import com.example.modular_multi_loader_template.common.shared.Constants;
+import com.example.modular_multi_loader_template.utils.functions.MpscQueue;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Counter;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands work from any thread to the server or client thread and runs it there at the end of each tick, within a
+ * time budget.
+ *
+ * <p>Tasks are queued in a lock-free {@link MpscQueue}, so submitting never blocks the caller. Each tick drains the
+ * queue in submission order until it is empty or the tick budget ({@link CommonConfig#SCHEDULER_TICK_BUDGET_NANOS})
+ * is used up; remaining tasks carry over to the next tick. At least one task runs per tick, so a single task
+ * longer than the budget still makes progress. Spreading post-processing over several ticks this way avoids the
+ * lag spike of doing it all at once.</p>
+ *
+ * <p>Tasks are always queued, even when submitted from the owning thread, so they never run re-entrantly inside
+ * the caller. A task that throws is logged and does not affect the others.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * CompletableFuture.supplyAsync(this::computeChunkData, worker)
+ *         .thenAcceptAsync(this::applyToWorld, MainThreadScheduler.server());
+ * }</pre>
+ */
+public final class MainThreadScheduler implements Executor {
+    private static final MainThreadScheduler SERVER = new MainThreadScheduler("server");
+    private static final MainThreadScheduler CLIENT = new MainThreadScheduler("client");
+
+    private static boolean installed;
+
+    private final String side;
+    private final MpscQueue<Runnable> tasks = new MpscQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Histogram tickTime;
+    private final Counter executed;
+    private final Counter carriedOver;
+
+    private volatile Thread owner;
+
+    private MainThreadScheduler(String side) {
+        this.side = side;
+        MetricRegistry metrics = MetricRegistry.global();
+        this.tickTime = metrics.timer("scheduler_tick_seconds", "Time spent running scheduled tasks per tick.", "side", side);
+        this.executed = metrics.counter("scheduler_tasks_total", "Scheduled tasks run on the main thread.", "side", side);
+        this.carriedOver = metrics.counter("scheduler_budget_exceeded_total", "Ticks that left tasks for the next tick.", "side", side);
+        metrics.gauge("scheduler_pending_tasks", "Tasks waiting for the main thread.", this.pending::get, "side", side);
+    }
+
+    /**
+     * Returns the scheduler that runs tasks on the server thread.
+     *
+     * @return The server scheduler.
+     */
+    public static MainThreadScheduler server() {
+        return SERVER;
+    }
+
+    /**
+     * Returns the scheduler that runs tasks on the client thread. Tasks only run on the physical client.
+     *
+     * @return The client scheduler.
+     */
+    public static MainThreadScheduler client() {
+        return CLIENT;
+    }
+
+    /**
+     * Registers the tick listeners through {@link IServerHelper} and, on the client, {@link IClientHelper}.
+     * Safe to call more than once.
+     *
+     * @param info The platform information.
+     */
+    public static synchronized void install(PlatformInfo info) {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        Services.load(IServerHelper.class).registerTickListener(SERVER::runTick);
+        if (info.environment() == Environment.Client) {
+            Services.load(IClientHelper.class).registerTickListener(CLIENT::runTick);
+        }
+    }
+
+    /**
+     * Queues a task for the next tick. Safe to call from any thread.
+     *
+     * @param task The task.
+     */
+    @Override
+    public void execute(Runnable task) {
+        this.tasks.offer(Objects.requireNonNull(task, "Task cannot be null"));
+        this.pending.incrementAndGet();
+    }
+
+    /**
+     * Queues a task for the next tick and returns its result as a future. Safe to call from any thread.
+     *
+     * @param task The task.
+     * @return A future completed on the main thread with the task's result or exception.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        this.execute(() -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns whether the current thread is the one this scheduler runs tasks on. Always {@code false} before the
+     * first tick.
+     *
+     * @return {@code true} on the owning thread.
+     */
+    public boolean isOwnerThread() {
+        return Thread.currentThread() == this.owner;
+    }
+
+    /**
+     * Returns the number of queued tasks.
+     *
+     * @return The pending task count.
+     */
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * Runs queued tasks within the configured budget. Called by the tick listener.
+     */
+    public void runTick() {
+        this.runTick(CommonConfig.SCHEDULER_TICK_BUDGET_NANOS.get());
+    }
+
+    /**
+     * Runs queued tasks until the queue is empty or the budget is used up. Must always be called from the same
+     * thread.
+     *
+     * @param budgetNanos The time budget for this tick, in nanoseconds.
+     * @return The number of tasks run.
+     */
+    public int runTick(long budgetNanos) {
+        if (this.owner == null) {
+            this.owner = Thread.currentThread();
+        }
+
+        Runnable task = this.tasks.poll();
+        if (task == null) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        int ran = 0;
+        do {
+            this.pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                Constants.LOG.error("Scheduled {} task failed", this.side, e);
+            }
+            ran++;
+        } while (System.nanoTime() - deadline < 0 && (task = this.tasks.poll()) != null);
+
+        this.tickTime.recordSince(start);
+        this.executed.add(ran);
+        if (!this.tasks.isEmpty()) {
+            this.carriedOver.increment();
+        }
+        return ran;
+    }
+}
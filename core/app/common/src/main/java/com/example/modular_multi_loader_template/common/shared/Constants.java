@@ -1,6 +1,7 @@
 package com.example.modular_multi_loader_template.common.shared;
 
 import com.example.modular_multi_loader_template.utils.functions.logging.PersistentLogger;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.QueueFullPolicy;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.asm.lib.ClassVisitor;
@@ -29,6 +30,7 @@ import org.spongepowered.asm.lib.ClassVisitor;
  *   <li>Logging is set to {@link Level#DEBUG} to capture detailed information for development and troubleshooting.</li>
  *   <li>A custom layout pattern that includes a timestamp, logger name, log level, message, and exception details.</li>
  *   <li>Console logging is enabled for real-time output.</li>
+ *   <li>Logging is asynchronous, so formatting and file I/O happen off the calling (e.g. server tick) thread.</li>
  *   <li>Java compatibility details are provided based on the ASM library version, indicating support for Java versions 18 to 22,
  *       with an extended note for Java 23 (class file version 67.0).</li>
  * </ul>
@@ -69,10 +71,19 @@ public class Constants {
      *   <li>Setting the logger name to match the project name and including the project version.</li>
      *   <li>Using a log directory named after the project.</li>
      *   <li>Disabling separate log files while maintaining a maximum of 5 backup files.</li>
+     *   <li>Rolling the shared log file over once it reaches 64 MiB, into block-compressed archives with a
+     *       time-range index.</li>
      *   <li>Setting the logging level to {@link Level#DEBUG} for detailed output.</li>
      *   <li>Using a custom layout pattern for log messages:
      *       <code>[%d{ddMMMyyyy HH:mm:ss.SSS}][%logger/%level]: %msg%n%xEx</code>, which includes date, logger, level, message, and exceptions.</li>
      *   <li>Enabling console logging for real-time feedback.</li>
+     *   <li>Logging asynchronously through a preallocated ring buffer; when it is full, {@link Level#DEBUG}
+     *       events are dropped rather than stalling the caller.</li>
+     *   <li>Keeping {@link Level#DEBUG} events in an in-memory flight recorder; they are only written to a
+     *       crash-context file when a warning or error is logged.</li>
+     *   <li>Building the file appenders on a background thread, so loading this class does not wait for log
+     *       files to be opened; early events are buffered and replayed once the files are ready.</li>
+     *   <li>Collapsing messages repeated more than 20 times within 10 seconds into a single summary.</li>
      *   <li>Providing Java compatibility information derived from the ASM version:
      *       <ul>
      *         <li>First parameter: The ASM version with its supported Java compatibility range.</li>
@@ -92,9 +103,17 @@ public class Constants {
             .setLogDirectory(PROJECT_NAME)
             .useSeparateLogFile(false)
             .setMaxBackupFiles(5)
+            .setMaxFileSize(64L << 20)
+            .useIndexedArchives(true)
             .setLoggingLevels(Level.DEBUG)
             .setCustomLayoutPattern("[%d{ddMMMyyyy HH:mm:ss.SSS}][%logger/%level]: %msg%n%xEx")
             .attachConsoleLogging(true)
+            .setAsync(true)
+            .setQueueFullPolicy(QueueFullPolicy.DROP_BELOW_LEVEL)
+            .setDiscardThreshold(Level.DEBUG)
+            .setFlightRecorder(true)
+            .setRepeatSuppression(20, 10_000)
+            .setBootstrap(true)
             .setJavaCompatibility(
                     // First parameter: ASM version with its supported Java compatibility range
                     String.format("%s (supports compatibility 18-22)", ASM_VERSION),
@@ -0,0 +1,113 @@
+package com.example.modular_multi_loader_template.common.storage;
+
+import com.example.modular_multi_loader_template.common.shared.Constants;
+import com.example.modular_multi_loader_template.utils.functions.storage.KeyValueStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens per-world {@link KeyValueStore}s under {@code <world directory>/<project id>/<store name>}.
+ *
+ * <p>The world directory is the one the server actually uses, as passed to the listeners of
+ * {@link com.example.modular_multi_loader_template.api.platform.services.IServerHelper}: a folder in {@code saves}
+ * on the integrated server, {@code world} on a dedicated server. Stores therefore move, get backed up and get
+ * deleted together with their world.</p>
+ *
+ * <p>Each store is opened once and shared until its world is closed. The mod flushes the stores of a save whenever
+ * the game saves it and closes them when the save is unloaded; stores still open when the JVM exits are closed by a
+ * shutdown hook.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * KeyValueStore waypoints = WorldStores.open(server.getWorldPath(LevelResource.ROOT), "waypoints");
+ * waypoints.putString(player.getStringUUID(), json);
+ * }</pre>
+ */
+public final class WorldStores {
+    private static final Map<Path, Entry> STORES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WorldStores::closeAll, "WorldStores-Shutdown"));
+    }
+
+    private WorldStores() {
+    }
+
+    /**
+     * Returns the store with the given name in a save, opening it if needed.
+     *
+     * @param worldDirectory The world directory of the save.
+     * @param storeName      The store name, used as folder name.
+     * @return The open store.
+     * @throws UncheckedIOException if the store cannot be opened.
+     */
+    public static KeyValueStore open(Path worldDirectory, String storeName) {
+        Path world = worldDirectory.toAbsolutePath().normalize();
+        return STORES.computeIfAbsent(world.resolve(Constants.PROJECT_ID).resolve(storeName), path -> {
+            try {
+                return new Entry(world, KeyValueStore.at(path).open());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open store " + path, e);
+            }
+        }).store();
+    }
+
+    /**
+     * Forces every open store of a save to disk.
+     *
+     * @param worldDirectory The world directory of the save.
+     */
+    public static void flush(Path worldDirectory) {
+        Path world = worldDirectory.toAbsolutePath().normalize();
+        STORES.values().forEach(entry -> {
+            if (entry.world().equals(world)) {
+                try {
+                    entry.store().flush();
+                } catch (IOException | IllegalStateException e) {
+                    Constants.LOG.error("Failed to flush a store of {}", world, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Closes every open store of a save.
+     *
+     * @param worldDirectory The world directory of the save.
+     */
+    public static void close(Path worldDirectory) {
+        Path world = worldDirectory.toAbsolutePath().normalize();
+        STORES.entrySet().removeIf(mapping -> {
+            if (!mapping.getValue().world().equals(world)) {
+                return false;
+            }
+            closeQuietly(mapping.getKey(), mapping.getValue().store());
+            return true;
+        });
+    }
+
+    /**
+     * Closes every open store.
+     */
+    public static void closeAll() {
+        STORES.entrySet().removeIf(mapping -> {
+            closeQuietly(mapping.getKey(), mapping.getValue().store());
+            return true;
+        });
+    }
+
+    private static void closeQuietly(Path directory, KeyValueStore store) {
+        try {
+            store.close();
+        } catch (IOException e) {
+            Constants.LOG.error("Failed to close store {}", directory, e);
+        }
+    }
+
+    private record Entry(Path world, KeyValueStore store) {
+    }
+}
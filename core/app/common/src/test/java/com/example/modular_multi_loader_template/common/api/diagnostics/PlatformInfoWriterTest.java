@@ -0,0 +1,118 @@
+package com.example.modular_multi_loader_template.common.api.diagnostics;
+
+import com.example.modular_multi_loader_template.api.platform.diagnostics.PlatformInfoWriter;
+import com.example.modular_multi_loader_template.api.platform.types.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlatformInfoWriterTest {
+    @TempDir
+    Path gameDirectory;
+
+    @Test
+    void testStreamingMatchesToString() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        PlatformInfo info = create(() -> {
+            fetches.incrementAndGet();
+            return List.of(mod("a"), mod("b"));
+        });
+
+        StringWriter writer = new StringWriter();
+        PlatformInfoWriter.write(info, writer);
+
+        assertEquals(info.toString(), writer.toString());
+        assertTrue(info.toString().contains("runningMods=[ModInfo{id='a'"));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void testRenderIsCachedUntilInvalidated() {
+        PlatformInfo info = create(() -> List.of(mod("a")));
+
+        String first = PlatformInfoWriter.render(info);
+        assertSame(first, PlatformInfoWriter.render(info));
+
+        info.modRegistry().invalidate();
+        assertNotSame(first, PlatformInfoWriter.render(info));
+    }
+
+    @Test
+    void testEmptyModList() {
+        assertTrue(create(List::of).toString().contains("runningMods=No Mods Loaded,"));
+    }
+
+    @Test
+    void testBinarySnapshot() throws Exception {
+        PlatformInfo info = create(() -> List.of(mod("a")));
+        Path file = PlatformInfoWriter.writeSnapshot(info, gameDirectory.resolve("logs"), PlatformInfoWriter.Format.BINARY);
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            assertEquals(PlatformInfoWriter.BINARY_MAGIC, in.readInt());
+            assertEquals(PlatformInfoWriter.BINARY_VERSION, in.readShort());
+        }
+    }
+
+    @Test
+    void testBinarySnapshotKeepsLongStringsAndLargeCollections() throws Exception {
+        String description = "é".repeat(40_000); // 80000 bytes in UTF-8, more than writeUTF can hold
+        List<String> authors = IntStream.range(0, 70_000).mapToObj(i -> "author" + i).toList();
+        PlatformInfo info = create(() -> List.of(new ModInfo("big", "Big", Platform.Fabric, "1.0.0", description,
+                Environment.Both, authors, List.of(), List.of("MIT"))));
+        Path file = PlatformInfoWriter.writeSnapshot(info, gameDirectory.resolve("logs"), PlatformInfoWriter.Format.BINARY);
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            in.readInt();
+            in.readShort();
+            in.readLong();
+            assertEquals(Platform.Fabric.ordinal(), in.readByte());
+            assertEquals("1.0.0", readString(in));
+            assertEquals("1.21.1", readString(in));
+            assertEquals(gameDirectory.toString(), readString(in));
+            assertTrue(in.readBoolean());
+            assertEquals(Environment.Client.ordinal(), in.readByte());
+            assertEquals(OperatingSystem.Linux.ordinal(), in.readByte());
+
+            assertEquals(1, in.readInt());
+            assertEquals("big", readString(in));
+            assertEquals("Big", readString(in));
+            assertEquals(Platform.Fabric.ordinal(), in.readByte());
+            assertEquals("1.0.0", readString(in));
+            assertEquals(description, readString(in));
+            assertEquals(Environment.Both.ordinal(), in.readByte());
+            assertEquals(authors.size(), in.readInt());
+            for (String author : authors) {
+                assertEquals(author, readString(in));
+            }
+            assertEquals(0, in.readInt());
+            assertEquals(1, in.readInt());
+            assertEquals("MIT", readString(in));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+
+    private PlatformInfo create(java.util.function.Supplier<List<ModInfo>> mods) {
+        return new PlatformInfo(Platform.Fabric, "1.0.0", "1.21.1", gameDirectory, true,
+                Environment.Client, mods, OperatingSystem.Linux);
+    }
+
+    private static ModInfo mod(String id) {
+        return new ModInfo(id, id.toUpperCase(), Platform.Fabric, "1.0.0", "", Environment.Both,
+                List.of("Alice"), List.of(), List.of("MIT"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.modular_multi_loader_template.common.api.mods;
+
+import com.example.modular_multi_loader_template.api.platform.mods.ModMetadataParser;
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModMetadataParserTest {
+    @Test
+    void testSplitNames() {
+        assertEquals(List.of(), ModMetadataParser.splitNames(null));
+        assertEquals(List.of(), ModMetadataParser.splitNames("  "));
+        assertEquals(List.of("Alice"), ModMetadataParser.splitNames(" Alice "));
+        assertEquals(List.of("Alice", "Bob", "Carol"), ModMetadataParser.splitNames("Alice, Bob,Carol"));
+        assertEquals(List.of("Black and Decker", "Tom and Jerry Studios"), ModMetadataParser.splitNames("Black and Decker, Tom and Jerry Studios"));
+        assertEquals(List.of("Alice", "Bob"), ModMetadataParser.splitNames(List.of("Alice", "Bob")));
+    }
+
+    @Test
+    void testCollectionsAreNotShared() {
+        ModInfo first = ModMetadataParser.fromProperties("a", "A", Platform.Forge, "1.0.0", null, Environment.Both,
+                Map.of("authors", "Alice"), "MIT");
+        ModInfo second = ModMetadataParser.fromProperties("b", "B", Platform.Forge, "1.0.0", null, Environment.Both,
+                Map.of("authors", "Bob", "credits", "Carol"), "LGPL");
+
+        assertEquals(List.of("Alice"), first.authors());
+        assertEquals(List.of(), first.contributors());
+        assertEquals(List.of("MIT"), first.license());
+        assertEquals(List.of("Bob"), second.authors());
+        assertEquals(List.of("Carol"), second.contributors());
+        assertThrows(UnsupportedOperationException.class, () -> first.authors().add("Mallory"));
+    }
+}
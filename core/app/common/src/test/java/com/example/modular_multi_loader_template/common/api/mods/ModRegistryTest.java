@@ -0,0 +1,103 @@
+package com.example.modular_multi_loader_template.common.api.mods;
+
+import com.example.modular_multi_loader_template.api.platform.mods.ModDiff;
+import com.example.modular_multi_loader_template.api.platform.mods.ModRegistry;
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModRegistryTest {
+    private static ModInfo mod(String id, Platform type, Environment environment) {
+        return new ModInfo(id, id, type, "1.0.0", "", environment, List.of(), List.of(), List.of());
+    }
+
+    @Test
+    void testLookupIgnoresCase() {
+        ModRegistry registry = new ModRegistry(() -> List.of(mod("examplemod", Platform.Fabric, Environment.Both)));
+
+        assertTrue(registry.find("ExampleMod").isPresent());
+        assertTrue(registry.find("missing").isEmpty());
+        assertTrue(registry.find(null).isEmpty());
+        assertSame(registry.find("examplemod"), registry.find("EXAMPLEMOD"));
+    }
+
+    @Test
+    void testSnapshotIsCachedUntilInvalidated() {
+        AtomicInteger calls = new AtomicInteger();
+        ModRegistry registry = new ModRegistry(() -> {
+            calls.incrementAndGet();
+            return List.of(mod("a", Platform.Fabric, Environment.Both));
+        });
+
+        registry.getMods();
+        registry.find("a");
+        assertEquals(1, calls.get());
+
+        long generation = registry.generation();
+        registry.invalidate();
+        assertNotEquals(generation, registry.generation());
+        registry.getMods();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testGroupsByPlatformAndEnvironment() {
+        ModRegistry registry = new ModRegistry(() -> List.of(
+                mod("a", Platform.Fabric, Environment.Client),
+                mod("b", Platform.Builtin, Environment.Both),
+                mod("c", Platform.Fabric, Environment.Both)));
+
+        assertEquals(2, registry.getMods(Platform.Fabric).size());
+        assertEquals(1, registry.getMods(Environment.Client).size());
+        assertTrue(registry.getMods(Platform.Forge).isEmpty());
+    }
+
+    @Test
+    void testRefreshReportsDiff() {
+        List<ModInfo> mods = new ArrayList<>(List.of(mod("a", Platform.Fabric, Environment.Both), mod("b", Platform.Fabric, Environment.Both)));
+        ModRegistry registry = new ModRegistry(() -> List.copyOf(mods));
+        registry.getMods();
+
+        long generation = registry.generation();
+        assertTrue(registry.refresh().isEmpty());
+        assertEquals(generation, registry.generation());
+
+        mods.remove(0);
+        mods.add(mod("c", Platform.Fabric, Environment.Both));
+        mods.set(0, mod("b", Platform.Fabric, Environment.Client));
+        ModDiff diff = registry.refresh();
+
+        assertEquals(List.of("c"), diff.added().stream().map(ModInfo::id).toList());
+        assertEquals(List.of("a"), diff.removed().stream().map(ModInfo::id).toList());
+        assertEquals(List.of("b"), diff.changed().stream().map(ModInfo::id).toList());
+        assertNotEquals(generation, registry.generation());
+    }
+
+    @Test
+    void testRefreshAfterInvalidateOnlyReportsChanges() {
+        List<ModInfo> mods = new ArrayList<>(List.of(mod("a", Platform.Fabric, Environment.Both)));
+        ModRegistry registry = new ModRegistry(() -> List.copyOf(mods));
+        registry.getMods();
+
+        registry.invalidate();
+        assertTrue(registry.refresh().isEmpty());
+
+        mods.add(mod("b", Platform.Fabric, Environment.Both));
+        registry.invalidate();
+        assertEquals(List.of("b"), registry.refresh().added().stream().map(ModInfo::id).toList());
+    }
+
+    @Test
+    void testFirstRefreshReportsEverythingAdded() {
+        ModRegistry registry = new ModRegistry(() -> List.of(mod("a", Platform.Fabric, Environment.Both)));
+
+        assertEquals(List.of("a"), registry.refresh().added().stream().map(ModInfo::id).toList());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.modular_multi_loader_template.common.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncFileServiceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRepeatedWritesKeepLatestContent() throws Exception {
+        Path file = directory.resolve("saves/World/data.txt");
+        try (AsyncFileService service = new AsyncFileService(1)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(service.writeString(file, "value " + i));
+            }
+            // Reads see the latest submitted content even before it is written.
+            assertEquals("value 199", service.readString(file).join());
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            assertEquals("value 199", Files.readString(file));
+            assertFalse(Files.exists(file.resolveSibling("data.txt.tmp")));
+        }
+    }
+
+    @Test
+    void testWritesToManyFilesInOneDirectory() throws Exception {
+        try (AsyncFileService service = new AsyncFileService(2)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(service.writeString(directory.resolve("file" + i + ".txt"), Integer.toString(i)));
+            }
+            service.flush().join();
+
+            futures.forEach(future -> assertTrue(future.isDone()));
+            for (int i = 0; i < 50; i++) {
+                assertEquals(Integer.toString(i), Files.readString(directory.resolve("file" + i + ".txt")));
+            }
+        }
+    }
+
+    @Test
+    void testFailuresCompleteExceptionally() {
+        try (AsyncFileService service = new AsyncFileService(1)) {
+            CompletionException error = assertThrows(CompletionException.class,
+                    () -> service.read(directory.resolve("missing.txt")).join());
+            assertInstanceOf(NoSuchFileException.class, error.getCause());
+            assertThrows(IllegalArgumentException.class, () -> new AsyncFileService(0));
+        }
+    }
+
+    @Test
+    void testFailedWriteDoesNotStrandLaterWrites() throws Exception {
+        Path blocker = directory.resolve("blocker");
+        Files.writeString(blocker, "not a directory");
+        Path file = blocker.resolve("data.txt");
+
+        try (AsyncFileService service = new AsyncFileService(1)) {
+            CompletionException error = assertThrows(CompletionException.class, () -> service.writeString(file, "first").join());
+            assertInstanceOf(IOException.class, error.getCause());
+
+            Files.delete(blocker);
+            service.writeString(file, "second").get(5, TimeUnit.SECONDS);
+            assertEquals("second", Files.readString(file));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.modular_multi_loader_template.common.platform;
+
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModExtractionEngineTest {
+    private static ModInfo toModInfo(Integer index, StringInterner interner) {
+        // new String(...) forces distinct instances so interning is observable.
+        String author = interner.intern(new String("Author " + (index % 3)));
+        return new ModInfo("mod_" + index, "Mod " + index, Platform.Fabric, "1.0.0", "", Environment.Both,
+                List.of(author), List.of(), List.of(interner.intern(new String("MIT"))));
+    }
+
+    @Test
+    void testPreservesOrderAndInterns() {
+        List<Integer> containers = IntStream.range(0, 500).boxed().toList();
+        List<ModInfo> mods = new ModExtractionEngine(4).extract(containers, ModExtractionEngineTest::toModInfo);
+
+        assertEquals(500, mods.size());
+        for (int i = 0; i < mods.size(); i++) {
+            assertEquals("mod_" + i, mods.get(i).id());
+        }
+        assertSame(mods.get(0).license().iterator().next(), mods.get(499).license().iterator().next());
+        assertSame(mods.get(0).authors().iterator().next(), mods.get(3).authors().iterator().next());
+        assertThrows(UnsupportedOperationException.class, () -> mods.add(mods.get(0)));
+    }
+
+    @Test
+    void testSmallListsAndEmptyInput() {
+        ModExtractionEngine engine = new ModExtractionEngine(2);
+
+        assertTrue(engine.extract(List.<Integer>of(), ModExtractionEngineTest::toModInfo).isEmpty());
+        assertEquals(3, engine.extract(List.of(1, 2, 3), ModExtractionEngineTest::toModInfo).size());
+    }
+}
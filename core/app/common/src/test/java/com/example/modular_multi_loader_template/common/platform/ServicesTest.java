@@ -1,4 +1,81 @@
 package com.example.modular_multi_loader_template.common.platform;
 
+import com.example.modular_multi_loader_template.api.platform.ServicePriority;
+import com.example.modular_multi_loader_template.api.platform.Services;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class ServicesTest {
+    @Test
+    void testProvidersAreOrderedByPriority() {
+        assertEquals(
+                List.of(HighGreeter.class, LowGreeter.class),
+                Services.providers(Greeter.class).stream().map(ServiceLoader.Provider::type).toList());
+    }
+
+    @Test
+    void testLoadPicksHighestPriorityAndInstantiatesOnce() {
+        Greeter first = Services.load(Greeter.class);
+        Greeter second = Services.load(Greeter.class);
+
+        assertInstanceOf(HighGreeter.class, first);
+        assertSame(first, second);
+        assertEquals(1, HighGreeter.INSTANCES.get(), "The winning provider should be instantiated once");
+        assertEquals(0, LowGreeter.INSTANCES.get(), "Losing providers should never be instantiated");
+        assertEquals(2, Services.getLoadTimings().get(Greeter.class).candidates());
+    }
+
+    @Test
+    void testLazyResolvesOnFirstAccess() {
+        Supplier<Greeter> lazy = Services.lazy(Greeter.class);
+
+        assertSame(Services.load(Greeter.class), lazy.get());
+        assertSame(lazy.get(), lazy.get());
+    }
+
+    @Test
+    void testMissingServiceThrows() {
+        assertThrows(NullPointerException.class, () -> Services.load(Runnable.class));
+    }
+
+    /**
+     * Service with two providers declared in the test resources.
+     */
+    public interface Greeter {
+        String greet();
+    }
+
+    @ServicePriority(1)
+    public static class LowGreeter implements Greeter {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public LowGreeter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public String greet() {
+            return "low";
+        }
+    }
+
+    @ServicePriority(10)
+    public static class HighGreeter implements Greeter {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public HighGreeter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public String greet() {
+            return "high";
+        }
+    }
 }
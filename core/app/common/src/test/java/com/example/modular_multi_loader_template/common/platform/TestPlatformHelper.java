@@ -0,0 +1,14 @@
+package com.example.modular_multi_loader_template.common.platform;
+
+import com.example.modular_multi_loader_template.api.platform.services.IPlatformHelper;
+import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+
+/**
+ * Platform provider for tests, so {@code Services} can be initialized without a mod loader.
+ */
+public class TestPlatformHelper implements IPlatformHelper {
+    @Override
+    public PlatformInfo getInfo() {
+        throw new UnsupportedOperationException("No platform in tests");
+    }
+}
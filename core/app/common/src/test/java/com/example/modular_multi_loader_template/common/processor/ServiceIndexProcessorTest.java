@@ -0,0 +1,102 @@
+package com.example.modular_multi_loader_template.common.processor;
+
+import com.example.modular_multi_loader_template.api.platform.ServiceIndex;
+import com.example.modular_multi_loader_template.processor.ServiceIndexProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServiceIndexProcessorTest {
+    private static final Map<String, String> SOURCES = Map.of(
+            "toy/Greeter.java", "package toy; public interface Greeter {}",
+            "toy/DefaultGreeter.java", "package toy; public class DefaultGreeter implements Greeter {}",
+            "toy/LowGreeter.java", """
+                    package toy;
+                    @com.example.modular_multi_loader_template.api.platform.ServicePriority(1)
+                    public class LowGreeter implements Greeter {}""",
+            "toy/HighGreeter.java", """
+                    package toy;
+                    @com.example.modular_multi_loader_template.api.platform.ServicePriority(5)
+                    public class HighGreeter implements Greeter {}""",
+            "toy/Counter.java", "package toy; public interface Counter {}",
+            "toy/PublicCounter.java", "package toy; public class PublicCounter implements Counter {}",
+            "toy/HiddenCounter.java", "package toy; class HiddenCounter implements Counter {}");
+
+    @TempDir
+    Path directory;
+
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+    private ServiceIndex index;
+    private ClassLoader loader;
+
+    @BeforeEach
+    void compile() throws Exception {
+        Path sources = this.directory.resolve("src");
+        Path resources = this.directory.resolve("resources");
+        Path output = Files.createDirectories(this.directory.resolve("classes"));
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : SOURCES.entrySet()) {
+            files.add(write(sources.resolve(source.getKey()), source.getValue()));
+        }
+        write(resources.resolve("META-INF/services/toy.Greeter"), "toy.LowGreeter\ntoy.HighGreeter # preferred\ntoy.DefaultGreeter\n");
+        write(resources.resolve("META-INF/services/toy.Counter"), "toy.PublicCounter\ntoy.HiddenCounter\n");
+
+        // ServiceIndex and ServicePriority come from core:api, wherever the test runner put it.
+        Path api = Path.of(ServiceIndex.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, Locale.ROOT, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, this.diagnostics::add,
+                    List.of("-classpath", api.toString(), "-d", output.toString(),
+                            "-A" + ServiceIndexProcessor.RESOURCE_DIRS_OPTION + "=" + resources),
+                    null, fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new ServiceIndexProcessor()));
+            assertTrue(task.call(), this.diagnostics::toString);
+        }
+
+        this.loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, ServiceIndex.class.getClassLoader());
+        this.index = (ServiceIndex) this.loader.loadClass(ServiceIndex.GENERATED_CLASS).getConstructor().newInstance();
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+
+    @Test
+    void testHighestPriorityProviderIsIndexed() throws ClassNotFoundException {
+        Class<?> greeter = this.loader.loadClass("toy.Greeter");
+
+        assertEquals("toy.HighGreeter", this.index.factory(greeter).get().getClass().getName());
+        assertEquals(3, this.index.candidates(greeter));
+    }
+
+    @Test
+    void testServiceWithNonPublicProviderIsLeftToServiceLoader() throws ClassNotFoundException {
+        Class<?> counter = this.loader.loadClass("toy.Counter");
+
+        assertNull(this.index.factory(counter));
+        assertEquals(0, this.index.candidates(counter));
+        assertTrue(this.diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING
+                        && diagnostic.getMessage(Locale.ROOT).startsWith("Provider toy.HiddenCounter of toy.Counter")),
+                this.diagnostics::toString);
+    }
+
+    @Test
+    void testUnknownServiceIsNotIndexed() {
+        assertNull(this.index.factory(Runnable.class));
+        assertEquals(0, this.index.candidates(Runnable.class));
+    }
+}
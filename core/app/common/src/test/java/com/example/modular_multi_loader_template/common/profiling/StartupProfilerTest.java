@@ -0,0 +1,86 @@
+package com.example.modular_multi_loader_template.common.profiling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupProfilerTest {
+    private static final Pattern TRACE_EVENT = Pattern.compile("\"name\":\"([^\"]+)\",\"cat\":\"startup\",\"ph\":\"X\",.*?\"ts\":(\\d+),\"dur\":(\\d+)");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testProfilingIsOffByDefault() {
+        assertFalse(StartupProfiler.isEnabled());
+
+        StartupProfiler.Phase phase = StartupProfiler.begin("Disabled");
+        assertSame(phase, StartupProfiler.begin("Other"));
+        phase.close();
+        assertNull(StartupProfiler.finish(this.directory));
+    }
+
+    @Test
+    void testNestedPhasesAreSummarizedByDepth() throws InterruptedException {
+        StartupProfiler profiler = new StartupProfiler();
+        try (StartupProfiler.Phase outer = profiler.open("Outer")) {
+            try (StartupProfiler.Phase inner = profiler.open("Inner")) {
+                Thread.sleep(5);
+            }
+        }
+
+        String[] lines = profiler.summary().split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("Phase "));
+        assertTrue(lines[1].startsWith("Outer "));
+        assertTrue(lines[2].startsWith("  Inner "));
+    }
+
+    @Test
+    void testTraceContainsNestedPhaseTimings() throws IOException, InterruptedException {
+        StartupProfiler profiler = new StartupProfiler();
+        try (StartupProfiler.Phase outer = profiler.open("Outer")) {
+            try (StartupProfiler.Phase inner = profiler.open("Inner \"quoted\"")) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(5);
+        }
+
+        Path file = profiler.write(this.directory);
+        assertNotNull(file);
+        assertTrue(file.getFileName().toString().matches("startup-.+\\.json"));
+        String trace = Files.readString(file);
+        assertTrue(trace.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(trace.contains("\"name\":\"Inner \\\"quoted\\\"\""));
+        assertTrue(trace.contains("\"ph\":\"M\""));
+
+        Map<String, long[]> events = new HashMap<>();
+        Matcher matcher = TRACE_EVENT.matcher(trace.replace("\\\"", "'"));
+        while (matcher.find()) {
+            events.put(matcher.group(1), new long[]{Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3))});
+        }
+        long[] outer = events.get("Outer");
+        long[] inner = events.get("Inner 'quoted'");
+        assertEquals(2, events.size());
+
+        // The inner phase lies within the outer one, which also covers its own sleep.
+        assertTrue(inner[1] >= 5_000);
+        assertTrue(outer[1] >= inner[1] + 5_000);
+        assertTrue(inner[0] >= outer[0]);
+        assertTrue(inner[0] + inner[1] <= outer[0] + outer[1]);
+    }
+
+    @Test
+    void testNothingIsWrittenWithoutPhases() {
+        assertNull(new StartupProfiler().write(this.directory));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.modular_multi_loader_template.common.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MainThreadSchedulerTest {
+    @Test
+    void testBudgetCarriesTasksOver() {
+        MainThreadScheduler scheduler = MainThreadScheduler.server();
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            scheduler.execute(() -> {
+                order.add(index);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+            });
+        }
+        assertEquals(10, scheduler.getPendingCount());
+
+        // A budget below one task still runs one task per tick.
+        assertEquals(1, scheduler.runTick(1));
+        assertEquals(9, scheduler.getPendingCount());
+
+        int ticks = 1;
+        while (scheduler.getPendingCount() > 0) {
+            assertTrue(scheduler.runTick(TimeUnit.MILLISECONDS.toNanos(5)) >= 1);
+            ticks++;
+        }
+        assertTrue(ticks > 2, "Tasks should be spread over several ticks");
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+        assertTrue(scheduler.isOwnerThread());
+        assertEquals(0, scheduler.runTick(1));
+    }
+
+    @Test
+    void testSubmitCompletesOnTick() {
+        MainThreadScheduler scheduler = MainThreadScheduler.client();
+        CompletableFuture<String> result = scheduler.submit(() -> "done");
+        CompletableFuture<String> failure = scheduler.submit(() -> {
+            throw new IllegalStateException("failed");
+        });
+        scheduler.execute(() -> {
+            throw new IllegalStateException("Logged, not propagated");
+        });
+        assertFalse(result.isDone());
+
+        scheduler.runTick(TimeUnit.SECONDS.toNanos(1));
+        assertEquals("done", result.join());
+        assertTrue(failure.isCompletedExceptionally());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
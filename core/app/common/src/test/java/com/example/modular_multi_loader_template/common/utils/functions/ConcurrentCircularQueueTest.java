@@ -0,0 +1,59 @@
+package com.example.modular_multi_loader_template.common.utils.functions;
+
+import com.example.modular_multi_loader_template.utils.functions.ConcurrentCircularQueue;
+import com.example.modular_multi_loader_template.utils.functions.ICircularQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentCircularQueueTest {
+    @Test
+    void testCyclesPowerOfTwo() {
+        ICircularQueue<String> queue = new ConcurrentCircularQueue<String>().add("A").add("B").build();
+
+        assertEquals("A", queue.get());
+        assertEquals("B", queue.next());
+        assertEquals("A", queue.next());
+        assertEquals("B", queue.previous());
+    }
+
+    @Test
+    void testCyclesNonPowerOfTwo() {
+        ICircularQueue<String> queue = new ConcurrentCircularQueue<String>().add("A").add("B").add("C").build();
+
+        assertEquals("C", queue.previous());
+        assertEquals("A", queue.next());
+        assertEquals("B", queue.next());
+        assertEquals("C", queue.next());
+        assertEquals("A", queue.next());
+    }
+
+    @Test
+    void testBuildRules() {
+        assertThrows(IllegalStateException.class, () -> new ConcurrentCircularQueue<String>().build());
+        assertThrows(IllegalStateException.class, () -> new ConcurrentCircularQueue<String>().add("A").next());
+        assertThrows(IllegalStateException.class, () -> new ConcurrentCircularQueue<String>().add("A").build().add("B"));
+    }
+
+    @Test
+    void testConcurrentNextKeepsPosition() throws InterruptedException {
+        ICircularQueue<Integer> queue = new ConcurrentCircularQueue<Integer>().add(0).add(1).add(2).build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 3000; j++) {
+                    queue.next();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // 12,000 advances over 3 options lands back on the first option.
+        assertEquals(0, queue.get());
+    }
+}
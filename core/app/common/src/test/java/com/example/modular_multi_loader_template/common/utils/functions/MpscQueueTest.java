@@ -0,0 +1,63 @@
+package com.example.modular_multi_loader_template.common.utils.functions;
+
+import com.example.modular_multi_loader_template.utils.functions.MpscQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MpscQueueTest {
+    @Test
+    void testFifoOrder() {
+        MpscQueue<String> queue = new MpscQueue<>();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        queue.offer("A");
+        queue.offer("B");
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertEquals("B", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    void testConcurrentProducersKeepTheirOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscQueue<int[]> queue = new MpscQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(new int[]{producer, i});
+                }
+            });
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            int[] element = queue.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertEquals(next[element[0]]++, element[1]);
+            received++;
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(producers * perProducer, received);
+        assertTrue(queue.isEmpty());
+    }
+}
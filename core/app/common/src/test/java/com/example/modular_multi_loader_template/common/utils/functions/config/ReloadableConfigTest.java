@@ -0,0 +1,97 @@
+package com.example.modular_multi_loader_template.common.utils.functions.config;
+
+import com.example.modular_multi_loader_template.utils.functions.config.ConfigKey;
+import com.example.modular_multi_loader_template.utils.functions.config.ConfigSnapshot;
+import com.example.modular_multi_loader_template.utils.functions.config.ConfigSpec;
+import com.example.modular_multi_loader_template.utils.functions.config.ReloadableConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReloadableConfigTest {
+    @TempDir
+    Path directory;
+
+    private enum Mode { FAST, SAFE }
+
+    @Test
+    void testDefaultsAreWrittenAndReloaded() throws Exception {
+        ConfigSpec spec = new ConfigSpec();
+        ConfigKey.BooleanKey enabled = spec.defineBoolean("general.enabled", true);
+        ConfigKey.IntKey budget = spec.defineInt("performance.budget", 50, 1, 100);
+        ConfigKey.DoubleKey scale = spec.defineDouble("performance.scale", 1.5, 0, 10);
+        ConfigKey.EnumKey<Mode> mode = spec.defineEnum("general.mode", Mode.SAFE);
+
+        // Defaults are readable before the file is opened.
+        assertEquals(50, budget.get());
+
+        Path file = directory.resolve("test.toml");
+        ReloadableConfig config = ReloadableConfig.open(file, spec);
+        assertTrue(Files.exists(file));
+        assertTrue(enabled.get());
+        assertEquals(1.5, scale.get());
+        assertEquals(Mode.SAFE, mode.get());
+        long generation = spec.snapshot().generation();
+
+        Files.writeString(file, """
+                [general]
+                enabled = false
+                mode = "fast"
+                [performance]
+                budget = 500
+                scale = 2.0
+                """);
+        assertTrue(config.reload());
+
+        ConfigSnapshot snapshot = spec.snapshot();
+        assertEquals(generation + 1, snapshot.generation());
+        assertFalse(enabled.get(snapshot));
+        assertEquals(Mode.FAST, mode.get(snapshot));
+        assertEquals(100, budget.get(snapshot), "Out-of-range values are clamped");
+        assertEquals(1, snapshot.problems().size());
+    }
+
+    @Test
+    void testMalformedFileKeepsPreviousSnapshot() throws Exception {
+        ConfigSpec spec = new ConfigSpec();
+        ConfigKey.IntKey budget = spec.defineInt("budget", 50, 1, 100);
+        Path file = directory.resolve("test.toml");
+        Files.writeString(file, "budget = 20\n");
+
+        ReloadableConfig config = ReloadableConfig.open(file, spec);
+        assertEquals(20, budget.get());
+
+        Files.writeString(file, "budget = = 30\n");
+        assertFalse(config.reload());
+        assertEquals(20, budget.get());
+    }
+
+    @Test
+    void testKeysCannotBeAddedAfterOpening() {
+        ConfigSpec spec = new ConfigSpec();
+        spec.defineBoolean("flag", false);
+        ReloadableConfig.open(directory.resolve("test.json"), spec);
+        assertThrows(IllegalStateException.class, () -> spec.defineBoolean("late", false));
+    }
+
+    @Test
+    void testWatcherPublishesChanges() throws Exception {
+        ConfigSpec spec = new ConfigSpec();
+        ConfigKey.LongKey limit = spec.defineLong("limit", 1, 0, Long.MAX_VALUE);
+        Path file = directory.resolve("watched.toml");
+
+        try (ReloadableConfig config = ReloadableConfig.open(file, spec).watch(50)) {
+            Files.writeString(file, "limit = 42\n");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (limit.get() != 42 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(42, limit.get());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.archive.ArchiveIndex;
+import com.example.modular_multi_loader_template.utils.functions.logging.archive.BlockCompressAction;
+import com.example.modular_multi_loader_template.utils.functions.logging.archive.IndexedArchiveReader;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArchiveIndexTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCompressedBlocksRemainValidGzip() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            content.append("[12:00:00.000] [INFO]: Line ").append(i).append('\n');
+        }
+        Path source = directory.resolve("2024-05-01_12-00-00.log");
+        Files.writeString(source, content);
+
+        Path archive = BlockCompressAction.compress(source, 16 * 1024);
+        ArchiveIndex index = ArchiveIndex.read(archive);
+        assertTrue(index.blocks().size() > 1);
+        assertEquals(Files.size(source), index.blocks().stream().mapToLong(ArchiveIndex.Block::length).sum());
+
+        // Concatenated members decompress as one stream with standard tools.
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archive))) {
+            assertEquals(content.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // Blocks without a recorded time range are always selected.
+        try (IndexedArchiveReader reader = IndexedArchiveReader.open(archive);
+             InputStream in = reader.openRange(0, 1, Level.ERROR)) {
+            assertEquals(content.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testSelectByTimeAndLevel() throws Exception {
+        int[] infoOnly = new int[ArchiveIndex.LEVELS];
+        infoOnly[ArchiveIndex.levelSlot(Level.INFO.intLevel())] = 10;
+        int[] withError = new int[ArchiveIndex.LEVELS];
+        withError[ArchiveIndex.levelSlot(Level.ERROR.intLevel())] = 1;
+
+        ArchiveIndex index = new ArchiveIndex(List.of(
+                new ArchiveIndex.Block(0, 100, 0, 50, 1_000, 1_999, infoOnly),
+                new ArchiveIndex.Block(100, 100, 50, 50, 2_000, 2_999, withError),
+                new ArchiveIndex.Block(200, 100, 100, 50, 3_000, 3_999, infoOnly)));
+        Path archive = directory.resolve("test.log.gz");
+        index.write(archive);
+
+        ArchiveIndex read = ArchiveIndex.read(archive);
+        assertEquals(3, read.blocks().size());
+        assertEquals(2_000, read.blocks().get(1).firstTimestamp());
+        assertArrayEquals(withError, read.blocks().get(1).levelCounts());
+
+        List<Long> offsets = new ArrayList<>();
+        read.blocksBetween(1_500, 2_500).forEach(block -> offsets.add(block.offset()));
+        assertEquals(List.of(0L, 100L), offsets);
+
+        assertFalse(read.blocks().get(0).containsLevel(Level.WARN.intLevel()));
+        assertTrue(read.blocks().get(1).containsLevel(Level.WARN.intLevel()));
+        assertTrue(read.blocks().get(2).containsLevel(Level.DEBUG.intLevel()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLayout;
+import com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLogReader;
+import com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLogRecord;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.message.ReusableObjectMessage;
+import org.apache.logging.log4j.message.ReusableParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.message.StringFormattedMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryLogFormatTest {
+    @TempDir
+    Path directory;
+
+    private static LogEvent event(String logger, Level level, long time, Message message) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(logger)
+                .setLevel(level)
+                .setThreadName("Server thread")
+                .setTimeMillis(time)
+                .setMessage(message)
+                .build();
+    }
+
+    private List<BinaryLogRecord> roundTrip(LogEvent... events) throws IOException {
+        BinaryLayout layout = new BinaryLayout(null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        for (LogEvent event : events) {
+            out.write(layout.toByteArray(event));
+        }
+        Path file = directory.resolve("round-trip.blog");
+        Files.write(file, out.toByteArray());
+
+        List<BinaryLogRecord> records = new ArrayList<>();
+        try (BinaryLogReader reader = BinaryLogReader.open(file)) {
+            reader.forEach(BinaryLogReader.Query.all(), records::add);
+        }
+        return records;
+    }
+
+    // Copies the event the way the ring buffer appender does, with room for swapped parameters.
+    private static LogEvent mutableCopy(LogEvent event) {
+        MutableLogEvent copy = new MutableLogEvent(new StringBuilder(), new Object[10]);
+        copy.initFrom(event);
+        return copy;
+    }
+
+    @Test
+    void testOnlyParameterizedMessagesAreStoredAsTemplates() throws IOException {
+        ReusableMessageFactory factory = new ReusableMessageFactory();
+        Message reusable = factory.newMessage("Player {} left after {} min", "Alex", 42);
+        Message object = factory.newMessage((Object) "Progress {} done");
+        assertInstanceOf(ReusableParameterizedMessage.class, reusable);
+        assertInstanceOf(ReusableObjectMessage.class, object);
+
+        List<BinaryLogRecord> records = roundTrip(
+                event("Perf", Level.INFO, 1_000, new StringFormattedMessage("Chunk %s took %d ms", "0,0", 25)),
+                event("Perf", Level.INFO, 1_001, new StringFormattedMessage("Saved %.1f%%", 99.5)),
+                mutableCopy(event("Network", Level.INFO, 1_002, reusable)),
+                mutableCopy(event("Network", Level.INFO, 1_003, object)));
+
+        assertEquals("Chunk 0,0 took 25 ms", records.get(0).formattedMessage());
+        assertNull(records.get(0).template());
+        assertEquals("Saved 99.5%", records.get(1).formattedMessage());
+        assertEquals("Player Alex left after 42 min", records.get(2).formattedMessage());
+        assertEquals("Player {} left after {} min", records.get(2).template());
+        assertEquals("Progress {} done", records.get(3).formattedMessage());
+        assertNull(records.get(3).template());
+    }
+
+    @Test
+    void testRoundTripAndFilter() throws Exception {
+        BinaryLayout layout = new BinaryLayout(null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(event("Network", Level.INFO, 1_000, new ParameterizedMessage("Player {} joined", "Steve"))));
+        out.write(layout.toByteArray(event("Network", Level.WARN, 2_000, new ParameterizedMessage("Player {} lagged {} ms", "Steve", 250))));
+        out.write(layout.toByteArray(event("Storage", Level.ERROR, 3_000, new SimpleMessage("Disk full"))));
+        Path file = directory.resolve("test.blog");
+        Files.write(file, out.toByteArray());
+
+        List<BinaryLogRecord> all = new ArrayList<>();
+        try (BinaryLogReader reader = BinaryLogReader.open(file)) {
+            reader.forEach(BinaryLogReader.Query.all(), all::add);
+        }
+        assertEquals(3, all.size());
+        assertEquals("Player Steve joined", all.get(0).formattedMessage());
+        assertEquals("Player Steve lagged 250 ms", all.get(1).formattedMessage());
+        assertEquals(2_000, all.get(1).timeMillis());
+        assertEquals("Disk full", all.get(2).formattedMessage());
+
+        List<BinaryLogRecord> warnings = new ArrayList<>();
+        try (BinaryLogReader reader = BinaryLogReader.open(file)) {
+            reader.forEach(BinaryLogReader.Query.all().atLeast(Level.WARN).logger("Net"), warnings::add);
+        }
+        assertEquals(1, warnings.size());
+        assertEquals("WARN", warnings.get(0).level());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.BootstrapAppender;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BootstrapAppenderTest {
+    private static LogEvent event(String message) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("Test")
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage(message))
+                .build();
+    }
+
+    @Test
+    void testBufferedEventsAreReplayedInOrder() throws InterruptedException {
+        BootstrapAppender appender = new BootstrapAppender("Bootstrap", 100);
+        appender.start();
+        for (int i = 0; i < 10; i++) {
+            appender.append(event("message " + i));
+        }
+
+        RecordingAppender target = new RecordingAppender();
+        appender.activate(List.of(target));
+        appender.append(event("message 10"));
+
+        assertTrue(appender.awaitReady(1, TimeUnit.SECONDS));
+        assertEquals(IntStream.rangeClosed(0, 10).mapToObj(i -> "message " + i).toList(), target.messages);
+    }
+
+    @Test
+    void testEventsLoggedDuringActivationDoNotOvertakeBufferedOnes() throws InterruptedException {
+        int events = 20_000;
+        for (int round = 0; round < 20; round++) {
+            BootstrapAppender appender = new BootstrapAppender("Bootstrap", events);
+            appender.start();
+            RecordingAppender target = new RecordingAppender();
+
+            // One thread keeps logging while another activates the chain somewhere in the middle.
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < events; i++) {
+                    appender.append(event(Integer.toString(i)));
+                }
+            });
+            producer.start();
+            Thread.sleep(1);
+            appender.activate(List.of(target));
+            producer.join();
+
+            assertEquals(events, target.messages.size());
+            for (int i = 0; i < events; i++) {
+                assertEquals(Integer.toString(i), target.messages.get(i), "round " + round);
+            }
+        }
+    }
+
+    @Test
+    void testEventsBeyondCapacityAreDropped() {
+        BootstrapAppender appender = new BootstrapAppender("Bootstrap", 3);
+        appender.start();
+        for (int i = 0; i < 5; i++) {
+            appender.append(event("message " + i));
+        }
+
+        RecordingAppender target = new RecordingAppender();
+        appender.activate(List.of(target));
+
+        assertEquals(List.of("message 0", "message 1", "message 2"), target.messages);
+    }
+
+    private static final class RecordingAppender extends AbstractAppender {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        RecordingAppender() {
+            super("Recording", null, null, true, Property.EMPTY_ARRAY);
+            start();
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            this.messages.add(event.getMessage().getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.FlightRecorderAppender;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderAppenderTest {
+    @TempDir
+    Path directory;
+
+    private final RecordingAppender target = new RecordingAppender();
+
+    private static LogEvent event(Level level, String message) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("Test")
+                .setLevel(level)
+                .setMessage(new SimpleMessage(message))
+                .build();
+    }
+
+    private FlightRecorderAppender recorder(int capacity, int maxDumps) {
+        PatternLayout layout = PatternLayout.newBuilder().withCharset(StandardCharsets.UTF_8).withPattern("%level %m%n").build();
+        FlightRecorderAppender recorder = new FlightRecorderAppender("Recorder", null, layout, List.of(this.target),
+                capacity, Level.INFO, Level.WARN, this.directory, "test", maxDumps);
+        recorder.start();
+        return recorder;
+    }
+
+    private List<Path> dumps() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    void testEventsBelowRecordLevelAreOnlyKeptInMemory() throws IOException {
+        FlightRecorderAppender recorder = recorder(10, 10);
+        recorder.append(event(Level.DEBUG, "debug"));
+        recorder.append(event(Level.TRACE, "trace"));
+        recorder.append(event(Level.INFO, "info"));
+
+        assertEquals(List.of("info"), this.target.messages);
+        assertEquals(2, recorder.size());
+        assertEquals(List.of(), dumps());
+    }
+
+    @Test
+    void testRingKeepsTheNewestEvents() throws IOException {
+        FlightRecorderAppender recorder = recorder(3, 10);
+        for (int i = 0; i < 5; i++) {
+            recorder.append(event(Level.DEBUG, "event " + i));
+        }
+        assertEquals(3, recorder.size());
+
+        Path dump = recorder.dump("test");
+        assertEquals("Flight recorder dump (test), last 3 event(s):\nDEBUG event 2\nDEBUG event 3\nDEBUG event 4\n",
+                Files.readString(dump));
+        assertEquals(0, recorder.size());
+    }
+
+    @Test
+    void testWarningDumpsTheRingOncePerCooldown() throws IOException {
+        FlightRecorderAppender recorder = recorder(10, 10);
+        recorder.append(event(Level.DEBUG, "before"));
+        recorder.append(event(Level.WARN, "problem"));
+
+        List<Path> dumps = dumps();
+        assertEquals(1, dumps.size());
+        assertEquals("Flight recorder dump (WARN from Test), last 1 event(s):\nDEBUG before\nTriggered by:\nWARN problem\n",
+                Files.readString(dumps.get(0)));
+        assertEquals(List.of("problem"), this.target.messages);
+
+        // Within the cooldown, events keep accumulating instead of producing another file.
+        recorder.append(event(Level.DEBUG, "after"));
+        recorder.append(event(Level.ERROR, "again"));
+        assertEquals(1, dumps().size());
+        assertEquals(1, recorder.size());
+    }
+
+    @Test
+    void testDumpsInTheSameMillisecondDoNotOverwriteEachOther() throws IOException {
+        FlightRecorderAppender recorder = recorder(10, 10);
+        Path first = recorder.dump("first");
+        Path second = recorder.dump("second");
+        Path third = recorder.dump("third");
+
+        assertEquals(List.of(first, second, third), dumps());
+        assertTrue(Files.readString(first).contains("(first)"));
+        assertTrue(Files.readString(third).contains("(third)"));
+    }
+
+    @Test
+    void testOnlyTheNewestDumpsAreKept() throws IOException {
+        FlightRecorderAppender recorder = recorder(10, 2);
+        for (int i = 0; i < 5; i++) {
+            recorder.dump("dump " + i);
+        }
+
+        List<Path> dumps = dumps();
+        assertEquals(2, dumps.size());
+        assertTrue(Files.readString(dumps.get(0)).contains("(dump 3)"));
+        assertTrue(Files.readString(dumps.get(1)).contains("(dump 4)"));
+    }
+
+    private static final class RecordingAppender extends AbstractAppender {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        RecordingAppender() {
+            super("Recording", null, null, true, Property.EMPTY_ARRAY);
+            start();
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            this.messages.add(event.getMessage().getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.api.platform.Services;
+import com.example.modular_multi_loader_template.api.platform.diagnostics.ServiceLoadEvent;
+import com.example.modular_multi_loader_template.utils.functions.logging.PersistentLogger;
+import com.example.modular_multi_loader_template.utils.functions.logging.PersistentLoggerBatch;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.MappedRollingFileAppender;
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogRolloverEvent;
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogWriteEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderEventsTest {
+    @TempDir
+    Path directory;
+
+    // Records the given events while the action runs and returns them.
+    private List<RecordedEvent> record(String event, Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(event);
+            recording.start();
+            action.run();
+            recording.stop();
+
+            Path file = this.directory.resolve("events.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    @Test
+    void testSynchronousWritesEmitLogWriteEvents() throws IOException {
+        new PersistentLoggerBatch()
+                .add(new PersistentLogger()
+                        .setLoggerName("JfrSync")
+                        .setLogDirectory("JfrTest")
+                        .setAppVersion("1.0")
+                        .setJavaCompatibility("21", "JAVA_21", "JAVA_21", "ASM9")
+                        .attachConsoleLogging(false))
+                .build();
+        // The first event may roll over a file left by an earlier run, which resets the byte count.
+        LogManager.getLogger("JfrSync").info("start");
+
+        List<RecordedEvent> events = record(LogWriteEvent.NAME, () -> {
+            LogManager.getLogger("JfrSync").info("first");
+            LogManager.getLogger("JfrSync").info("second");
+        });
+
+        assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            assertEquals("JfrSync MeteredAppender", event.getString("appender"));
+            assertEquals(1, event.getInt("events"));
+            assertTrue(event.getLong("bytes") > 0);
+        }
+    }
+
+    @Test
+    void testRolloverEmitsLogRolloverEvent() throws IOException {
+        PatternLayout layout = PatternLayout.newBuilder().withCharset(StandardCharsets.UTF_8).withPattern("%m%n").build();
+        MappedRollingFileAppender appender = new MappedRollingFileAppender("Mapped", null, layout,
+                this.directory.resolve("Test.log"), 4096, 100, 5, false);
+        appender.start();
+
+        List<RecordedEvent> events = record(LogRolloverEvent.NAME, () -> {
+            for (int i = 0; i < 10; i++) {
+                appender.append(Log4jLogEvent.newBuilder()
+                        .setLoggerName("Test")
+                        .setLevel(Level.INFO)
+                        .setMessage(new SimpleMessage("0123456789012345678"))
+                        .build());
+            }
+        });
+        appender.stop(5, TimeUnit.SECONDS);
+
+        assertEquals(2, events.size());
+        assertEquals(100, events.get(0).getLong("bytes"));
+        assertTrue(events.get(0).getString("file").endsWith("Test.log"));
+    }
+
+    @Test
+    void testServiceResolutionEmitsServiceLoadEvent() throws IOException {
+        List<RecordedEvent> events = record(ServiceLoadEvent.NAME, () -> Services.load(Probe.class)).stream()
+                .filter(event -> event.getClass("service").getName().equals(Probe.class.getName()))
+                .toList();
+
+        assertEquals(1, events.size());
+        assertEquals(Probe.class.getName(), events.get(0).getClass("service").getName());
+        assertEquals(ProbeProvider.class.getName(), events.get(0).getClass("provider").getName());
+        assertEquals(1, events.get(0).getInt("candidates"));
+    }
+
+    /**
+     * Service only resolved by this test, so it is not cached yet.
+     */
+    public interface Probe {
+    }
+
+    public static class ProbeProvider implements Probe {
+    }
+}
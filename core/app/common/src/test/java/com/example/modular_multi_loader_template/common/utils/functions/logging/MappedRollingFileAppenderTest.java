@@ -0,0 +1,89 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.MappedRollingFileAppender;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedRollingFileAppenderTest {
+    private static LogEvent event(String message) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("Test")
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage(message))
+                .build();
+    }
+
+    private static MappedRollingFileAppender appender(Path file, boolean rollOnStart) {
+        PatternLayout layout = PatternLayout.newBuilder()
+                .withCharset(StandardCharsets.UTF_8)
+                .withPattern("%m%n")
+                .withHeader("header%n")
+                .build();
+        MappedRollingFileAppender appender = new MappedRollingFileAppender("Mapped", null, layout, file, 4096, 0, 5, rollOnStart);
+        appender.start();
+        return appender;
+    }
+
+    @Test
+    void testStopLeavesExactContent(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("Test.log");
+        MappedRollingFileAppender appender = appender(file, false);
+        appender.append(event("first"));
+        appender.append(event("second"));
+        appender.stop(5, TimeUnit.SECONDS);
+
+        byte[] content = Files.readAllBytes(file);
+        assertEquals("header\nfirst\nsecond\n", new String(content, StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n"));
+        assertNotEquals(0, content[content.length - 1], "The mapped padding should be truncated away");
+    }
+
+    @Test
+    void testRegionsAreContiguous(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("Test.log");
+        MappedRollingFileAppender appender = appender(file, false);
+        StringBuilder expected = new StringBuilder("header\n");
+        for (int i = 0; i < 1_000; i++) {
+            appender.append(event("line " + i));
+            expected.append("line ").append(i).append('\n');
+        }
+        appender.stop(5, TimeUnit.SECONDS);
+
+        String content = Files.readString(file).replace(System.lineSeparator(), "\n");
+        assertEquals(expected.toString(), content);
+    }
+
+    @Test
+    void testRollOnStartMovesPreviousRun(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("Test.log");
+        MappedRollingFileAppender first = appender(file, true);
+        first.append(event("previous run"));
+        first.stop(5, TimeUnit.SECONDS);
+
+        MappedRollingFileAppender second = appender(file, true);
+        second.append(event("this run"));
+        second.stop(5, TimeUnit.SECONDS);
+
+        assertEquals("header\nthis run\n", Files.readString(file).replace(System.lineSeparator(), "\n"));
+        try (Stream<Path> files = Files.list(directory)) {
+            List<String> backups = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("Test-backup-")).toList();
+            assertEquals(1, backups.size());
+            assertTrue(backups.get(0).endsWith(".log.gz"));
+        }
+    }
+}
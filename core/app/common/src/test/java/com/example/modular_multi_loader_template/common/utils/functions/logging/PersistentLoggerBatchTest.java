@@ -0,0 +1,159 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.PersistentLogger;
+import com.example.modular_multi_loader_template.utils.functions.logging.PersistentLoggerBatch;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.MeteredAppender;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender;
+import org.apache.logging.log4j.status.StatusData;
+import org.apache.logging.log4j.status.StatusListener;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyChangeListener;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentLoggerBatchTest {
+    private static PersistentLogger definition(String name) {
+        return new PersistentLogger()
+                .setLoggerName(name)
+                .setLogDirectory("BatchTest")
+                .setAppVersion("1.0")
+                .setJavaCompatibility("21", "JAVA_21", "JAVA_21", "ASM9")
+                .attachConsoleLogging(false);
+    }
+
+    // The appenders behind the metered appender every synchronous logger writes through.
+    private static Collection<Appender> appendersOf(String loggerName) {
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+        Collection<Appender> appenders = ctx.getConfiguration().getLoggerConfig(loggerName).getAppenders().values();
+        assertEquals(1, appenders.size());
+        return assertInstanceOf(MeteredAppender.class, appenders.iterator().next()).getAppenders();
+    }
+
+    @Test
+    void testBatchUpdatesLoggersOnce() {
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+        AtomicInteger updates = new AtomicInteger();
+        PropertyChangeListener listener = event -> updates.incrementAndGet();
+        ctx.addPropertyChangeListener(listener);
+        try {
+            PersistentLoggerBatch.Result result = new PersistentLoggerBatch()
+                    .add(definition("BatchOnceA"))
+                    .add(definition("BatchOnceB"))
+                    .add(definition("BatchOnceC"))
+                    .build();
+
+            assertEquals(1, updates.get());
+            assertEquals(List.of("BatchOnceA", "BatchOnceB", "BatchOnceC"), List.copyOf(result.loggers().keySet()));
+            assertEquals(3, result.fileAppenders());
+        } finally {
+            ctx.removePropertyChangeListener(listener);
+        }
+    }
+
+    @Test
+    void testLoggersSharingAFileShareOneAppender() {
+        String pattern = "[dedup] %msg%n";
+        PersistentLoggerBatch.Result result = new PersistentLoggerBatch()
+                .add(definition("DedupA").useSeparateLogFile(false).setCustomLayoutPattern(pattern))
+                .add(definition("DedupB").useSeparateLogFile(false).setCustomLayoutPattern(pattern))
+                .add(definition("DedupSeparate"))
+                .build();
+
+        assertEquals(2, result.fileAppenders());
+        Appender shared = appendersOf("DedupA").iterator().next();
+        assertSame(shared, appendersOf("DedupB").iterator().next());
+        assertNotSame(shared, appendersOf("DedupSeparate").iterator().next());
+
+        // Later batches write through the same appender.
+        new PersistentLoggerBatch().add(definition("DedupLater").useSeparateLogFile(false).setCustomLayoutPattern(pattern)).build();
+        assertSame(shared, appendersOf("DedupLater").iterator().next());
+    }
+
+    @Test
+    void testConflictingSharedSettingsAreReported() {
+        List<String> warnings = new CopyOnWriteArrayList<>();
+        StatusListener listener = new StatusListener() {
+            @Override
+            public void log(StatusData data) {
+                warnings.add(data.getMessage().getFormattedMessage());
+            }
+
+            @Override
+            public Level getStatusLevel() {
+                return Level.WARN;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        StatusLogger.getLogger().registerListener(listener);
+        try {
+            String pattern = "[conflict] %msg%n";
+            new PersistentLoggerBatch()
+                    .add(definition("ConflictA").useSeparateLogFile(false).setCustomLayoutPattern(pattern))
+                    .add(definition("ConflictB").useSeparateLogFile(false).setCustomLayoutPattern(pattern).setMaxBackupFiles(9))
+                    .build();
+
+            assertSame(appendersOf("ConflictA").iterator().next(), appendersOf("ConflictB").iterator().next());
+            assertTrue(warnings.stream().anyMatch(message -> message.startsWith("ConflictB shares the file appender")), warnings::toString);
+        } finally {
+            StatusLogger.getLogger().removeListener(listener);
+        }
+    }
+
+    @Test
+    void testBinaryFormatIsNotMemoryMapped() {
+        PersistentLoggerBatch.Result result = new PersistentLoggerBatch()
+                .add(definition("BinaryMapped").useBinaryFormat(true).useMemoryMappedFile(true))
+                .build();
+
+        assertEquals(1, result.fileAppenders());
+        assertInstanceOf(RollingRandomAccessFileAppender.class, appendersOf("BinaryMapped").iterator().next());
+    }
+
+    @Test
+    void testSynchronousWritesAreMetered() {
+        new PersistentLoggerBatch().add(definition("BatchMetered")).build();
+        LogManager.getLogger("BatchMetered").info("first");
+        LogManager.getLogger("BatchMetered").info("second");
+
+        MetricRegistry metrics = MetricRegistry.global();
+        assertEquals(2, metrics.counter("log_events_total", "Log events written by the appender.",
+                "appender", "BatchMetered MeteredAppender").sum());
+        assertEquals(2, metrics.timer("log_write_seconds", "Time spent writing one log event synchronously.",
+                "appender", "BatchMetered MeteredAppender").snapshot().count());
+    }
+
+    @Test
+    void testRepeatSummariesAreWrittenWhenTheLoggerStops() throws IOException {
+        // Asynchronous, so nothing reaches the file once the ring buffer has stopped.
+        new PersistentLoggerBatch().add(definition("BatchRepeats").setAsync(true).setRepeatSuppression(1, 60_000)).build();
+        for (int i = 0; i < 3; i++) {
+            LogManager.getLogger("BatchRepeats").info("Repeated {}", i);
+        }
+
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+        ctx.getConfiguration().getLoggerConfig("BatchRepeats").stop(5, TimeUnit.SECONDS);
+
+        String log = Files.readString(Path.of("logs", "BatchTest", "BatchRepeats.log"));
+        assertTrue(log.contains("Repeated 0"));
+        assertFalse(log.contains("Repeated 1"));
+        assertTrue(log.contains("Previous message repeated 2 more times: Repeated {}"), log);
+    }
+}
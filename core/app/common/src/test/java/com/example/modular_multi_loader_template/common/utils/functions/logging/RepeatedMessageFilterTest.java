@@ -0,0 +1,108 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.filters.RepeatedMessageFilter;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RepeatedMessageFilterTest {
+    private static LogEvent event(String template, Object parameter, long time, Marker marker) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("Test")
+                .setLevel(Level.WARN)
+                .setMarker(marker)
+                .setMessage(new ParameterizedMessage(template, parameter))
+                .setTimeMillis(time)
+                .build();
+    }
+
+    @Test
+    void testRepeatsAreSuppressedWithinWindow() {
+        RepeatedMessageFilter filter = new RepeatedMessageFilter(64, 3, 1_000, 0, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Filter.Result.NEUTRAL, filter.filter(event("Chunk {} failed", i, 100, null)));
+        }
+        assertEquals(Filter.Result.DENY, filter.filter(event("Chunk {} failed", 3, 200, null)));
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(event("Other {}", 0, 200, null)));
+
+        // A new window lets the message through again.
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(event("Chunk {} failed", 4, 1_200, null)));
+    }
+
+    @Test
+    void testSummariesBypassFilter() {
+        RepeatedMessageFilter filter = new RepeatedMessageFilter(64, 1, 1_000, 0, 0);
+
+        filter.filter(event("Repeated {}", 0, 0, null));
+        assertEquals(Filter.Result.DENY, filter.filter(event("Repeated {}", 0, 0, null)));
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(event("Repeated {}", 0, 0, RepeatedMessageFilter.SUMMARY_MARKER)));
+    }
+
+    @Test
+    void testEvictionKeepsLaterEntriesReachable() {
+        long now = System.currentTimeMillis();
+        // Two slots, so every message probes both; the stale one is evicted by the final sweep in stop().
+        for (String template : new String[]{"Stale {}", "Idle {}", "Old {}", "Gone {}"}) {
+            RepeatedMessageFilter filter = new RepeatedMessageFilter(2, 1, 60_000, 0, 0);
+            filter.filter(event(template, 0, 1, null)); // A time of 0 would be replaced by the current time
+            assertEquals(Filter.Result.NEUTRAL, filter.filter(event("Active {}", 0, now, null)));
+            assertEquals(Filter.Result.DENY, filter.filter(event("Active {}", 0, now, null)));
+
+            filter.stop();
+            assertEquals(Filter.Result.DENY, filter.filter(event("Active {}", 0, now, null)), template);
+            assertEquals(Filter.Result.NEUTRAL, filter.filter(event(template, 0, now, null)), template);
+        }
+    }
+
+    @Test
+    void testRateLimitAllowsBurst() {
+        RepeatedMessageFilter filter = new RepeatedMessageFilter(64, 0, 1_000, 1, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Filter.Result.NEUTRAL, filter.filter(event("Message " + i, i, 0, null)));
+        }
+        assertEquals(Filter.Result.DENY, filter.filter(event("Message 5", 5, 0, null)));
+    }
+
+    @Test
+    void testFinalSummariesGoToTheSummaryTarget() {
+        List<LogEvent> received = new CopyOnWriteArrayList<>();
+        AbstractAppender appender = new AbstractAppender("Recording", null, null, true, Property.EMPTY_ARRAY) {
+            @Override
+            public void append(LogEvent event) {
+                received.add(event.toImmutable());
+            }
+        };
+        appender.start();
+        LoggerConfig target = new LoggerConfig("Test", Level.INFO, false);
+        target.addAppender(appender, null, null);
+
+        RepeatedMessageFilter filter = new RepeatedMessageFilter(64, 1, 60_000, 0, 0);
+        filter.setSummaryTarget(target);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            filter.filter(event("Repeated {}", i, now, null));
+        }
+        filter.stop();
+
+        assertEquals(1, received.size());
+        LogEvent summary = received.get(0);
+        assertEquals("Test", summary.getLoggerName());
+        assertEquals(Level.WARN, summary.getLevel());
+        assertSame(RepeatedMessageFilter.SUMMARY_MARKER, summary.getMarker());
+        assertEquals("Previous message repeated 2 more times: Repeated {}", summary.getMessage().getFormattedMessage());
+    }
+}
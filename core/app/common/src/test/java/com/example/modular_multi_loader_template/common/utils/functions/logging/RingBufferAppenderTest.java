@@ -0,0 +1,164 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.QueueFullPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.RingBufferAppender;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferAppenderTest {
+    private static LogEvent event(Level level, String message) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("Test")
+                .setLevel(level)
+                .setMessage(new SimpleMessage(message))
+                .build();
+    }
+
+    private static RingBufferAppender ring(RecordingAppender target, QueueFullPolicy policy) {
+        RingBufferAppender appender = new RingBufferAppender("Ring-" + policy, null, List.of(target), 4, policy, Level.INFO);
+        appender.start();
+        return appender;
+    }
+
+    // Blocks the consumer on the first event, whose slot stays taken until it returns, then fills the other slots.
+    private static void fill(RingBufferAppender appender, RecordingAppender target) throws InterruptedException {
+        appender.append(event(Level.INFO, "blocker"));
+        assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < appender.getCapacity(); i++) {
+            appender.append(event(Level.INFO, "queued " + i));
+        }
+    }
+
+    @Test
+    void testEventsSurviveWrapAroundInOrder() {
+        RecordingAppender target = new RecordingAppender(null);
+        RingBufferAppender appender = ring(target, QueueFullPolicy.BLOCK);
+
+        for (int i = 0; i < 1_000; i++) {
+            appender.append(event(Level.INFO, "message " + i));
+        }
+        appender.stop(5, TimeUnit.SECONDS);
+
+        assertEquals(IntStream.range(0, 1_000).mapToObj(i -> "message " + i).toList(), target.messages);
+        assertEquals(0, appender.getDroppedCount());
+    }
+
+    @Test
+    void testDiscardDropsWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingAppender target = new RecordingAppender(release);
+        RingBufferAppender appender = ring(target, QueueFullPolicy.DISCARD);
+
+        fill(appender, target);
+        appender.append(event(Level.ERROR, "discarded"));
+        assertEquals(1, appender.getDroppedCount());
+
+        release.countDown();
+        appender.stop(5, TimeUnit.SECONDS);
+        assertEquals(4, target.messages.size());
+        assertFalse(target.messages.contains("discarded"));
+    }
+
+    @Test
+    void testDropBelowLevelKeepsSevereEvents() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingAppender target = new RecordingAppender(release);
+        RingBufferAppender appender = ring(target, QueueFullPolicy.DROP_BELOW_LEVEL);
+
+        fill(appender, target);
+        appender.append(event(Level.DEBUG, "dropped"));
+        assertEquals(1, appender.getDroppedCount());
+
+        Thread producer = new Thread(() -> appender.append(event(Level.WARN, "kept")));
+        producer.start();
+        producer.join(100);
+        assertTrue(producer.isAlive(), "WARN should wait for a free slot");
+
+        release.countDown();
+        producer.join(5_000);
+        assertFalse(producer.isAlive());
+        appender.stop(5, TimeUnit.SECONDS);
+        assertEquals("kept", target.messages.get(target.messages.size() - 1));
+        assertFalse(target.messages.contains("dropped"));
+    }
+
+    @Test
+    void testBlockWaitsForFreeSlot() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingAppender target = new RecordingAppender(release);
+        RingBufferAppender appender = ring(target, QueueFullPolicy.BLOCK);
+
+        fill(appender, target);
+        Thread producer = new Thread(() -> appender.append(event(Level.DEBUG, "waited")));
+        producer.start();
+        producer.join(100);
+        assertTrue(producer.isAlive(), "BLOCK should wait for a free slot");
+
+        release.countDown();
+        producer.join(5_000);
+        appender.stop(5, TimeUnit.SECONDS);
+        assertEquals(5, target.messages.size());
+        assertEquals(0, appender.getDroppedCount());
+    }
+
+    @Test
+    void testStopDrainsPendingEvents() {
+        RecordingAppender target = new RecordingAppender(null);
+        target.delayMillis = 1;
+        RingBufferAppender appender = new RingBufferAppender("Drain", null, List.of(target), 256, QueueFullPolicy.BLOCK, Level.INFO);
+        appender.start();
+
+        for (int i = 0; i < 200; i++) {
+            appender.append(event(Level.INFO, "pending " + i));
+        }
+        appender.stop(0, TimeUnit.MILLISECONDS);
+
+        assertEquals(200, target.messages.size());
+        assertTrue(appender.isStopped());
+    }
+
+    /**
+     * Records forwarded messages; optionally blocks on the first event until released.
+     */
+    private static final class RecordingAppender extends AbstractAppender {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+        volatile long delayMillis;
+
+        RecordingAppender(CountDownLatch release) {
+            super("Recording", null, null, true, Property.EMPTY_ARRAY);
+            this.release = release;
+            start();
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            this.messages.add(event.getMessage().getFormattedMessage());
+            this.entered.countDown();
+            try {
+                if (this.release != null) {
+                    this.release.await();
+                }
+                if (this.delayMillis > 0) {
+                    Thread.sleep(this.delayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.modular_multi_loader_template.common.utils.functions.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.IntervalTriggeringPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.SessionTriggeringPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.SizeTriggeringPolicy;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender;
+import org.apache.logging.log4j.core.appender.rolling.CompositeTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.DefaultRolloverStrategy;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+import org.apache.logging.log4j.core.appender.rolling.TriggeringPolicy;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TriggeringPolicyTest {
+    @TempDir
+    Path directory;
+
+    private static LogEvent event(String message, long time) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("Test")
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage(message))
+                .setTimeMillis(time)
+                .build();
+    }
+
+    private RollingRandomAccessFileAppender appender(TriggeringPolicy policy) {
+        return appender(policy, null);
+    }
+
+    private RollingRandomAccessFileAppender appender(TriggeringPolicy policy, String header) {
+        DefaultConfiguration config = new DefaultConfiguration();
+        RollingRandomAccessFileAppender appender = RollingRandomAccessFileAppender.newBuilder()
+                .withFileName(this.directory.resolve("test.log").toString())
+                .withFilePattern(this.directory.resolve("test-%i.log").toString())
+                .withPolicy(policy)
+                .withStrategy(DefaultRolloverStrategy.newBuilder().withMax("100").withConfig(config).build())
+                .setName("Test")
+                .setImmediateFlush(true)
+                .setLayout(PatternLayout.newBuilder().withCharset(StandardCharsets.UTF_8).withPattern("%m%n").withHeader(header).build())
+                .setConfiguration(config)
+                .build();
+        appender.start();
+        return appender;
+    }
+
+    private long backups() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("test-")).count();
+        }
+    }
+
+    @Test
+    void testSizePolicyRollsAtMaxSize() throws IOException {
+        RollingRandomAccessFileAppender appender = appender(new SizeTriggeringPolicy(100));
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            appender.append(event("0123456789012345678", now)); // 20 bytes with the line break
+        }
+        assertEquals(1, backups());
+        assertEquals(100, Files.size(this.directory.resolve("test-1.log")));
+
+        appender.append(event("0123456789012345678", now));
+        assertEquals(2, backups());
+        appender.stop();
+    }
+
+    @Test
+    void testIntervalPolicyRollsOncePerInterval() throws IOException {
+        RollingRandomAccessFileAppender appender = appender(new IntervalTriggeringPolicy(60_000));
+        long now = System.currentTimeMillis();
+        appender.append(event("first", now));
+        assertEquals(0, backups());
+
+        appender.append(event("next interval", now + 120_000));
+        appender.append(event("same interval", now + 150_000));
+        assertEquals(1, backups());
+
+        appender.append(event("interval after", now + 180_000));
+        assertEquals(2, backups());
+        appender.stop();
+    }
+
+    @Test
+    void testSessionPolicyRollsInsideCompositePolicy() throws IOException {
+        // The composite never starts its children; the session policy must still see new sessions.
+        RollingRandomAccessFileAppender appender = appender(CompositeTriggeringPolicy.createPolicy(
+                new SizeTriggeringPolicy(1 << 20), new SessionTriggeringPolicy()));
+        long now = System.currentTimeMillis();
+        appender.append(event("first", now)); // The file is still empty, so the first session does not roll
+        appender.append(event("second", now));
+        assertEquals(0, backups());
+
+        SessionTriggeringPolicy.startNewSession();
+        appender.append(event("new session", now));
+        appender.append(event("same session", now));
+        assertEquals(1, backups());
+        assertEquals("first\nsecond\n", Files.readString(this.directory.resolve("test-1.log")));
+        appender.stop();
+    }
+
+    @Test
+    void testSessionPolicyDoesNotRollAgainAfterAnotherPolicyRolled() throws IOException {
+        // Like PersistentLogger's separate files: a first-event policy next to the session policy, and a header.
+        Files.writeString(this.directory.resolve("test.log"), "previous run\n");
+        AtomicBoolean first = new AtomicBoolean(true);
+        TriggeringPolicy firstEvent = new TriggeringPolicy() {
+            @Override
+            public void initialize(RollingFileManager manager) {
+            }
+
+            @Override
+            public boolean isTriggeringEvent(LogEvent event) {
+                return first.compareAndSet(true, false);
+            }
+        };
+        RollingRandomAccessFileAppender appender = appender(CompositeTriggeringPolicy.createPolicy(
+                firstEvent, new SessionTriggeringPolicy()), "header%n");
+        long now = System.currentTimeMillis();
+        appender.append(event("first", now));
+        appender.append(event("second", now));
+
+        assertEquals(1, backups());
+        assertEquals("previous run\n", Files.readString(this.directory.resolve("test-1.log")));
+        assertEquals("header\nfirst\nsecond\n", Files.readString(this.directory.resolve("test.log")));
+        appender.stop();
+    }
+}
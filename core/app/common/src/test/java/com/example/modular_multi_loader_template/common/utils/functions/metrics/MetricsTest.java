@@ -0,0 +1,85 @@
+package com.example.modular_multi_loader_template.common.utils.functions.metrics;
+
+import com.example.modular_multi_loader_template.utils.functions.metrics.Counter;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricsExporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testHistogramQuantilesWithinBucketError() {
+        Histogram histogram = new MetricRegistry().histogram("latency", "Test latency.");
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.count());
+        assertEquals(100_000, snapshot.max());
+        assertEquals(50_000.5, snapshot.mean(), 0.001);
+        for (double quantile : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            double exact = quantile * 100_000;
+            long estimate = snapshot.valueAt(quantile);
+            assertTrue(estimate >= exact && estimate <= exact * (1 + 1.0 / Histogram.SUB_BUCKETS),
+                    "q" + quantile + " = " + estimate);
+        }
+        assertEquals(100_000, snapshot.valueAt(1.0));
+    }
+
+    @Test
+    void testHistogramCoversWholeRange() {
+        Histogram histogram = new MetricRegistry().histogram("range", "Test range.");
+        histogram.record(-5);
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(3, snapshot.count());
+        assertEquals(0, snapshot.valueAt(0.5));
+        assertEquals(Long.MAX_VALUE, snapshot.valueAt(1.0));
+    }
+
+    @Test
+    void testRegistryReturnsSameInstance() {
+        MetricRegistry registry = new MetricRegistry();
+        Counter first = registry.counter("events_total", "Events.", "source", "a");
+        assertSame(first, registry.counter("events_total", "Events.", "source", "a"));
+        assertNotSame(first, registry.counter("events_total", "Events.", "source", "b"));
+        assertThrows(IllegalArgumentException.class, () -> registry.timer("events_total", "Events."));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("odd_total", "Odd.", "label"));
+    }
+
+    @Test
+    void testPrometheusExport() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        registry.counter("events_total", "Events.", "source", "a\"b").add(3);
+        registry.gauge("mods", "Mods.", () -> 42);
+        registry.timer("load_seconds", "Load time.").record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        Path file = directory.resolve("metrics.prom");
+        try (MetricsExporter exporter = MetricsExporter.start(registry, file, MetricsExporter.Format.PROMETHEUS,
+                "test_", 1, TimeUnit.HOURS)) {
+            exporter.writeNow();
+        }
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("# TYPE test_events_total counter\n"));
+        assertTrue(text.contains("test_events_total{source=\"a\\\"b\"} 3\n"));
+        assertTrue(text.contains("test_mods 42\n"));
+        assertTrue(text.contains("# TYPE test_load_seconds summary\n"));
+        assertTrue(text.contains("test_load_seconds_count 1\n"));
+        assertTrue(text.contains("test_load_seconds{quantile=\"0.5\"} 0.002"));
+        assertFalse(Files.exists(directory.resolve("metrics.prom.tmp")));
+    }
+}
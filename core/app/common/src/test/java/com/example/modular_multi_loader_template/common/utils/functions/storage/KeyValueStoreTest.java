@@ -0,0 +1,134 @@
+package com.example.modular_multi_loader_template.common.utils.functions.storage;
+
+import com.example.modular_multi_loader_template.utils.functions.storage.KeyValueStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyValueStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testValuesSurviveReopen() throws Exception {
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            store.putString("spawn", "0,64,0");
+            store.putString("time", "6000");
+            store.putString("time", "7000");
+            store.put("empty", new byte[0]);
+            assertTrue(store.delete("spawn"));
+            assertFalse(store.delete("missing"));
+            store.flush();
+        }
+
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            assertNull(store.get("spawn"));
+            assertEquals("7000", store.getString("time"));
+            assertArrayEquals(new byte[0], store.get("empty"));
+            assertEquals(Set.of("time", "empty"), store.keys());
+        }
+    }
+
+    @Test
+    void testTornRecordIsDiscarded() throws Exception {
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            store.putString("a", "1");
+            store.putString("b", "2");
+        }
+
+        // Simulate a crash in the middle of appending the next record.
+        Path segment = segments().get(0);
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0x12, 0x34, 0, 0, 0, 1, 0}, StandardOpenOption.APPEND);
+
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            assertEquals("1", store.getString("a"));
+            assertEquals("2", store.getString("b"));
+            assertEquals(validSize, Files.size(segment));
+            store.putString("c", "3");
+        }
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            assertEquals("3", store.getString("c"));
+        }
+    }
+
+    @Test
+    void testCompactionKeepsLatestValues() throws Exception {
+        try (KeyValueStore store = KeyValueStore.at(directory).setMaxSegmentSize(4096).setMinCompactionBytes(Long.MAX_VALUE).open()) {
+            for (int round = 0; round < 50; round++) {
+                for (int key = 0; key < 20; key++) {
+                    store.putString("key" + key, "round " + round);
+                }
+            }
+            store.delete("key0");
+            assertTrue(segments().size() > 2);
+            assertTrue(store.getGarbageRatio() > 0.9);
+
+            store.compact();
+            assertEquals(0, store.getGarbageRatio(), 0.01);
+            assertEquals("round 49", store.getString("key19"));
+            store.putString("key1", "after");
+        }
+
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            assertEquals(19, store.size());
+            assertNull(store.get("key0"));
+            assertEquals("after", store.getString("key1"));
+            assertEquals("round 49", store.getString("key2"));
+        }
+        assertTrue(segments().size() <= 3);
+    }
+
+    @Test
+    void testReadsSeeRecordsAppendedAfterMapping() throws Exception {
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            for (int i = 0; i < 2000; i++) {
+                store.putString("key" + i, "value " + i);
+                assertEquals("value " + i, store.getString("key" + i));
+                assertEquals("value " + i / 2, store.getString("key" + i / 2));
+            }
+        }
+    }
+
+    @Test
+    void testCompactionOutputIsSplitAtMaxSegmentSize() throws Exception {
+        String padding = "x".repeat(100);
+        try (KeyValueStore store = KeyValueStore.at(directory).setMaxSegmentSize(4096).setMinCompactionBytes(Long.MAX_VALUE).open()) {
+            for (int round = 0; round < 3; round++) {
+                for (int key = 0; key < 200; key++) {
+                    store.putString("key" + key, round + padding);
+                }
+            }
+
+            store.compact();
+            List<Path> outputs = segments().stream().filter(file -> !file.getFileName().toString().contains(".0.")).toList();
+            assertTrue(outputs.size() > 1, outputs::toString);
+            for (Path output : outputs) {
+                assertTrue(Files.size(output) <= 4096, output::toString);
+            }
+            assertEquals(0, store.getGarbageRatio(), 0.01);
+            assertEquals("2" + padding, store.getString("key0"));
+        }
+
+        try (KeyValueStore store = KeyValueStore.at(directory).open()) {
+            assertEquals(200, store.size());
+            for (int key = 0; key < 200; key++) {
+                assertEquals("2" + padding, store.getString("key" + key));
+            }
+        }
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".kvs")).sorted().toList();
+        }
+    }
+}
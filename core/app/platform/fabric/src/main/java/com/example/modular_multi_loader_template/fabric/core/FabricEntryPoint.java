@@ -1,12 +1,16 @@
 package com.example.modular_multi_loader_template.fabric.core;
 
 import com.example.modular_multi_loader_template.common.core.MainEntrypoint;
+import com.example.modular_multi_loader_template.common.profiling.StartupProfiler;
 import net.fabricmc.api.ModInitializer;
 
 public class FabricEntryPoint implements ModInitializer {
     @Override
     public void onInitialize()    {
         // Initialization code
-        MainEntrypoint.initialize();
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("FabricEntryPoint")) {
+            MainEntrypoint.initialize();
+        }
+        MainEntrypoint.finishStartupProfile();
     }
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package com.example.modular_multi_loader_template.fabric.platform;
 
 import com.example.modular_multi_loader_template.api.platform.services.IClientHelper;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 
 public class FabricClient implements IClientHelper {
+    @Override
+    public void registerTickListener(Runnable listener) {
+        ClientTickEvents.END_CLIENT_TICK.register(client -> listener.run());
+    }
 }
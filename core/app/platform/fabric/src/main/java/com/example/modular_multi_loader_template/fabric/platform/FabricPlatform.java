@@ -1,10 +1,16 @@
 package com.example.modular_multi_loader_template.fabric.platform;
 
+import com.example.modular_multi_loader_template.api.platform.PlatformSnapshot;
+import com.example.modular_multi_loader_template.api.platform.mods.ModMetadataParser;
+import com.example.modular_multi_loader_template.api.platform.mods.ModRegistry;
 import com.example.modular_multi_loader_template.api.platform.services.IPlatformHelper;
 import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+import com.example.modular_multi_loader_template.common.platform.ModExtractionEngine;
+import com.example.modular_multi_loader_template.common.platform.StringInterner;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
 import net.fabricmc.loader.api.metadata.ModEnvironment;
 import net.fabricmc.loader.api.metadata.Person;
 import net.fabricmc.loader.impl.FabricLoaderImpl;
@@ -12,7 +18,6 @@ import net.minecraft.Util;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link IPlatformHelper} for the Fabric mod loader.
@@ -23,6 +28,31 @@ import java.util.stream.Collectors;
  */
 public class FabricPlatform implements IPlatformHelper {
 
+    /**
+     * Cached registry of running mods, shared by every {@link PlatformInfo} this helper creates.
+     */
+    private final ModRegistry modRegistry = new ModRegistry(this::fetchRunningMods);
+
+    /**
+     * Converts mod containers to {@link PlatformInfo} mod entries, in parallel for large mod lists.
+     */
+    private final ModExtractionEngine extractionEngine = new ModExtractionEngine();
+
+    /**
+     * Cached platform information; static facts are gathered only once.
+     */
+    private final PlatformSnapshot snapshot = new PlatformSnapshot(this::createInfo);
+
+    /**
+     * Returns the cached platform information for Fabric.
+     *
+     * @return the cached {@link PlatformInfo}.
+     */
+    @Override
+    public com.example.modular_multi_loader_template.api.platform.types.PlatformInfo getInfo() {
+        return this.snapshot.get();
+    }
+
     /**
      * Retrieves platform information specific to Fabric.
      *
@@ -30,8 +60,7 @@ public class FabricPlatform implements IPlatformHelper {
      *         including the Fabric version, game version, game directory,
      *         development environment flag, mod list supplier, and operating system.
      */
-    @Override
-    public com.example.modular_multi_loader_template.api.platform.types.PlatformInfo getInfo() {
+    private com.example.modular_multi_loader_template.api.platform.types.PlatformInfo createInfo() {
         final FabricLoader fabricLoader = FabricLoader.getInstance();
         return new PlatformInfo(
                 com.example.modular_multi_loader_template.api.platform.types.Platform.Fabric,
@@ -40,7 +69,7 @@ public class FabricPlatform implements IPlatformHelper {
                 fabricLoader.getGameDir(),
                 fabricLoader.isDevelopmentEnvironment(),
                 getEnvironment(fabricLoader.getEnvironmentType()),
-                this::fetchRunningMods,
+                this.modRegistry,
                 getOperatingSystem()
         );
     }
@@ -57,27 +86,36 @@ public class FabricPlatform implements IPlatformHelper {
 
     /**
      * Fetches a list of all running mods and converts them to {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo} objects.
+     * <p>
+     * Large mod lists are converted in parallel by the {@link ModExtractionEngine}.
+     * </p>
      *
      * @return a list of {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo} objects representing each loaded mod.
      */
     private List<com.example.modular_multi_loader_template.api.platform.types.ModInfo> fetchRunningMods() {
-        final FabricLoader fabricLoader = FabricLoader.getInstance();
-        return fabricLoader.getAllMods().stream()
-                .map(modContainer -> {
-                    final var metadata = modContainer.getMetadata();
-                    return new com.example.modular_multi_loader_template.api.platform.types.ModInfo(
-                            metadata.getId(),
-                            metadata.getName(),
-                            metadata.getType().equals("builtin") ? com.example.modular_multi_loader_template.api.platform.types.Platform.Builtin : com.example.modular_multi_loader_template.api.platform.types.Platform.Fabric,
-                            metadata.getVersion().getFriendlyString(),
-                            metadata.getDescription(),
-                            getModEnvironment(metadata.getEnvironment()),
-                            extractNames(metadata.getAuthors()),
-                            extractNames(metadata.getContributors()),
-                            metadata.getLicense()
-                    );
-                })
-                .collect(Collectors.toList());
+        return this.extractionEngine.extract(FabricLoader.getInstance().getAllMods(), this::toModInfo);
+    }
+
+    /**
+     * Converts a single Fabric {@link ModContainer} to a {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo}.
+     *
+     * @param modContainer the Fabric mod container.
+     * @param interner     the intern table for repeated names and licenses.
+     * @return the converted {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo}.
+     */
+    private com.example.modular_multi_loader_template.api.platform.types.ModInfo toModInfo(ModContainer modContainer, StringInterner interner) {
+        final var metadata = modContainer.getMetadata();
+        return new com.example.modular_multi_loader_template.api.platform.types.ModInfo(
+                metadata.getId(),
+                metadata.getName(),
+                metadata.getType().equals("builtin") ? com.example.modular_multi_loader_template.api.platform.types.Platform.Builtin : com.example.modular_multi_loader_template.api.platform.types.Platform.Fabric,
+                metadata.getVersion().getFriendlyString(),
+                metadata.getDescription(),
+                getModEnvironment(metadata.getEnvironment()),
+                extractNames(metadata.getAuthors(), interner),
+                extractNames(metadata.getContributors(), interner),
+                ModMetadataParser.copyNames(metadata.getLicense(), interner)
+        );
     }
 
     /**
@@ -113,12 +151,19 @@ public class FabricPlatform implements IPlatformHelper {
     /**
      * Extracts the names from a collection of {@link Person} objects.
      *
-     * @param people a collection of {@link Person} objects (e.g., mod authors or contributors)
+     * @param people   a collection of {@link Person} objects (e.g., mod authors or contributors)
+     * @param interner the intern table for repeated names.
      * @return a list of names extracted from the provided collection.
      */
-    private List<String> extractNames(Collection<Person> people) {
-        return people.stream()
-                .map(Person::getName)
-                .collect(Collectors.toList());
+    private List<String> extractNames(Collection<Person> people, StringInterner interner) {
+        if (people.isEmpty()) {
+            return List.of();
+        }
+        String[] names = new String[people.size()];
+        int index = 0;
+        for (Person person : people) {
+            names[index++] = interner.intern(person.getName());
+        }
+        return List.of(names);
     }
 }
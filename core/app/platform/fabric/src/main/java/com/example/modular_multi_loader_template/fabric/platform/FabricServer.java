@@ -1,6 +1,52 @@
 package com.example.modular_multi_loader_template.fabric.platform;
 
 import com.example.modular_multi_loader_template.api.platform.services.IServerHelper;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
 
 public class FabricServer implements IServerHelper {
+    @Override
+    public void registerTickListener(Runnable listener) {
+        ServerTickEvents.END_SERVER_TICK.register(server -> listener.run());
+    }
+
+    @Override
+    public void registerServerStartingListener(Runnable listener) {
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> listener.run());
+    }
+
+    @Override
+    public void registerWorldLoadListener(Consumer<Path> listener) {
+        ServerWorldEvents.LOAD.register((server, level) -> {
+            if (level.dimension() == Level.OVERWORLD) {
+                listener.accept(worldDirectory(server));
+            }
+        });
+    }
+
+    @Override
+    public void registerWorldSaveListener(Consumer<Path> listener) {
+        ServerLifecycleEvents.AFTER_SAVE.register((server, flush, force) -> listener.accept(worldDirectory(server)));
+    }
+
+    @Override
+    public void registerWorldUnloadListener(Consumer<Path> listener) {
+        ServerWorldEvents.UNLOAD.register((server, level) -> {
+            if (level.dimension() == Level.OVERWORLD) {
+                listener.accept(worldDirectory(server));
+            }
+        });
+    }
+
+    // The directory of the running save, e.g. saves/New World on the integrated server or world on a dedicated one
+    private static Path worldDirectory(MinecraftServer server) {
+        return server.getWorldPath(LevelResource.ROOT).toAbsolutePath().normalize();
+    }
 }
@@ -2,6 +2,7 @@ package com.example.modular_multi_loader_template.forge.core;
 
 import com.example.modular_multi_loader_template.common.shared.Constants;
 import com.example.modular_multi_loader_template.common.core.MainEntrypoint;
+import com.example.modular_multi_loader_template.common.profiling.StartupProfiler;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 
@@ -9,6 +10,9 @@ import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 public class ForgeEntryPoint {
     public ForgeEntryPoint(FMLJavaModLoadingContext context)    {
         // Initialization code
-        MainEntrypoint.initialize();
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("ForgeEntryPoint")) {
+            MainEntrypoint.initialize();
+        }
+        MainEntrypoint.finishStartupProfile();
     }
 }
\ No newline at end of file
@@ -1,6 +1,16 @@
 package com.example.modular_multi_loader_template.forge.platform;
 
 import com.example.modular_multi_loader_template.api.platform.services.IClientHelper;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
 
 public class ForgeClient implements IClientHelper {
+    @Override
+    public void registerTickListener(Runnable listener) {
+        MinecraftForge.EVENT_BUS.addListener((TickEvent.ClientTickEvent event) -> {
+            if (event.phase == TickEvent.Phase.END) {
+                listener.run();
+            }
+        });
+    }
 }
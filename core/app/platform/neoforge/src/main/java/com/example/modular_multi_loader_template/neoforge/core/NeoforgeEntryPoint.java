@@ -2,15 +2,20 @@ package com.example.modular_multi_loader_template.neoforge.core;
 
 import com.example.modular_multi_loader_template.common.shared.Constants;
 import com.example.modular_multi_loader_template.common.core.MainEntrypoint;
+import com.example.modular_multi_loader_template.common.profiling.StartupProfiler;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
 
 @Mod(Constants.PROJECT_ID)
 public class NeoforgeEntryPoint {
     public NeoforgeEntryPoint(IEventBus modBus) {
-        Constants.LOG.info("NeoForge Loaded!");
+        try (StartupProfiler.Phase phase = StartupProfiler.begin("NeoforgeEntryPoint")) {
+            // Initialization code
+            MainEntrypoint.initialize();
 
-        // Initialization code
-        MainEntrypoint.initialize();
+            // Logged after initialization, so the logger is first touched inside its own "Logger" phase.
+            Constants.LOG.info("NeoForge Loaded!");
+        }
+        MainEntrypoint.finishStartupProfile();
     }
 }
\ No newline at end of file
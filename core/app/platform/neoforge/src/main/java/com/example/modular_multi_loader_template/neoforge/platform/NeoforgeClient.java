@@ -1,6 +1,12 @@
 package com.example.modular_multi_loader_template.neoforge.platform;
 
 import com.example.modular_multi_loader_template.api.platform.services.IClientHelper;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.common.NeoForge;
 
 public class NeoforgeClient implements IClientHelper {
+    @Override
+    public void registerTickListener(Runnable listener) {
+        NeoForge.EVENT_BUS.addListener((ClientTickEvent.Post event) -> listener.run());
+    }
 }
@@ -1,15 +1,20 @@
 package com.example.modular_multi_loader_template.neoforge.platform;
 
 
+import com.example.modular_multi_loader_template.api.platform.PlatformSnapshot;
+import com.example.modular_multi_loader_template.api.platform.mods.ModMetadataParser;
+import com.example.modular_multi_loader_template.api.platform.mods.ModRegistry;
 import com.example.modular_multi_loader_template.api.platform.services.IPlatformHelper;
 import com.example.modular_multi_loader_template.api.platform.types.PlatformInfo;
+import com.example.modular_multi_loader_template.common.platform.ModExtractionEngine;
+import com.example.modular_multi_loader_template.common.platform.StringInterner;
 import net.minecraft.Util;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.fml.ModList;
 import net.neoforged.fml.loading.FMLLoader;
+import net.neoforged.neoforgespi.language.IModInfo;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * Implementation of {@link IPlatformHelper} for the Forge mod loader.
@@ -21,6 +26,31 @@ import java.util.stream.Collectors;
  */
 public class NeoforgePlatform implements IPlatformHelper {
 
+    /**
+     * Cached registry of running mods, shared by every {@link PlatformInfo} this helper creates.
+     */
+    private final ModRegistry modRegistry = new ModRegistry(this::fetchRunningMods);
+
+    /**
+     * Converts mod containers to {@link PlatformInfo} mod entries, in parallel for large mod lists.
+     */
+    private final ModExtractionEngine extractionEngine = new ModExtractionEngine();
+
+    /**
+     * Cached platform information; static facts are gathered only once.
+     */
+    private final PlatformSnapshot snapshot = new PlatformSnapshot(this::createInfo);
+
+    /**
+     * Returns the cached platform information for NeoForge.
+     *
+     * @return the cached {@link PlatformInfo}.
+     */
+    @Override
+    public com.example.modular_multi_loader_template.api.platform.types.PlatformInfo getInfo() {
+        return this.snapshot.get();
+    }
+
     /**
      * Retrieves the current platform information for the Forge environment.
      * <p>
@@ -31,8 +61,7 @@ public class NeoforgePlatform implements IPlatformHelper {
      *
      * @return a {@link com.example.modular_multi_loader_template.api.platform.types.PlatformInfo} instance encapsulating details about the Forge platform.
      */
-    @Override
-    public com.example.modular_multi_loader_template.api.platform.types.PlatformInfo getInfo() {
+    private com.example.modular_multi_loader_template.api.platform.types.PlatformInfo createInfo() {
         var versionInfo = FMLLoader.versionInfo(); // Cache version info for reuse
 
         return new PlatformInfo(
@@ -42,7 +71,7 @@ public class NeoforgePlatform implements IPlatformHelper {
                 FMLLoader.getGamePath(),
                 !FMLLoader.isProduction(),
                 getEnvironment(FMLLoader.getDist()),
-                this::fetchRunningMods,
+                this.modRegistry,
                 getOperatingSystem()
         );
     }
@@ -62,35 +91,36 @@ public class NeoforgePlatform implements IPlatformHelper {
      * <p>
      * This method transforms each mod entry from the Forge mod list into a {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo}
      * instance. It extracts properties like mod ID, display name, version, description, and
-     * additional metadata such as authors, credits, and licenses.
+     * additional metadata such as authors, credits, and licenses. Each mod gets its own small,
+     * immutable collections built by {@link ModMetadataParser}; large mod lists are converted in
+     * parallel by the {@link ModExtractionEngine}.
      * </p>
      *
      * @return a list of {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo} objects representing each loaded mod.
      */
     private List<com.example.modular_multi_loader_template.api.platform.types.ModInfo> fetchRunningMods() {
-        Collection<String> authors = new ArrayList<>();
-        Collection<String> credits = new ArrayList<>();
-        Collection<String> license = new ArrayList<>();
-
-        return ModList.get().getMods().stream().map(modContainer -> {
-            Map<String, Object> properties = modContainer.getModProperties();
-
-            authors.add((String) properties.getOrDefault("authors", ""));
-            credits.add((String) properties.getOrDefault("credits", ""));
-            license.add(modContainer.getOwningFile().getLicense());
+        return this.extractionEngine.extract(ModList.get().getMods(), this::toModInfo);
+    }
 
-            return new com.example.modular_multi_loader_template.api.platform.types.ModInfo(
-                    modContainer.getModId(),
-                    modContainer.getDisplayName(),
-                    com.example.modular_multi_loader_template.api.platform.types.Platform.Neoforge,
-                    modContainer.getVersion().toString(),
-                    modContainer.getDescription(),
-                    com.example.modular_multi_loader_template.api.platform.types.Environment.Both,
-                    authors,
-                    credits,
-                    license
-            );
-        }).collect(Collectors.toList());
+    /**
+     * Converts a single {@link IModInfo} to a {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo}.
+     *
+     * @param modContainer the loader's mod metadata.
+     * @param interner     the intern table for repeated names and licenses.
+     * @return the converted {@link com.example.modular_multi_loader_template.api.platform.types.ModInfo}.
+     */
+    private com.example.modular_multi_loader_template.api.platform.types.ModInfo toModInfo(IModInfo modContainer, StringInterner interner) {
+        return ModMetadataParser.fromProperties(
+                modContainer.getModId(),
+                modContainer.getDisplayName(),
+                com.example.modular_multi_loader_template.api.platform.types.Platform.Neoforge,
+                modContainer.getVersion().toString(),
+                modContainer.getDescription(),
+                com.example.modular_multi_loader_template.api.platform.types.Environment.Both,
+                modContainer.getModProperties(),
+                modContainer.getOwningFile().getLicense(),
+                interner
+        );
     }
 
     /**
@@ -1,6 +1,59 @@
 package com.example.modular_multi_loader_template.neoforge.platform;
 
 import com.example.modular_multi_loader_template.api.platform.services.IServerHelper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerAboutToStartEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
 
 public class NeoforgeServer implements IServerHelper {
+    @Override
+    public void registerTickListener(Runnable listener) {
+        NeoForge.EVENT_BUS.addListener((ServerTickEvent.Post event) -> listener.run());
+    }
+
+    @Override
+    public void registerServerStartingListener(Runnable listener) {
+        // ServerStartingEvent only fires once the worlds are loaded
+        NeoForge.EVENT_BUS.addListener((ServerAboutToStartEvent event) -> listener.run());
+    }
+
+    @Override
+    public void registerWorldLoadListener(Consumer<Path> listener) {
+        NeoForge.EVENT_BUS.addListener((LevelEvent.Load event) -> {
+            if (event.getLevel() instanceof ServerLevel level && level.dimension() == Level.OVERWORLD) {
+                listener.accept(worldDirectory(level.getServer()));
+            }
+        });
+    }
+
+    @Override
+    public void registerWorldSaveListener(Consumer<Path> listener) {
+        NeoForge.EVENT_BUS.addListener((LevelEvent.Save event) -> {
+            if (event.getLevel() instanceof ServerLevel level && level.dimension() == Level.OVERWORLD) {
+                listener.accept(worldDirectory(level.getServer()));
+            }
+        });
+    }
+
+    @Override
+    public void registerWorldUnloadListener(Consumer<Path> listener) {
+        NeoForge.EVENT_BUS.addListener((LevelEvent.Unload event) -> {
+            if (event.getLevel() instanceof ServerLevel level && level.dimension() == Level.OVERWORLD) {
+                listener.accept(worldDirectory(level.getServer()));
+            }
+        });
+    }
+
+    // The directory of the running save, e.g. saves/New World on the integrated server or world on a dedicated one
+    private static Path worldDirectory(MinecraftServer server) {
+        return server.getWorldPath(LevelResource.ROOT).toAbsolutePath().normalize();
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.modular_multi_loader_template.benchmarks;
+
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates deterministic, realistic-looking mod lists for benchmarks.
+ */
+public final class SyntheticMods {
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    private static final String[] LICENSES = {"MIT", "LGPL-3.0", "All Rights Reserved", "Apache-2.0", "CC0-1.0"};
+
+    private SyntheticMods() {
+    }
+
+    /**
+     * Returns the ID of the synthetic mod at the given index.
+     *
+     * @param index the mod index.
+     * @return the mod ID.
+     */
+    public static String id(int index) {
+        return "synthetic_mod_" + index;
+    }
+
+    /**
+     * Creates a single synthetic mod.
+     *
+     * @param index the mod index, used to derive all fields.
+     * @return a new ModInfo.
+     */
+    public static ModInfo create(int index) {
+        return new ModInfo(
+                id(index),
+                "Synthetic Mod " + index,
+                index % 10 == 0 ? Platform.Builtin : Platform.Fabric,
+                "1." + (index % 20) + "." + (index % 7),
+                "A synthetic mod used for benchmarking.",
+                ENVIRONMENTS[index % ENVIRONMENTS.length],
+                List.of("Author " + (index % 50)),
+                List.of("Contributor " + (index % 30), "Contributor " + (index % 31)),
+                List.of(LICENSES[index % LICENSES.length])
+        );
+    }
+
+    /**
+     * Creates a list of synthetic mods.
+     *
+     * @param count the number of mods.
+     * @return a new, mutable list.
+     */
+    public static List<ModInfo> generate(int count) {
+        List<ModInfo> mods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mods.add(create(i));
+        }
+        return mods;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.modular_multi_loader_template.benchmarks.api;
+
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ModInfo} construction, including its validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModInfoBenchmark {
+    private final List<String> authors = List.of("Author");
+    private final List<String> contributors = List.of("Contributor A", "Contributor B");
+    private final List<String> license = List.of("MIT");
+
+    @Benchmark
+    public ModInfo construct() {
+        return new ModInfo("examplemod", "Example Mod", Platform.Fabric, "1.0.0", "An example mod.",
+                Environment.Both, authors, contributors, license);
+    }
+
+    @Benchmark
+    public String render() {
+        return construct().toString();
+    }
+}
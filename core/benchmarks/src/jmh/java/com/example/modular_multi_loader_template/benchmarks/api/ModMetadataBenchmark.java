@@ -0,0 +1,75 @@
+package com.example.modular_multi_loader_template.benchmarks.api;
+
+import com.example.modular_multi_loader_template.api.platform.mods.ModMetadataParser;
+import com.example.modular_multi_loader_template.api.platform.types.Environment;
+import com.example.modular_multi_loader_template.api.platform.types.ModInfo;
+import com.example.modular_multi_loader_template.api.platform.types.Platform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Forge/NeoForge mod-list extraction before and after the per-mod metadata pipeline,
+ * using a synthetic list of 1,000 {@code mods.toml}-style entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModMetadataBenchmark {
+    @Param({"1000"})
+    public int modCount;
+
+    private List<Map<String, Object>> properties;
+    private List<String> licenses;
+
+    @Setup
+    public void setup() {
+        properties = new ArrayList<>(modCount);
+        licenses = new ArrayList<>(modCount);
+        for (int i = 0; i < modCount; i++) {
+            properties.add(Map.of(
+                    ModMetadataParser.AUTHORS_PROPERTY, "Author " + (i % 50) + ", Author " + (i % 13),
+                    ModMetadataParser.CREDITS_PROPERTY, "Contributor " + (i % 30)));
+            licenses.add(i % 2 == 0 ? "MIT" : "All Rights Reserved");
+        }
+    }
+
+    @Benchmark
+    public List<ModInfo> buildLegacy() {
+        // Reproduces the former behaviour: one set of collections shared and appended to by every mod.
+        Collection<String> authors = new ArrayList<>();
+        Collection<String> credits = new ArrayList<>();
+        Collection<String> license = new ArrayList<>();
+        List<ModInfo> mods = new ArrayList<>(modCount);
+        for (int i = 0; i < modCount; i++) {
+            Map<String, Object> props = properties.get(i);
+            authors.add((String) props.getOrDefault("authors", ""));
+            credits.add((String) props.getOrDefault("credits", ""));
+            license.add(licenses.get(i));
+            mods.add(new ModInfo("mod_" + i, "Mod " + i, Platform.Neoforge, "1.0.0", "",
+                    Environment.Both, authors, credits, license));
+        }
+        return mods;
+    }
+
+    @Benchmark
+    public List<ModInfo> buildPipeline() {
+        List<ModInfo> mods = new ArrayList<>(modCount);
+        for (int i = 0; i < modCount; i++) {
+            mods.add(ModMetadataParser.fromProperties("mod_" + i, "Mod " + i, Platform.Neoforge, "1.0.0", "",
+                    Environment.Both, properties.get(i), licenses.get(i)));
+        }
+        return mods;
+    }
+
+    @Benchmark
+    public int renderLegacy() {
+        return buildLegacy().toString().length();
+    }
+
+    @Benchmark
+    public int renderPipeline() {
+        return buildPipeline().toString().length();
+    }
+}
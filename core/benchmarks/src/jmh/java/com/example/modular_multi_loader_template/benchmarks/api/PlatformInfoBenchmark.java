@@ -0,0 +1,74 @@
+package com.example.modular_multi_loader_template.benchmarks.api;
+
+import com.example.modular_multi_loader_template.api.platform.mods.ModRegistry;
+import com.example.modular_multi_loader_template.api.platform.types.*;
+import com.example.modular_multi_loader_template.benchmarks.SyntheticMods;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PlatformInfo#findModInfo(String)} against synthetic mod lists of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlatformInfoBenchmark {
+    @Param({"10", "100", "1000", "5000"})
+    public int modCount;
+
+    private Path gameDirectory;
+    private List<ModInfo> mods;
+    private PlatformInfo info;
+    private String hitId;
+    private String hitIdUpperCase;
+
+    @Setup
+    public void setup() throws IOException {
+        gameDirectory = Files.createTempDirectory("platform-info-benchmark");
+        mods = SyntheticMods.generate(modCount);
+        info = new PlatformInfo(Platform.Fabric, "0.16.10", "1.21.1", gameDirectory, false,
+                Environment.Server, new ModRegistry(() -> mods), OperatingSystem.Linux);
+        hitId = SyntheticMods.id(modCount / 2);
+        hitIdUpperCase = hitId.toUpperCase();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(gameDirectory);
+    }
+
+    @Benchmark
+    public Optional<ModInfo> findHit() {
+        return info.findModInfo(hitId);
+    }
+
+    @Benchmark
+    public Optional<ModInfo> findHitIgnoringCase() {
+        return info.findModInfo(hitIdUpperCase);
+    }
+
+    @Benchmark
+    public Optional<ModInfo> findMiss() {
+        return info.findModInfo("missing_mod");
+    }
+
+    @Benchmark
+    public Optional<ModInfo> linearScanBaseline() {
+        // The lookup strategy used before the mod registry existed.
+        return mods.stream()
+                .filter(modInfo -> modInfo.id().equalsIgnoreCase(hitId))
+                .findFirst();
+    }
+
+    @Benchmark
+    public int rebuildSnapshot() {
+        info.modRegistry().invalidate();
+        return info.modRegistry().size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.modular_multi_loader_template.benchmarks.logging;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.PersistentLogger;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures caller-side logging throughput of {@link PersistentLogger} in its different modes.
+ *
+ * <p>Files are written to {@code logs/} under the benchmark's working directory.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistentLoggerBenchmark {
+    @Param({"sync", "async"})
+    public String mode;
+
+    @Param({"separate", "shared", "mapped"})
+    public String file;
+
+    private Logger logger;
+    private final String player = "Steve";
+    private final String world = "overworld";
+
+    @Setup
+    public void setup() {
+        logger = new PersistentLogger()
+                .setLoggerName("Benchmark-" + mode + "-" + file)
+                .setLogDirectory("Benchmarks")
+                .setAppVersion("benchmark")
+                .setJavaCompatibility("n/a", "n/a", "n/a", "n/a")
+                .useSeparateLogFile(!file.equals("shared"))
+                .useMemoryMappedFile(file.equals("mapped"))
+                .setLoggingLevels(Level.INFO)
+                .attachConsoleLogging(false)
+                .setAsync(mode.equals("async"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ((LoggerContext) LogManager.getContext(false)).stop();
+    }
+
+    @Benchmark
+    public void logParameterized() {
+        logger.info("Player {} joined world {}", player, world);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void logParameterizedContended() {
+        logger.info("Player {} joined world {}", player, world);
+    }
+
+    @Benchmark
+    public void logDisabledLevel() {
+        logger.debug("Player {} joined world {}", player, world);
+    }
+}
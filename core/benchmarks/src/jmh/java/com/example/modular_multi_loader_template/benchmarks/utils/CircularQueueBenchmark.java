@@ -0,0 +1,50 @@
+package com.example.modular_multi_loader_template.benchmarks.utils;
+
+import com.example.modular_multi_loader_template.utils.functions.CircularQueue;
+import com.example.modular_multi_loader_template.utils.functions.ConcurrentCircularQueue;
+import com.example.modular_multi_loader_template.utils.functions.ICircularQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ICircularQueue#next()} and {@link ICircularQueue#previous()} for both implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CircularQueueBenchmark {
+    @Param({"3", "8"})
+    public int size;
+
+    @Param({"single", "concurrent"})
+    public String implementation;
+
+    private ICircularQueue<Integer> queue;
+
+    @Setup
+    public void setup() {
+        ICircularQueue<Integer> created = implementation.equals("single") ? new CircularQueue<>() : new ConcurrentCircularQueue<>();
+        for (int i = 0; i < size; i++) {
+            created.add(i);
+        }
+        queue = created.build();
+    }
+
+    @Benchmark
+    public Integer next() {
+        return queue.next();
+    }
+
+    @Benchmark
+    public Integer previous() {
+        return queue.previous();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer nextContended() {
+        // The single-threaded queue is not safe here; it is included only as an upper bound.
+        return queue.next();
+    }
+}
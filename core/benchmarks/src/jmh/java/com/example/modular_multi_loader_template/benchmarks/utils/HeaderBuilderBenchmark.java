@@ -0,0 +1,34 @@
+package com.example.modular_multi_loader_template.benchmarks.utils;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.HeaderBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering of the log file header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeaderBuilderBenchmark {
+    private HeaderBuilder.Builder builder;
+
+    @Setup
+    public void setup() {
+        builder = HeaderBuilder.newBuilder()
+                .setTotalWidth(150)
+                .setTitle("Modular-Multi-Loader-Template Benchmark")
+                .setDescription("Module Description:\nA modular multi-loader template for development.")
+                .addDetail("Version", "1.0.0-BETA.1")
+                .addDetail("Java Version", "9.7 (supports compatibility 18-22)")
+                .addDetail("Default Compatibility", "18")
+                .addDetail("Max Effective Compatibility", "22")
+                .addDetail("ASM Support Details", "Up to Java 23 (class file version 67.0)");
+    }
+
+    @Benchmark
+    public String build() {
+        return builder.build();
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.modular_multi_loader_template.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Annotation processor that turns the {@code META-INF/services} files of a platform module into a static
+ * service index.
+ *
+ * <p>The resource directories to read are passed with {@code -AserviceIndex.resourceDirs=<dir>[:<dir>...]}
+ * (see {@code type-platform.gradle}). For every service interface the processor resolves the declared providers,
+ * picks the one with the highest {@code @ServicePriority} (the first declared one on ties, like
+ * {@code Services}) and generates {@code GeneratedServiceIndex}, which returns a constructor reference to it.
+ * Providers that cannot be constructed directly are reported as warnings and left to {@code ServiceLoader}.</p>
+ *
+ * <p>The processor does not claim any annotation, so it can run next to other processors such as Mixin's. It is
+ * registered with Gradle as an aggregating incremental processor; the service files are inputs of the compile
+ * task, so editing them triggers a full recompile.</p>
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ServiceIndexProcessor.RESOURCE_DIRS_OPTION)
+public class ServiceIndexProcessor extends AbstractProcessor {
+    /** Option listing the resource directories to read, separated by {@link File#pathSeparator}. */
+    public static final String RESOURCE_DIRS_OPTION = "serviceIndex.resourceDirs";
+
+    // Must match ServiceIndex.GENERATED_CLASS in core:api, which this module does not depend on.
+    static final String PACKAGE = "com.example.modular_multi_loader_template.generated";
+    static final String CLASS_NAME = "GeneratedServiceIndex";
+
+    private static final String SERVICE_INDEX = "com.example.modular_multi_loader_template.api.platform.ServiceIndex";
+    private static final String SERVICE_PRIORITY = "com.example.modular_multi_loader_template.api.platform.ServicePriority";
+    private static final String SERVICES_DIR = "META-INF/services";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (this.generated || roundEnv.processingOver()) {
+            return false;
+        }
+        this.generated = true;
+
+        String dirs = this.processingEnv.getOptions().get(RESOURCE_DIRS_OPTION);
+        if (dirs == null || dirs.isBlank()) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "No -A" + RESOURCE_DIRS_OPTION + " given; the service index is not generated");
+            return false;
+        }
+
+        try {
+            List<Entry> entries = this.resolve(readServiceFiles(dirs));
+            this.write(entries);
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate the service index: " + e.getMessage());
+        }
+        return false;
+    }
+
+    // ----------------------- Reading -----------------------
+
+    /**
+     * Reads every {@code META-INF/services} file below the given directories.
+     *
+     * @param dirs The resource directories, separated by {@link File#pathSeparator}.
+     * @return The declared provider names per service, in declaration order.
+     * @throws IOException if a file cannot be read.
+     */
+    static Map<String, List<String>> readServiceFiles(String dirs) throws IOException {
+        Map<String, List<String>> services = new TreeMap<>();
+        for (String dir : dirs.split(File.pathSeparator)) {
+            Path servicesDir = Path.of(dir.trim()).resolve(SERVICES_DIR);
+            if (dir.isBlank() || !Files.isDirectory(servicesDir)) {
+                continue;
+            }
+
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(servicesDir, Files::isRegularFile)) {
+                for (Path file : files) {
+                    String service = file.getFileName().toString();
+                    if (service.equals(Processor.class.getName())) {
+                        continue;
+                    }
+
+                    List<String> providers = services.computeIfAbsent(service, key -> new ArrayList<>());
+                    for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                        int comment = line.indexOf('#');
+                        String provider = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                        if (!provider.isEmpty() && !providers.contains(provider)) {
+                            providers.add(provider);
+                        }
+                    }
+                }
+            }
+        }
+        return services;
+    }
+
+    private List<Entry> resolve(Map<String, List<String>> services) {
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, List<String>> service : services.entrySet()) {
+            TypeElement serviceType = this.typeElement(service.getKey());
+            if (serviceType == null || !serviceType.getModifiers().contains(Modifier.PUBLIC)) {
+                this.warn("Service " + service.getKey() + " is not a public type on the compile class path; leaving it to ServiceLoader");
+                continue;
+            }
+
+            TypeElement best = null;
+            int bestPriority = Integer.MIN_VALUE;
+            int candidates = 0;
+            for (String providerName : service.getValue()) {
+                TypeElement provider = this.typeElement(providerName);
+                if (provider == null || !this.isConstructible(provider, serviceType)) {
+                    this.warn("Provider " + providerName + " of " + service.getKey()
+                            + " cannot be constructed directly; leaving " + service.getKey() + " to ServiceLoader");
+                    best = null;
+                    break;
+                }
+
+                candidates++;
+                int priority = priorityOf(provider);
+                if (best == null || priority > bestPriority) {
+                    best = provider;
+                    bestPriority = priority;
+                }
+            }
+
+            if (best != null) {
+                entries.add(new Entry(serviceType.getQualifiedName().toString(), best.getQualifiedName().toString(), candidates));
+            }
+        }
+        return entries;
+    }
+
+    // Service files use binary names; nested types are looked up by their canonical name.
+    private TypeElement typeElement(String binaryName) {
+        TypeElement type = this.processingEnv.getElementUtils().getTypeElement(binaryName);
+        return type != null ? type : this.processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+    }
+
+    private boolean isConstructible(TypeElement provider, TypeElement service) {
+        Set<Modifier> modifiers = provider.getModifiers();
+        if (provider.getKind() != ElementKind.CLASS || !modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)
+                || (provider.getNestingKind().isNested() && !modifiers.contains(Modifier.STATIC))) {
+            return false;
+        }
+
+        TypeMirror providerType = this.processingEnv.getTypeUtils().erasure(provider.asType());
+        TypeMirror serviceType = this.processingEnv.getTypeUtils().erasure(service.asType());
+        if (!this.processingEnv.getTypeUtils().isAssignable(providerType, serviceType)) {
+            return false;
+        }
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(provider.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Read by name so the processor does not depend on core:api.
+    private static int priorityOf(TypeElement provider) {
+        for (AnnotationMirror annotation : provider.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!type.getQualifiedName().contentEquals(SERVICE_PRIORITY)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("value") && value.getValue().getValue() instanceof Integer priority) {
+                    return priority;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void warn(String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message);
+    }
+
+    // ----------------------- Generation -----------------------
+
+    private void write(List<Entry> entries) throws IOException {
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(PACKAGE + "." + CLASS_NAME);
+        try (Writer out = file.openWriter()) {
+            out.write(render(entries));
+        }
+    }
+
+    /**
+     * Renders the source of the generated index.
+     *
+     * @param entries The indexed services.
+     * @return The Java source.
+     */
+    static String render(List<Entry> entries) {
+        StringBuilder factories = new StringBuilder();
+        StringBuilder candidates = new StringBuilder();
+        for (Entry entry : entries) {
+            factories.append("        if (service == ").append(entry.service()).append(".class) {\n")
+                    .append("            return ").append(entry.provider()).append("::new;\n")
+                    .append("        }\n");
+            candidates.append("        if (service == ").append(entry.service()).append(".class) {\n")
+                    .append("            return ").append(entry.candidates()).append(";\n")
+                    .append("        }\n");
+        }
+
+        return "package " + PACKAGE + ";\n"
+                + "\n"
+                + "import java.util.function.Supplier;\n"
+                + "\n"
+                + "/**\n"
+                + " * Service providers of this platform, generated from its META-INF/services files. Do not edit.\n"
+                + " */\n"
+                + "@javax.annotation.processing.Generated(\"" + ServiceIndexProcessor.class.getName() + "\")\n"
+                + "public final class " + CLASS_NAME + " implements " + SERVICE_INDEX + " {\n"
+                + "    @Override\n"
+                + "    public Supplier<?> factory(Class<?> service) {\n"
+                + factories
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @Override\n"
+                + "    public int candidates(Class<?> service) {\n"
+                + candidates
+                + "        return 0;\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    /**
+     * One indexed service.
+     *
+     * @param service    The canonical name of the service interface.
+     * @param provider   The canonical name of the selected provider.
+     * @param candidates The number of providers declared for the service.
+     */
+    record Entry(String service, String provider, int candidates) {
+    }
+}
@@ -3,7 +3,7 @@ package com.example.modular_multi_loader_template.utils.functions;
 import java.util.ArrayList;
 import java.util.List;
 
-public class CircularQueue<T> {
+public class CircularQueue<T> implements ICircularQueue<T> {
     private final List<T> options;
     private int currentIndex;
 
@@ -14,12 +14,14 @@ public class CircularQueue<T> {
     }
 
     // Method for chaining options
+    @Override
     public CircularQueue<T> add(T option) {
         this.options.add(option);
         return this;
     }
 
     // Finalize the list
+    @Override
     public CircularQueue<T> build() {
         if (this.options.isEmpty()) {
             throw new IllegalStateException("No options added!");
@@ -29,19 +31,28 @@ public class CircularQueue<T> {
     }
 
     // Get the current option
+    @Override
     public T get() {
         return this.options.get(this.currentIndex);
     }
 
     // Move to next option and return it
+    @Override
     public T next() {
         this.currentIndex = (this.currentIndex + 1) % this.options.size();
         return this.get();
     }
 
     // Move to previous option and return it
+    @Override
     public T previous() {
         this.currentIndex = (this.currentIndex - 1 + this.options.size()) % this.options.size();
         return this.get();
     }
+
+    // Number of options
+    @Override
+    public int size() {
+        return this.options.size();
+    }
 }
@@ -0,0 +1,133 @@
+package com.example.modular_multi_loader_template.utils.functions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe variant of {@link CircularQueue}.
+ *
+ * <p>Options are collected while building and frozen into a compact array by {@link #build()}.
+ * After that the queue is immutable apart from its cursor, which is advanced lock-free:
+ * a single atomic increment masked by {@code size - 1} when the size is a power of two,
+ * otherwise a compare-and-set loop that wraps the index.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ICircularQueue<String> modes = new ConcurrentCircularQueue<String>()
+ *         .add("A")
+ *         .add("B")
+ *         .build();
+ *
+ * // Safe to call from the render thread and worker threads at the same time.
+ * String mode = modes.next();
+ * }</pre>
+ *
+ * @param <T> the option type.
+ */
+public class ConcurrentCircularQueue<T> implements ICircularQueue<T> {
+    private final List<T> pending = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile Frozen frozen;
+
+    // Method for chaining options (only allowed before build)
+    @Override
+    public synchronized ConcurrentCircularQueue<T> add(T option) {
+        if (this.frozen != null) {
+            throw new IllegalStateException("Queue is already built!");
+        }
+
+        this.pending.add(option);
+        return this;
+    }
+
+    // Freeze the options into an array
+    @Override
+    public synchronized ConcurrentCircularQueue<T> build() {
+        if (this.frozen != null) {
+            return this;
+        }
+        if (this.pending.isEmpty()) {
+            throw new IllegalStateException("No options added!");
+        }
+
+        Object[] options = this.pending.toArray();
+        int size = options.length;
+        int mask = (size & (size - 1)) == 0 ? size - 1 : -1;
+        this.pending.clear();
+        this.frozen = new Frozen(options, mask);
+        return this;
+    }
+
+    // Get the current option
+    @Override
+    public T get() {
+        Frozen current = this.frozen();
+        return current.at(this.cursor.get());
+    }
+
+    // Move to next option and return it
+    @Override
+    public T next() {
+        Frozen current = this.frozen();
+        if (current.mask >= 0) {
+            return current.at(this.cursor.incrementAndGet());
+        }
+
+        int size = current.options.length;
+        int index;
+        int nextIndex;
+        do {
+            index = this.cursor.get();
+            nextIndex = index + 1 == size ? 0 : index + 1;
+        } while (!this.cursor.compareAndSet(index, nextIndex));
+        return current.at(nextIndex);
+    }
+
+    // Move to previous option and return it
+    @Override
+    public T previous() {
+        Frozen current = this.frozen();
+        if (current.mask >= 0) {
+            return current.at(this.cursor.decrementAndGet());
+        }
+
+        int size = current.options.length;
+        int index;
+        int previousIndex;
+        do {
+            index = this.cursor.get();
+            previousIndex = index == 0 ? size - 1 : index - 1;
+        } while (!this.cursor.compareAndSet(index, previousIndex));
+        return current.at(previousIndex);
+    }
+
+    // Number of options
+    @Override
+    public int size() {
+        Frozen current = this.frozen;
+        if (current != null) {
+            return current.options.length;
+        }
+        synchronized (this) {
+            return this.frozen != null ? this.frozen.options.length : this.pending.size();
+        }
+    }
+
+    // Helper: Fails fast when the queue is used before build()
+    private Frozen frozen() {
+        Frozen current = this.frozen;
+        if (current == null) {
+            throw new IllegalStateException("Queue has not been built!");
+        }
+        return current;
+    }
+
+    // Immutable option array plus the power-of-two mask (-1 when not applicable)
+    private record Frozen(Object[] options, int mask) {
+        @SuppressWarnings("unchecked")
+        <T> T at(int cursor) {
+            return (T) this.options[this.mask >= 0 ? cursor & this.mask : cursor];
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.modular_multi_loader_template.utils.functions;
+
+/**
+ * A fixed set of options that can be cycled forwards and backwards.
+ *
+ * <p>Options are added with {@link #add(Object)} and the queue is finalized with {@link #build()}.
+ * {@link CircularQueue} is the single-threaded implementation; {@link ConcurrentCircularQueue}
+ * can be shared between threads once built.</p>
+ *
+ * @param <T> the option type.
+ */
+public interface ICircularQueue<T> {
+    // Method for chaining options
+    ICircularQueue<T> add(T option);
+
+    // Finalize the list
+    ICircularQueue<T> build();
+
+    // Get the current option
+    T get();
+
+    // Move to next option and return it
+    T next();
+
+    // Move to previous option and return it
+    T previous();
+
+    // Number of options
+    int size();
+}
@@ -0,0 +1,96 @@
+package com.example.modular_multi_loader_template.utils.functions;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unbounded multi-producer, single-consumer queue.
+ *
+ * <p>Producers link a new node with a single atomic swap of the tail and never wait for each other or for the
+ * consumer. The consumer owns the head and only reads the {@code next} links, so polling needs no atomic
+ * read-modify-write at all. This makes it a good fit for handing work from many threads to one owner thread,
+ * such as the game thread.</p>
+ *
+ * <p>Only one thread may call {@link #poll()}, {@link #peek()} and {@link #isEmpty()} at a time; {@link #offer(Object)}
+ * may be called from any thread.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MpscQueue<Runnable> tasks = new MpscQueue<>();
+ * tasks.offer(() -> ...); // Any thread
+ *
+ * Runnable task;
+ * while ((task = tasks.poll()) != null) { // Owner thread only
+ *     task.run();
+ * }
+ * }</pre>
+ *
+ * @param <T> the element type.
+ */
+public class MpscQueue<T> {
+    private final AtomicReference<Node<T>> tail;
+    private Node<T> head; // Only touched by the consumer; always a consumed (or the initial empty) node.
+
+    public MpscQueue() {
+        Node<T> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds an element to the end of the queue. Safe to call from any thread.
+     *
+     * @param value the element, not {@code null}.
+     */
+    public void offer(T value) {
+        Node<T> node = new Node<>(Objects.requireNonNull(value, "Value cannot be null"));
+        Node<T> previous = this.tail.getAndSet(node);
+        // Between the swap and this store the node is unreachable from the head; poll treats it as not yet there.
+        previous.next = node;
+    }
+
+    /**
+     * Removes and returns the first element. Consumer thread only.
+     *
+     * @return the element, or {@code null} if the queue is empty or the next producer has not finished linking.
+     */
+    public T poll() {
+        Node<T> next = this.head.next;
+        if (next == null) {
+            return null;
+        }
+
+        T value = next.value;
+        next.value = null; // The node becomes the new stub; do not retain the element.
+        this.head = next;
+        return value;
+    }
+
+    /**
+     * Returns the first element without removing it. Consumer thread only.
+     *
+     * @return the element, or {@code null} if the queue is empty.
+     */
+    public T peek() {
+        Node<T> next = this.head.next;
+        return next != null ? next.value : null;
+    }
+
+    /**
+     * Returns whether the queue is empty. Consumer thread only.
+     *
+     * @return {@code true} if no element is ready to be polled.
+     */
+    public boolean isEmpty() {
+        return this.head.next == null;
+    }
+
+    private static final class Node<T> {
+        T value;
+        volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
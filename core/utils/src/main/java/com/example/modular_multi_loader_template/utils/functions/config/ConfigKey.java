@@ -0,0 +1,433 @@
+package com.example.modular_multi_loader_template.utils.functions.config;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A typed entry of a {@link ConfigSpec}, identified by its dotted path (e.g. {@code "diagnostics.logTimings"}).
+ *
+ * <p>Each key owns a slot in the snapshot arrays. The typed {@code get()} methods read the current snapshot through a
+ * single volatile reference and return primitives, so they are cheap enough to call on every tick. Use
+ * {@code get(ConfigSnapshot)} to read several keys from one consistent snapshot.</p>
+ *
+ * @param <T> The boxed value type, used by {@link #value(ConfigSnapshot)}.
+ */
+public abstract sealed class ConfigKey<T> permits ConfigKey.BooleanKey, ConfigKey.IntKey, ConfigKey.LongKey,
+        ConfigKey.DoubleKey, ConfigKey.StringKey, ConfigKey.EnumKey {
+    final ConfigSpec spec;
+    final String path;
+    final int slot;
+
+    ConfigKey(ConfigSpec spec, String path, int slot) {
+        this.spec = spec;
+        this.path = path;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the dotted path of this key in the config file.
+     *
+     * @return The path.
+     */
+    public String path() {
+        return this.path;
+    }
+
+    /**
+     * Returns the value of this key in a snapshot as an object, for tooling and diagnostics.
+     *
+     * @param snapshot The snapshot to read.
+     * @return The boxed value.
+     */
+    public abstract T value(ConfigSnapshot snapshot);
+
+    /**
+     * Returns the default value as stored in the config file.
+     *
+     * @return The default value.
+     */
+    abstract Object defaultValue();
+
+    /**
+     * Stores the default value in the snapshot arrays.
+     */
+    abstract void storeDefault(long[] longs, double[] doubles, Object[] objects);
+
+    /**
+     * Converts a raw value from the config file and stores it in the snapshot arrays.
+     *
+     * @return A description of the problem, or {@code null} if the value was valid.
+     */
+    abstract String store(Object raw, long[] longs, double[] doubles, Object[] objects);
+
+    String invalid(Object raw, String expected) {
+        return this.path + ": expected " + expected + " but found '" + raw + "', using " + this.defaultValue();
+    }
+
+    // ----------------------- Key Types -----------------------
+
+    /**
+     * A {@code true}/{@code false} key.
+     */
+    public static final class BooleanKey extends ConfigKey<Boolean> {
+        private final boolean defaultValue;
+
+        BooleanKey(ConfigSpec spec, String path, int slot, boolean defaultValue) {
+            super(spec, path, slot);
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * Returns the current value.
+         *
+         * @return The value in the current snapshot.
+         */
+        public boolean get() {
+            return this.spec.current.longs[this.slot] != 0;
+        }
+
+        /**
+         * Returns the value in a specific snapshot.
+         *
+         * @param snapshot The snapshot to read.
+         * @return The value.
+         */
+        public boolean get(ConfigSnapshot snapshot) {
+            return snapshot.longs[this.slot] != 0;
+        }
+
+        @Override
+        public Boolean value(ConfigSnapshot snapshot) {
+            return this.get(snapshot);
+        }
+
+        @Override
+        Object defaultValue() {
+            return this.defaultValue;
+        }
+
+        @Override
+        void storeDefault(long[] longs, double[] doubles, Object[] objects) {
+            longs[this.slot] = this.defaultValue ? 1 : 0;
+        }
+
+        @Override
+        String store(Object raw, long[] longs, double[] doubles, Object[] objects) {
+            if (raw instanceof Boolean value) {
+                longs[this.slot] = value ? 1 : 0;
+                return null;
+            }
+            this.storeDefault(longs, doubles, objects);
+            return this.invalid(raw, "true or false");
+        }
+    }
+
+    /**
+     * A 32-bit integer key with an inclusive range.
+     */
+    public static final class IntKey extends ConfigKey<Integer> {
+        private final int defaultValue;
+        private final int min;
+        private final int max;
+
+        IntKey(ConfigSpec spec, String path, int slot, int defaultValue, int min, int max) {
+            super(spec, path, slot);
+            this.defaultValue = defaultValue;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Returns the current value.
+         *
+         * @return The value in the current snapshot.
+         */
+        public int get() {
+            return (int) this.spec.current.longs[this.slot];
+        }
+
+        /**
+         * Returns the value in a specific snapshot.
+         *
+         * @param snapshot The snapshot to read.
+         * @return The value.
+         */
+        public int get(ConfigSnapshot snapshot) {
+            return (int) snapshot.longs[this.slot];
+        }
+
+        @Override
+        public Integer value(ConfigSnapshot snapshot) {
+            return this.get(snapshot);
+        }
+
+        @Override
+        Object defaultValue() {
+            return this.defaultValue;
+        }
+
+        @Override
+        void storeDefault(long[] longs, double[] doubles, Object[] objects) {
+            longs[this.slot] = this.defaultValue;
+        }
+
+        @Override
+        String store(Object raw, long[] longs, double[] doubles, Object[] objects) {
+            if (!(raw instanceof Number number) || raw instanceof Double || raw instanceof Float) {
+                this.storeDefault(longs, doubles, objects);
+                return this.invalid(raw, "an integer");
+            }
+            long value = number.longValue();
+            longs[this.slot] = Math.max(this.min, Math.min(this.max, value));
+            return value < this.min || value > this.max ? outOfRange(this.path, raw, this.min, this.max) : null;
+        }
+    }
+
+    /**
+     * A 64-bit integer key with an inclusive range.
+     */
+    public static final class LongKey extends ConfigKey<Long> {
+        private final long defaultValue;
+        private final long min;
+        private final long max;
+
+        LongKey(ConfigSpec spec, String path, int slot, long defaultValue, long min, long max) {
+            super(spec, path, slot);
+            this.defaultValue = defaultValue;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Returns the current value.
+         *
+         * @return The value in the current snapshot.
+         */
+        public long get() {
+            return this.spec.current.longs[this.slot];
+        }
+
+        /**
+         * Returns the value in a specific snapshot.
+         *
+         * @param snapshot The snapshot to read.
+         * @return The value.
+         */
+        public long get(ConfigSnapshot snapshot) {
+            return snapshot.longs[this.slot];
+        }
+
+        @Override
+        public Long value(ConfigSnapshot snapshot) {
+            return this.get(snapshot);
+        }
+
+        @Override
+        Object defaultValue() {
+            return this.defaultValue;
+        }
+
+        @Override
+        void storeDefault(long[] longs, double[] doubles, Object[] objects) {
+            longs[this.slot] = this.defaultValue;
+        }
+
+        @Override
+        String store(Object raw, long[] longs, double[] doubles, Object[] objects) {
+            if (!(raw instanceof Number number) || raw instanceof Double || raw instanceof Float) {
+                this.storeDefault(longs, doubles, objects);
+                return this.invalid(raw, "an integer");
+            }
+            long value = number.longValue();
+            longs[this.slot] = Math.max(this.min, Math.min(this.max, value));
+            return value < this.min || value > this.max ? outOfRange(this.path, raw, this.min, this.max) : null;
+        }
+    }
+
+    /**
+     * A floating-point key with an inclusive range.
+     */
+    public static final class DoubleKey extends ConfigKey<Double> {
+        private final double defaultValue;
+        private final double min;
+        private final double max;
+
+        DoubleKey(ConfigSpec spec, String path, int slot, double defaultValue, double min, double max) {
+            super(spec, path, slot);
+            this.defaultValue = defaultValue;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Returns the current value.
+         *
+         * @return The value in the current snapshot.
+         */
+        public double get() {
+            return this.spec.current.doubles[this.slot];
+        }
+
+        /**
+         * Returns the value in a specific snapshot.
+         *
+         * @param snapshot The snapshot to read.
+         * @return The value.
+         */
+        public double get(ConfigSnapshot snapshot) {
+            return snapshot.doubles[this.slot];
+        }
+
+        @Override
+        public Double value(ConfigSnapshot snapshot) {
+            return this.get(snapshot);
+        }
+
+        @Override
+        Object defaultValue() {
+            return this.defaultValue;
+        }
+
+        @Override
+        void storeDefault(long[] longs, double[] doubles, Object[] objects) {
+            doubles[this.slot] = this.defaultValue;
+        }
+
+        @Override
+        String store(Object raw, long[] longs, double[] doubles, Object[] objects) {
+            if (!(raw instanceof Number number) || Double.isNaN(number.doubleValue())) {
+                this.storeDefault(longs, doubles, objects);
+                return this.invalid(raw, "a number");
+            }
+            double value = number.doubleValue();
+            doubles[this.slot] = Math.max(this.min, Math.min(this.max, value));
+            return value < this.min || value > this.max ? outOfRange(this.path, raw, this.min, this.max) : null;
+        }
+    }
+
+    /**
+     * A string key.
+     */
+    public static final class StringKey extends ConfigKey<String> {
+        private final String defaultValue;
+
+        StringKey(ConfigSpec spec, String path, int slot, String defaultValue) {
+            super(spec, path, slot);
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * Returns the current value.
+         *
+         * @return The value in the current snapshot.
+         */
+        public String get() {
+            return (String) this.spec.current.objects[this.slot];
+        }
+
+        /**
+         * Returns the value in a specific snapshot.
+         *
+         * @param snapshot The snapshot to read.
+         * @return The value.
+         */
+        public String get(ConfigSnapshot snapshot) {
+            return (String) snapshot.objects[this.slot];
+        }
+
+        @Override
+        public String value(ConfigSnapshot snapshot) {
+            return this.get(snapshot);
+        }
+
+        @Override
+        Object defaultValue() {
+            return this.defaultValue;
+        }
+
+        @Override
+        void storeDefault(long[] longs, double[] doubles, Object[] objects) {
+            objects[this.slot] = this.defaultValue;
+        }
+
+        @Override
+        String store(Object raw, long[] longs, double[] doubles, Object[] objects) {
+            if (raw instanceof String value) {
+                objects[this.slot] = value;
+                return null;
+            }
+            this.storeDefault(longs, doubles, objects);
+            return this.invalid(raw, "a string");
+        }
+    }
+
+    /**
+     * A key holding one constant of an enum, written to the file by name (matched case-insensitively).
+     *
+     * @param <E> The enum type.
+     */
+    public static final class EnumKey<E extends Enum<E>> extends ConfigKey<E> {
+        private final E defaultValue;
+        private final E[] constants;
+
+        EnumKey(ConfigSpec spec, String path, int slot, E defaultValue) {
+            super(spec, path, slot);
+            this.defaultValue = defaultValue;
+            this.constants = defaultValue.getDeclaringClass().getEnumConstants();
+        }
+
+        /**
+         * Returns the current value.
+         *
+         * @return The value in the current snapshot.
+         */
+        @SuppressWarnings("unchecked")
+        public E get() {
+            return (E) this.spec.current.objects[this.slot];
+        }
+
+        /**
+         * Returns the value in a specific snapshot.
+         *
+         * @param snapshot The snapshot to read.
+         * @return The value.
+         */
+        @SuppressWarnings("unchecked")
+        public E get(ConfigSnapshot snapshot) {
+            return (E) snapshot.objects[this.slot];
+        }
+
+        @Override
+        public E value(ConfigSnapshot snapshot) {
+            return this.get(snapshot);
+        }
+
+        @Override
+        Object defaultValue() {
+            return this.defaultValue.name().toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        void storeDefault(long[] longs, double[] doubles, Object[] objects) {
+            objects[this.slot] = this.defaultValue;
+        }
+
+        @Override
+        String store(Object raw, long[] longs, double[] doubles, Object[] objects) {
+            if (raw instanceof String name) {
+                for (E constant : this.constants) {
+                    if (constant.name().equalsIgnoreCase(name.trim())) {
+                        objects[this.slot] = constant;
+                        return null;
+                    }
+                }
+            }
+            this.storeDefault(longs, doubles, objects);
+            return this.invalid(raw, "one of " + List.of(this.constants).toString().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static String outOfRange(String path, Object raw, Object min, Object max) {
+        return path + ": " + raw + " is outside [" + min + ", " + max + "], using the nearest bound";
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.modular_multi_loader_template.utils.functions.config;
+
+import java.util.List;
+
+/**
+ * An immutable set of config values, as read from the config file at one point in time.
+ *
+ * <p>Values are stored in primitive arrays indexed by the slot of their {@link ConfigKey}: booleans, integers and
+ * longs in {@code longs}, floating-point values in {@code doubles} and everything else in {@code objects}. Reading a
+ * value is therefore an array access without boxing or map lookups.</p>
+ *
+ * <p>A snapshot never changes after it has been published. Read several related values from the same snapshot
+ * (see {@link ConfigSpec#snapshot()}) to get a consistent view across a reload.</p>
+ */
+public final class ConfigSnapshot {
+    final long[] longs;
+    final double[] doubles;
+    final Object[] objects;
+
+    private final long generation;
+    private final List<String> problems;
+
+    ConfigSnapshot(long[] longs, double[] doubles, Object[] objects, long generation, List<String> problems) {
+        this.longs = longs;
+        this.doubles = doubles;
+        this.objects = objects;
+        this.generation = generation;
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Returns the number of this snapshot; it increases by one with every successful reload.
+     *
+     * @return The generation, {@code 0} for the built-in defaults.
+     */
+    public long generation() {
+        return this.generation;
+    }
+
+    /**
+     * Returns the problems found while reading this snapshot, such as values of the wrong type or out of range.
+     * Affected keys use their default or the nearest valid value.
+     *
+     * @return The problems, empty if the file was valid.
+     */
+    public List<String> problems() {
+        return this.problems;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.modular_multi_loader_template.utils.functions.config;
+
+import com.electronwill.nightconfig.core.Config;
+import com.electronwill.nightconfig.core.UnmodifiableConfig;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Declares the typed keys of a config file and holds its current {@link ConfigSnapshot}.
+ *
+ * <p>Keys are defined once, usually in static fields, before the file is opened with
+ * {@link ReloadableConfig#open(java.nio.file.Path, ConfigSpec)}. Until then, and whenever the file cannot be read,
+ * every key returns its default value.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * static final ConfigSpec SPEC = new ConfigSpec();
+ * static final ConfigKey.IntKey VIEW_DISTANCE = SPEC.defineInt("client.viewDistance", 12, 2, 32);
+ * static final ConfigKey.BooleanKey DEBUG = SPEC.defineBoolean("general.debug", false);
+ *
+ * ReloadableConfig.open(configDirectory.resolve("mymod.toml"), SPEC).watch();
+ * int distance = VIEW_DISTANCE.get(); // Volatile read plus array access
+ * }</pre>
+ */
+public final class ConfigSpec {
+    private final List<ConfigKey<?>> keys = new ArrayList<>();
+    private final Set<String> paths = new HashSet<>();
+    private int longSlots;
+    private int doubleSlots;
+    private int objectSlots;
+    private boolean frozen;
+
+    // Replaced as a whole on reload; keys read through this single reference.
+    volatile ConfigSnapshot current = new ConfigSnapshot(new long[0], new double[0], new Object[0], 0, List.of());
+
+    // ----------------------- Definitions -----------------------
+
+    /**
+     * Defines a boolean key.
+     *
+     * @param path         The dotted path in the file.
+     * @param defaultValue The value used when the key is missing or invalid.
+     * @return The key.
+     */
+    public synchronized ConfigKey.BooleanKey defineBoolean(String path, boolean defaultValue) {
+        return this.add(new ConfigKey.BooleanKey(this, this.checkPath(path), this.longSlots++, defaultValue));
+    }
+
+    /**
+     * Defines an integer key; values outside the range are clamped.
+     *
+     * @param path         The dotted path in the file.
+     * @param defaultValue The value used when the key is missing or invalid.
+     * @param min          The smallest allowed value.
+     * @param max          The largest allowed value.
+     * @return The key.
+     */
+    public synchronized ConfigKey.IntKey defineInt(String path, int defaultValue, int min, int max) {
+        checkRange(path, defaultValue, min, max);
+        return this.add(new ConfigKey.IntKey(this, this.checkPath(path), this.longSlots++, defaultValue, min, max));
+    }
+
+    /**
+     * Defines a long key; values outside the range are clamped.
+     *
+     * @param path         The dotted path in the file.
+     * @param defaultValue The value used when the key is missing or invalid.
+     * @param min          The smallest allowed value.
+     * @param max          The largest allowed value.
+     * @return The key.
+     */
+    public synchronized ConfigKey.LongKey defineLong(String path, long defaultValue, long min, long max) {
+        checkRange(path, defaultValue, min, max);
+        return this.add(new ConfigKey.LongKey(this, this.checkPath(path), this.longSlots++, defaultValue, min, max));
+    }
+
+    /**
+     * Defines a floating-point key; values outside the range are clamped.
+     *
+     * @param path         The dotted path in the file.
+     * @param defaultValue The value used when the key is missing or invalid.
+     * @param min          The smallest allowed value.
+     * @param max          The largest allowed value.
+     * @return The key.
+     */
+    public synchronized ConfigKey.DoubleKey defineDouble(String path, double defaultValue, double min, double max) {
+        if (!(defaultValue >= min && defaultValue <= max)) {
+            throw new IllegalArgumentException("Default of " + path + " is outside [" + min + ", " + max + "]");
+        }
+        return this.add(new ConfigKey.DoubleKey(this, this.checkPath(path), this.doubleSlots++, defaultValue, min, max));
+    }
+
+    /**
+     * Defines a string key.
+     *
+     * @param path         The dotted path in the file.
+     * @param defaultValue The value used when the key is missing or invalid.
+     * @return The key.
+     */
+    public synchronized ConfigKey.StringKey defineString(String path, String defaultValue) {
+        if (defaultValue == null) {
+            throw new IllegalArgumentException("Default of " + path + " cannot be null");
+        }
+        return this.add(new ConfigKey.StringKey(this, this.checkPath(path), this.objectSlots++, defaultValue));
+    }
+
+    /**
+     * Defines an enum key, stored in the file by constant name.
+     *
+     * @param path         The dotted path in the file.
+     * @param defaultValue The value used when the key is missing or invalid.
+     * @param <E>          The enum type.
+     * @return The key.
+     */
+    public synchronized <E extends Enum<E>> ConfigKey.EnumKey<E> defineEnum(String path, E defaultValue) {
+        if (defaultValue == null) {
+            throw new IllegalArgumentException("Default of " + path + " cannot be null");
+        }
+        return this.add(new ConfigKey.EnumKey<>(this, this.checkPath(path), this.objectSlots++, defaultValue));
+    }
+
+    // ----------------------- Snapshots -----------------------
+
+    /**
+     * Returns the current snapshot. Read several keys from the returned snapshot for a consistent view.
+     *
+     * @return The current snapshot.
+     */
+    public ConfigSnapshot snapshot() {
+        return this.current;
+    }
+
+    /**
+     * Returns the defined keys in definition order.
+     *
+     * @return The keys.
+     */
+    public synchronized List<ConfigKey<?>> keys() {
+        return List.copyOf(this.keys);
+    }
+
+    /**
+     * Returns whether the config lacks any of the defined keys.
+     */
+    synchronized boolean isMissingKeys(UnmodifiableConfig source) {
+        for (ConfigKey<?> key : this.keys) {
+            if (!source.contains(key.path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads every key from a parsed config into a new snapshot and sets missing keys to their default in
+     * {@code source}, so the caller can write the completed file back.
+     *
+     * @return The snapshot; keys that had to fall back are listed in its problems.
+     */
+    synchronized ConfigSnapshot read(Config source, long generation) {
+        this.frozen = true;
+        long[] longs = new long[this.longSlots];
+        double[] doubles = new double[this.doubleSlots];
+        Object[] objects = new Object[this.objectSlots];
+        List<String> problems = new ArrayList<>();
+
+        for (ConfigKey<?> key : this.keys) {
+            Object raw = source.get(key.path);
+            if (raw == null) {
+                key.storeDefault(longs, doubles, objects);
+                source.set(key.path, key.defaultValue());
+                continue;
+            }
+            String problem = key.store(raw, longs, doubles, objects);
+            if (problem != null) {
+                problems.add(problem);
+            }
+        }
+        return new ConfigSnapshot(longs, doubles, objects, generation, problems);
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private <K extends ConfigKey<?>> K add(K key) {
+        this.keys.add(key);
+
+        // Keep the defaults readable before the file has been opened.
+        long[] longs = new long[this.longSlots];
+        double[] doubles = new double[this.doubleSlots];
+        Object[] objects = new Object[this.objectSlots];
+        for (ConfigKey<?> defined : this.keys) {
+            defined.storeDefault(longs, doubles, objects);
+        }
+        this.current = new ConfigSnapshot(longs, doubles, objects, 0, List.of());
+        return key;
+    }
+
+    private String checkPath(String path) {
+        if (this.frozen) {
+            throw new IllegalStateException("Keys must be defined before the config is opened: " + path);
+        }
+        if (path == null || path.isBlank() || path.startsWith(".") || path.endsWith(".")) {
+            throw new IllegalArgumentException("Invalid config path: " + path);
+        }
+        if (!this.paths.add(path)) {
+            throw new IllegalArgumentException("Config path defined twice: " + path);
+        }
+        return path;
+    }
+
+    private static void checkRange(String path, long defaultValue, long min, long max) {
+        if (min > max || defaultValue < min || defaultValue > max) {
+            throw new IllegalArgumentException("Default of " + path + " is outside [" + min + ", " + max + "]");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.modular_multi_loader_template.utils.functions.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single background thread that watches the directories of all {@link ReloadableConfig}s.
+ *
+ * <p>File system events only mark a config as dirty and (re)start its debounce timer; the reload itself runs once the
+ * file has been quiet for the debounce period. Reloads run on this thread, one at a time.</p>
+ */
+final class ConfigWatcher implements Runnable {
+    private static final Logger LOGGER = LogManager.getLogger(ConfigWatcher.class);
+    private static final long IDLE_POLL_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private static ConfigWatcher instance;
+
+    private final WatchService service;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Map<Path, Registration> registrations = new ConcurrentHashMap<>();
+
+    // Only touched by the watcher thread.
+    private final Map<Registration, Long> pending = new HashMap<>();
+
+    private ConfigWatcher(WatchService service) {
+        this.service = service;
+    }
+
+    static synchronized ConfigWatcher get() {
+        if (instance == null) {
+            try {
+                instance = new ConfigWatcher(FileSystems.getDefault().newWatchService());
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create config watch service", e);
+            }
+            Thread thread = new Thread(instance, "Config-Watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return instance;
+    }
+
+    void register(ReloadableConfig config, long debounceMillis) throws IOException {
+        Path file = config.getFile().toAbsolutePath().normalize();
+        Path directory = file.getParent();
+        Files.createDirectories(directory);
+        WatchKey key = directory.register(this.service,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.directories.put(key, directory);
+        this.registrations.put(file, new Registration(config, TimeUnit.MILLISECONDS.toNanos(Math.max(0, debounceMillis))));
+    }
+
+    void unregister(ReloadableConfig config) {
+        this.registrations.values().removeIf(registration -> registration.config == config);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            try {
+                WatchKey key = this.service.poll(this.nextWaitMillis(), TimeUnit.MILLISECONDS);
+                while (key != null) {
+                    this.handle(key);
+                    key = this.service.poll();
+                }
+                this.reloadDue();
+            } catch (InterruptedException e) {
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Config watcher failed", e);
+            }
+        }
+    }
+
+    private void handle(WatchKey key) {
+        Path directory = this.directories.get(key);
+        long now = System.nanoTime();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost; check every config in this directory.
+                this.registrations.forEach((file, registration) -> {
+                    if (file.getParent().equals(directory)) {
+                        this.pending.put(registration, now + registration.debounceNanos);
+                    }
+                });
+                continue;
+            }
+            Registration registration = this.registrations.get(directory.resolve((Path) event.context()));
+            if (registration != null) {
+                this.pending.put(registration, now + registration.debounceNanos);
+            }
+        }
+        if (!key.reset()) {
+            this.directories.remove(key);
+        }
+    }
+
+    private void reloadDue() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Registration, Long>> iterator = this.pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Registration, Long> entry = iterator.next();
+            if (now - entry.getValue() >= 0) {
+                iterator.remove();
+                try {
+                    entry.getKey().config.reloadIfChanged();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to reload config {}", entry.getKey().config.getFile(), e);
+                }
+            }
+        }
+    }
+
+    private long nextWaitMillis() {
+        long now = System.nanoTime();
+        long wait = IDLE_POLL_MILLIS;
+        for (long deadline : this.pending.values()) {
+            wait = Math.min(wait, TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - now)) + 1);
+        }
+        return wait;
+    }
+
+    private record Registration(ReloadableConfig config, long debounceNanos) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.modular_multi_loader_template.utils.functions.config;
+
+import com.electronwill.nightconfig.core.Config;
+import com.electronwill.nightconfig.core.ConfigFormat;
+import com.electronwill.nightconfig.core.io.ParsingException;
+import com.electronwill.nightconfig.core.io.WritingMode;
+import com.electronwill.nightconfig.json.JsonFormat;
+import com.electronwill.nightconfig.toml.TomlFormat;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Binds a {@link ConfigSpec} to a TOML or JSON file and keeps its snapshot up to date.
+ *
+ * <p>Every load parses the whole file into a new {@link ConfigSnapshot} and publishes it with a single volatile write,
+ * so readers see either the old or the new values, never a mix. A file that cannot be parsed is reported and the
+ * previous snapshot stays in place. Keys missing from the file are added with their defaults, and a missing file
+ * is created.</p>
+ *
+ * <p>With {@link #watch()}, changes to the file are picked up by a shared background thread. Bursts of file system
+ * events (editors often write a file in several steps) are debounced into one reload, which runs on that thread
+ * and never blocks the game thread. Reload listeners are called on the same thread.</p>
+ */
+public final class ReloadableConfig implements Closeable {
+    /** Default quiet period after the last change before the file is reloaded. */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    private static final Logger LOGGER = LogManager.getLogger(ReloadableConfig.class);
+
+    private final Path file;
+    private final ConfigSpec spec;
+    private final ConfigFormat<?> format;
+    private final List<Consumer<ConfigSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final Object reloadLock = new Object();
+
+    // Modification time and size of the file as last loaded or written, to skip reloads caused by our own writes.
+    private long loadedModified = -1;
+    private long loadedSize = -1;
+
+    private ReloadableConfig(Path file, ConfigSpec spec, ConfigFormat<?> format) {
+        this.file = file;
+        this.spec = spec;
+        this.format = format;
+    }
+
+    /**
+     * Opens a config file and loads it once. The format is chosen by extension ({@code .toml} or {@code .json}).
+     *
+     * @param file The config file; it is created with default values if it does not exist.
+     * @param spec The keys to read.
+     * @return The opened config.
+     * @throws IllegalArgumentException if the file extension is not supported.
+     */
+    public static ReloadableConfig open(Path file, ConfigSpec spec) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        ConfigFormat<?> format;
+        if (name.endsWith(".toml")) {
+            format = TomlFormat.instance();
+        } else if (name.endsWith(".json")) {
+            format = JsonFormat.fancyInstance();
+        } else {
+            throw new IllegalArgumentException("Unsupported config format: " + file);
+        }
+
+        ReloadableConfig config = new ReloadableConfig(file, spec, format);
+        config.reload();
+        return config;
+    }
+
+    /**
+     * Starts watching the file for changes with the default debounce of {@value #DEFAULT_DEBOUNCE_MILLIS} ms.
+     *
+     * @return This config.
+     * @throws IOException if the directory cannot be watched.
+     */
+    public ReloadableConfig watch() throws IOException {
+        return this.watch(DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Starts watching the file for changes.
+     *
+     * @param debounceMillis The quiet period after the last change before the file is reloaded.
+     * @return This config.
+     * @throws IOException if the directory cannot be watched.
+     */
+    public ReloadableConfig watch(long debounceMillis) throws IOException {
+        ConfigWatcher.get().register(this, debounceMillis);
+        return this;
+    }
+
+    /**
+     * Registers a listener that is called with every newly published snapshot.
+     *
+     * @param listener The listener; called on the thread performing the reload.
+     * @return This config.
+     */
+    public ReloadableConfig onReload(Consumer<ConfigSnapshot> listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Reads the file and publishes a new snapshot.
+     *
+     * @return {@code true} if a new snapshot was published, {@code false} if the file could not be read.
+     */
+    public boolean reload() {
+        synchronized (this.reloadLock) {
+            Config parsed;
+            boolean exists = Files.exists(this.file);
+            try {
+                if (exists) {
+                    try (Reader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+                        parsed = this.format.createParser().parse(reader);
+                    }
+                } else {
+                    parsed = this.format.createConfig();
+                }
+            } catch (IOException | ParsingException e) {
+                LOGGER.warn("Failed to read config {}, keeping previous values: {}", this.file, e.getMessage());
+                return false;
+            }
+
+            boolean complete = exists && !this.spec.isMissingKeys(parsed);
+            ConfigSnapshot snapshot = this.spec.read(parsed, this.spec.current.generation() + 1);
+            this.spec.current = snapshot;
+            snapshot.problems().forEach(problem -> LOGGER.warn("{}: {}", this.file.getFileName(), problem));
+
+            if (!complete) {
+                try {
+                    Files.createDirectories(this.file.toAbsolutePath().getParent());
+                    this.format.createWriter().write(parsed, this.file, WritingMode.REPLACE);
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("Failed to write default values to config {}", this.file, e);
+                }
+            }
+            this.rememberFileState();
+
+            for (Consumer<ConfigSnapshot> listener : this.listeners) {
+                try {
+                    listener.accept(snapshot);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Config reload listener failed for {}", this.file, e);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the config file.
+     *
+     * @return The path.
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the spec whose snapshot this config publishes.
+     *
+     * @return The spec.
+     */
+    public ConfigSpec getSpec() {
+        return this.spec;
+    }
+
+    /**
+     * Stops watching the file. The last snapshot stays published.
+     */
+    @Override
+    public void close() {
+        ConfigWatcher.get().unregister(this);
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    /**
+     * Reloads unless the file is unchanged since it was last loaded or written by this config.
+     */
+    void reloadIfChanged() {
+        synchronized (this.reloadLock) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(this.file, BasicFileAttributes.class);
+                if (attributes.lastModifiedTime().toMillis() == this.loadedModified && attributes.size() == this.loadedSize) {
+                    return;
+                }
+            } catch (NoSuchFileException e) {
+                return; // Deleted or being replaced; the following create event triggers the reload.
+            } catch (IOException e) {
+                // Fall through and let reload report the problem.
+            }
+            this.reload();
+        }
+    }
+
+    private void rememberFileState() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(this.file, BasicFileAttributes.class);
+            this.loadedModified = attributes.lastModifiedTime().toMillis();
+            this.loadedSize = attributes.size();
+        } catch (IOException e) {
+            this.loadedModified = -1;
+            this.loadedSize = -1;
+        }
+    }
+}
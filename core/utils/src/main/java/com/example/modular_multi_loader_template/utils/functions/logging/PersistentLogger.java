@@ -1,20 +1,49 @@
 package com.example.modular_multi_loader_template.utils.functions.logging;
 
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.AppenderChains;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.BootstrapAppender;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.FlightRecorderAppender;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.MappedRollingFileAppender;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.MeteredAppender;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.QueueFullPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.appenders.RingBufferAppender;
+import com.example.modular_multi_loader_template.utils.functions.logging.archive.BlockCompressAction;
+import com.example.modular_multi_loader_template.utils.functions.logging.archive.BlockIndexingTriggeringPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLayout;
+import com.example.modular_multi_loader_template.utils.functions.logging.events.RolloverEventListener;
+import com.example.modular_multi_loader_template.utils.functions.logging.filters.RepeatedMessageFilter;
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.IntervalTriggeringPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.SessionTriggeringPolicy;
+import com.example.modular_multi_loader_template.utils.functions.logging.policies.SizeTriggeringPolicy;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LifeCycle2;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender;
+import org.apache.logging.log4j.core.appender.rolling.CompositeTriggeringPolicy;
 import org.apache.logging.log4j.core.appender.rolling.DefaultRolloverStrategy;
 import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
 import org.apache.logging.log4j.core.appender.rolling.TriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.action.Action;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.status.StatusLogger;
 
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * PersistentLogger supports a builder–style API for creating a custom logger with a rolling file appender.
@@ -31,15 +60,43 @@ import java.util.*;
  *         .setLoggingLevels(Level.INFO, Level.WARN, Level.ERROR, Level.DEBUG)
  *         .setCustomLayoutPattern("[%d{HH:mm:ss.SSS}] [%level]: %msg%n%xEx")
  *         .attachConsoleLogging(true)
+ *         .setAsync(true)
+ *         .setQueueFullPolicy(QueueFullPolicy.DROP_BELOW_LEVEL)
  *         .build();
  * }</pre>
  *
  * <p>The logger is configured with a custom header (if using separate log files), rollover settings,
  * and optional console appenders. Additional customizations (like overriding the header or triggering policy)
  * are also available.</p>
+ *
+ * <p>With {@link #setAsync(boolean)} enabled, the file and console appenders sit behind a
+ * {@link RingBufferAppender}: callers only copy the event into a preallocated slot and a background
+ * thread performs the formatting and I/O. Otherwise the appenders sit behind a {@link MeteredAppender}, which
+ * records the same write metrics and flight recorder events per event instead of per batch.</p>
+ *
+ * <p>With {@link #useMemoryMappedFile(boolean)} enabled, the separate log file is written through a
+ * {@link MappedRollingFileAppender} instead, which encodes events straight into a mapped region of the file and
+ * compresses rolled files in the background. The shared {@code latest.log} is always written through log4j's file
+ * manager, because the game's own appenders write to it too.</p>
+ *
+ * <p>With {@link #setFlightRecorder(boolean)} enabled, events below the flight recorder level are kept in a
+ * {@link FlightRecorderAppender} ring in memory and only written (to a separate crash-context file) when a
+ * warning or error occurs, or when {@link #getFlightRecorder(String)} is used to dump them explicitly.</p>
+ *
+ * <p>{@link #setRepeatSuppression(int, long)} and {@link #setRateLimit(int, int)} install a
+ * {@link RepeatedMessageFilter} on the logger, which drops repeated messages and floods before they are
+ * formatted and replaces them with periodic summaries.</p>
+ *
+ * <p>With {@link #setBootstrap(boolean)} enabled, {@link #build()} returns as soon as the logger is registered;
+ * files are opened and the header is rendered on a background thread while events are buffered in memory.</p>
+ *
+ * <p>To build many loggers at once with a single logger reconfiguration, use {@link PersistentLoggerBatch}.</p>
  */
 public class PersistentLogger {
 
+    // Flight recorders of built loggers, by logger name
+    private static final Map<String, FlightRecorderAppender> FLIGHT_RECORDERS = new ConcurrentHashMap<>();
+
     // Basic configuration fields (for clarity)
     private String loggerName;
     private String logDirectory;
@@ -64,10 +121,48 @@ public class PersistentLogger {
     private String customLayoutPattern; // Allows overriding the default log message pattern
     private String customHeader;        // Optional header override
     private boolean attachConsole = true; // Enable or disable console logging
+    private boolean binaryFormat = false; // Write the separate log file with the BinaryLayout
 
     // Custom policy override (if desired)
     private TriggeringPolicy customTriggeringPolicy;
 
+    // Additional rollover triggers (0 / false disables)
+    private long maxFileSize = 0;
+    private long rolloverIntervalMillis = 0;
+    private boolean rolloverOnSession = false;
+
+    // Block-indexed archive settings
+    private boolean indexedArchives = false;
+    private long archiveBlockSize = 256 * 1024;
+
+    // Asynchronous logging settings
+    private boolean async = false;
+    private int asyncBufferSize = 4096;
+    private QueueFullPolicy queueFullPolicy = QueueFullPolicy.BLOCK;
+    private Level discardThreshold = Level.INFO;
+
+    // Memory-mapped shared log file settings
+    private boolean memoryMapped = false;
+    private int mappedRegionSize = MappedRollingFileAppender.DEFAULT_REGION_SIZE;
+    private long mappedMaxFileSize = 128L << 20;
+
+    // Flight recorder settings
+    private boolean flightRecorder = false;
+    private int flightRecorderCapacity = 2048;
+    private Level flightRecorderLevel = Level.INFO;
+    private Level flightRecorderTrigger = Level.WARN;
+    private int flightRecorderMaxDumps = 10;
+
+    // Repeated-message suppression and rate limiting (0 disables)
+    private int maxRepeats = 0;
+    private long repeatWindowMillis = 10_000;
+    private int rateLimitPerSecond = 0;
+    private int rateLimitBurst = 0;
+
+    // Bootstrap mode: buffer in memory while the appenders are created in the background
+    private boolean bootstrap = false;
+    private int bootstrapCapacity = 16_384;
+
     /**
      * Default constructor.
      */
@@ -144,14 +239,301 @@ public class PersistentLogger {
         return this;
     }
 
+    /**
+     * Writes the separate log file as compact binary records ({@code <name>.blog}) instead of text.
+     * Read it back with {@link com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLogReader}.
+     * Has no effect on the shared {@code latest.log}.
+     *
+     * @param binary whether to use the binary format.
+     * @return the builder instance.
+     */
+    public PersistentLogger useBinaryFormat(boolean binary) {
+        this.binaryFormat = binary;
+        return this;
+    }
+
     public PersistentLogger setCustomTriggeringPolicy(TriggeringPolicy policy) {
         this.customTriggeringPolicy = policy;
         return this;
     }
 
+    /**
+     * Rolls the log file over once it reaches the given size, in addition to the default policy.
+     * Applies to the {@code RandomAccessFile}-based appenders; see {@link #setMappedMaxFileSize(long)} for
+     * memory-mapped files.
+     *
+     * @param bytes the maximum file size in bytes, or {@code 0} to disable.
+     * @return the builder instance.
+     */
+    public PersistentLogger setMaxFileSize(long bytes) {
+        this.maxFileSize = bytes;
+        return this;
+    }
+
+    /**
+     * Rolls the log file over at a fixed wall-clock interval, in addition to the default policy.
+     *
+     * @param intervalMillis the time between rollovers in milliseconds, or {@code 0} to disable.
+     * @return the builder instance.
+     */
+    public PersistentLogger setRolloverInterval(long intervalMillis) {
+        this.rolloverIntervalMillis = intervalMillis;
+        return this;
+    }
+
+    /**
+     * Rolls the log file over at the start of every game session; see {@link SessionTriggeringPolicy#startNewSession()}.
+     *
+     * @param rollover whether to roll over on session boundaries.
+     * @return the builder instance.
+     */
+    public PersistentLogger setRolloverOnSession(boolean rollover) {
+        this.rolloverOnSession = rollover;
+        return this;
+    }
+
+    /**
+     * Compresses rolled files as independently compressed blocks with a sidecar time-range index, so
+     * {@link com.example.modular_multi_loader_template.utils.functions.logging.archive.IndexedArchiveReader} can
+     * read an incident window without decompressing the whole archive. Applies to the text-based
+     * {@code RandomAccessFile} appenders.
+     *
+     * @param indexed whether to write block-indexed archives.
+     * @return the builder instance.
+     */
+    public PersistentLogger useIndexedArchives(boolean indexed) {
+        this.indexedArchives = indexed;
+        return this;
+    }
+
+    /**
+     * Sets the uncompressed size of each block of an indexed archive.
+     *
+     * @param blockSize the block size in bytes.
+     * @return the builder instance.
+     */
+    public PersistentLogger setArchiveBlockSize(long blockSize) {
+        this.archiveBlockSize = blockSize;
+        return this;
+    }
+
+    /**
+     * Moves formatting and I/O off the caller's thread through a bounded, preallocated ring buffer.
+     *
+     * @param async whether to log asynchronously.
+     * @return the builder instance.
+     */
+    public PersistentLogger setAsync(boolean async) {
+        this.async = async;
+        return this;
+    }
+
+    /**
+     * Sets the number of ring buffer slots used in asynchronous mode (rounded up to a power of two).
+     *
+     * @param bufferSize the buffer size.
+     * @return the builder instance.
+     */
+    public PersistentLogger setAsyncBufferSize(int bufferSize) {
+        this.asyncBufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Sets what happens when the asynchronous ring buffer is full.
+     *
+     * @param policy the queue-full policy.
+     * @return the builder instance.
+     */
+    public PersistentLogger setQueueFullPolicy(QueueFullPolicy policy) {
+        this.queueFullPolicy = policy;
+        return this;
+    }
+
+    /**
+     * Sets the level at or below which events are dropped under {@link QueueFullPolicy#DROP_BELOW_LEVEL}.
+     *
+     * @param threshold the discard threshold.
+     * @return the builder instance.
+     */
+    public PersistentLogger setDiscardThreshold(Level threshold) {
+        this.discardThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Writes the separate log file through a memory-mapped file instead of a {@code RandomAccessFile}.
+     * Only applies when {@link #useSeparateLogFile(boolean)} is {@code true}: a mapped file needs a single writer,
+     * and the shared {@code latest.log} is also written by the game's own appenders. It is also ignored together
+     * with {@link #useBinaryFormat(boolean)}, because binary records may end in zero bytes, which the mapped file
+     * treats as padding.
+     *
+     * @param memoryMapped whether to memory-map the separate log file.
+     * @return the builder instance.
+     */
+    public PersistentLogger useMemoryMappedFile(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+        return this;
+    }
+
+    /**
+     * Sets how many bytes of the memory-mapped log file are mapped at a time.
+     *
+     * @param regionSize the region size in bytes.
+     * @return the builder instance.
+     */
+    public PersistentLogger setMappedRegionSize(int regionSize) {
+        this.mappedRegionSize = regionSize;
+        return this;
+    }
+
+    /**
+     * Sets the size at which the memory-mapped log file is rolled over and compressed, or {@code 0} to never roll.
+     *
+     * @param maxFileSize the maximum file size in bytes.
+     * @return the builder instance.
+     */
+    public PersistentLogger setMappedMaxFileSize(long maxFileSize) {
+        this.mappedMaxFileSize = maxFileSize;
+        return this;
+    }
+
+    /**
+     * Keeps events below the flight recorder level in memory instead of writing them to disk.
+     * They are dumped to a crash-context file when a warning or error is logged.
+     *
+     * @param enabled whether to use a flight recorder.
+     * @return the builder instance.
+     */
+    public PersistentLogger setFlightRecorder(boolean enabled) {
+        this.flightRecorder = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the number of events the flight recorder keeps in memory.
+     *
+     * @param capacity the ring capacity.
+     * @return the builder instance.
+     */
+    public PersistentLogger setFlightRecorderCapacity(int capacity) {
+        this.flightRecorderCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Sets the level below which events are only kept in memory, e.g. {@link Level#INFO} for DEBUG and TRACE.
+     *
+     * @param level the flight recorder level.
+     * @return the builder instance.
+     */
+    public PersistentLogger setFlightRecorderLevel(Level level) {
+        this.flightRecorderLevel = level;
+        return this;
+    }
+
+    /**
+     * Sets the level at or above which the flight recorder dumps its events to disk.
+     *
+     * @param trigger the trigger level.
+     * @return the builder instance.
+     */
+    public PersistentLogger setFlightRecorderTrigger(Level trigger) {
+        this.flightRecorderTrigger = trigger;
+        return this;
+    }
+
+    /**
+     * Sets how many crash-context files the flight recorder keeps; the oldest are deleted. Defaults to 10.
+     *
+     * @param maxDumps the number of dump files to keep.
+     * @return the builder instance.
+     */
+    public PersistentLogger setFlightRecorderMaxDumps(int maxDumps) {
+        this.flightRecorderMaxDumps = maxDumps;
+        return this;
+    }
+
+    /**
+     * Collapses repeated messages: each message template may be logged {@code maxRepeats} times per window,
+     * further repeats are dropped and summarized once per window.
+     *
+     * @param maxRepeats   occurrences allowed per window, or {@code 0} to disable.
+     * @param windowMillis the window length in milliseconds.
+     * @return the builder instance.
+     */
+    public PersistentLogger setRepeatSuppression(int maxRepeats, long windowMillis) {
+        this.maxRepeats = maxRepeats;
+        this.repeatWindowMillis = windowMillis;
+        return this;
+    }
+
+    /**
+     * Limits how many events each logger may log per second; excess events are dropped and summarized.
+     *
+     * @param eventsPerSecond the sustained rate, or {@code 0} to disable.
+     * @param burst           the number of events allowed at once.
+     * @return the builder instance.
+     */
+    public PersistentLogger setRateLimit(int eventsPerSecond, int burst) {
+        this.rateLimitPerSecond = eventsPerSecond;
+        this.rateLimitBurst = burst;
+        return this;
+    }
+
+    /**
+     * Returns the logger immediately and creates its appenders on a background thread. Until they are ready,
+     * events are buffered in memory by a {@link BootstrapAppender} and replayed in order afterwards.
+     *
+     * @param bootstrap whether to build the appenders in the background.
+     * @return the builder instance.
+     */
+    public PersistentLogger setBootstrap(boolean bootstrap) {
+        this.bootstrap = bootstrap;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of events buffered while the appenders are being created in bootstrap mode.
+     *
+     * @param capacity the buffer capacity.
+     * @return the builder instance.
+     */
+    public PersistentLogger setBootstrapCapacity(int capacity) {
+        this.bootstrapCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Returns the flight recorder of a logger built with {@link #setFlightRecorder(boolean)}.
+     *
+     * @param loggerName the logger name.
+     * @return the flight recorder, or empty if the logger has none.
+     */
+    public static Optional<FlightRecorderAppender> getFlightRecorder(String loggerName) {
+        return Optional.ofNullable(FLIGHT_RECORDERS.get(loggerName));
+    }
+
     // ----------------------- Build Method -----------------------
 
     public Logger build() {
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+        configure(ctx.getConfiguration(), new SharedResources(ctx.getConfiguration()));
+        ctx.updateLoggers();
+
+        return LogManager.getLogger(loggerName);
+    }
+
+    /**
+     * Validates the settings, creates the appender chain and registers the logger with the configuration,
+     * without reconfiguring live loggers. Layouts and file appenders are taken from {@code shared} when another
+     * logger of the configuration already created them for the same target.
+     *
+     * @param config the configuration to register the logger with.
+     * @param shared the shared layouts and appenders of {@code config}.
+     * @return the name of the configured logger.
+     */
+    String configure(Configuration config, SharedResources shared) {
         if (loggerName == null || logDirectory == null) {
             throw new IllegalStateException("Logger name and log directory must be provided.");
         }
@@ -164,59 +546,153 @@ public class PersistentLogger {
             effectiveLevel = Level.INFO;
         }
 
-        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
-        Configuration config = ctx.getConfiguration();
-        LoggerConfig loggerConfig = new LoggerConfig(loggerName, effectiveLevel, false);
+        LoggerConfig loggerConfig = new PersistentLoggerConfig(loggerName, effectiveLevel);
+        if (bootstrap) {
+            // Log into memory right away; files are opened and the header rendered in the background.
+            BootstrapAppender bootstrapAppender = new BootstrapAppender(loggerName + " BootstrapAppender", bootstrapCapacity);
+            bootstrapAppender.start();
+            loggerConfig.addAppender(register(config, bootstrapAppender), null, null);
+
+            Thread chainBuilder = new Thread(() -> {
+                List<Appender> chain;
+                try {
+                    chain = createAppenderChain(config, shared);
+                } catch (RuntimeException e) {
+                    StatusLogger.getLogger().error("Failed to create appenders for {}, falling back to the console", loggerName, e);
+                    chain = new ArrayList<>();
+                    attachConsoleAppenders(chain, config);
+                }
+                bootstrapAppender.activate(chain);
+            }, loggerName + "-Bootstrap");
+            chainBuilder.setDaemon(true);
+            chainBuilder.start();
+        } else {
+            createAppenderChain(config, shared).forEach(appender -> loggerConfig.addAppender(appender, null, null));
+        }
+
+        if (maxRepeats > 0 || rateLimitPerSecond > 0) {
+            RepeatedMessageFilter filter = new RepeatedMessageFilter(1024, maxRepeats, repeatWindowMillis,
+                    rateLimitPerSecond, Math.max(rateLimitBurst, 1));
+            filter.setSummaryTarget(loggerConfig);
+            filter.start();
+            loggerConfig.addFilter(filter);
+        }
+
+        config.addLogger(loggerName, loggerConfig);
+        return loggerName;
+    }
+
+    /**
+     * Creates the file, console, flight recorder and async appenders of this logger.
+     *
+     * @return the started appenders to attach to the logger.
+     */
+    private List<Appender> createAppenderChain(Configuration config, SharedResources shared) {
+        List<Appender> appenders = new ArrayList<>();
 
         if (useSeparateLogFile) {
-            String header = (customHeader != null) ? customHeader :
-                    buildHeader(loggerName, logDirectory, description, appVersion, javaVersion,
-                            defaultCompatibilityLevel, maxEffectiveCompatibilityLevel, asmSupportDetails);
-            PatternLayout layout = createPatternLayout(config, header);
-            RollingRandomAccessFileAppender fileAppender = createFileAppender(config, logDirectory, loggerName, maxBackupFiles, layout);
-            fileAppender.start();
-            loggerConfig.addAppender(fileAppender, null, null);
+            String extension = binaryFormat ? ".blog" : ".log";
+            String fileName = "logs/" + logDirectory + "/" + loggerName + extension;
+            appenders.add(register(config, shared.appender(fileName, loggerName, fileSettings(), () -> {
+                Layout<? extends Serializable> layout;
+                if (binaryFormat) {
+                    layout = new BinaryLayout(config);
+                } else {
+                    String header = (customHeader != null) ? customHeader :
+                            buildHeader(loggerName, logDirectory, description, appVersion, javaVersion,
+                                    defaultCompatibilityLevel, maxEffectiveCompatibilityLevel, asmSupportDetails);
+                    layout = createPatternLayout(config, header);
+                }
+                if (memoryMapped && binaryFormat) {
+                    // Reopening trims trailing zero bytes, and a binary record may legitimately end in one.
+                    StatusLogger.getLogger().warn("{} uses the binary format, which cannot be memory-mapped; "
+                            + "using a regular file appender", loggerName);
+                } else if (memoryMapped) {
+                    // The file belongs to this logger alone; like the default policy, a new run starts a new file.
+                    return new MappedRollingFileAppender(loggerName + " FileAppender", null, layout, Path.of(fileName),
+                            mappedRegionSize, mappedMaxFileSize, maxBackupFiles, true);
+                }
+                return createFileAppender(config, logDirectory, loggerName, maxBackupFiles, layout, extension);
+            })));
         } else {
             // Shared file configuration WITHOUT backup functionality.
             String pattern = (customLayoutPattern != null) ? customLayoutPattern :
                     "[%d{ddMMMyyyy HH:mm:ss.SSS}] [%t/%level] [%c]: %msg%n%xEx";
-            PatternLayout layout = PatternLayout.newBuilder()
-                    .withConfiguration(config)
-                    .withCharset(StandardCharsets.UTF_8)
-                    .withPattern(pattern)
-                    .build();
             String sharedDir = "logs";
             String sharedFile = "latest.log";
-            String backupFilePattern = "%d{yyyy-MM-dd_HH-mm-ss}.log.gz";
-            RollingRandomAccessFileAppender fileAppender = RollingRandomAccessFileAppender.newBuilder()
-                    .withAppend(true)
-                    .withFileName(sharedDir + "/" + sharedFile)
-                    .withFilePattern(sharedDir + "/" + backupFilePattern)
-                    .withPolicy(new SharedFileTriggeringPolicy())
-                    .withStrategy(DefaultRolloverStrategy.newBuilder()
-                            .withMax(String.valueOf(this.maxBackupFiles))
-                            .withConfig(config)
-                            .build())
-                    .setName("LatestFileAppender")
-                    .setLayout(layout)
-                    .setConfiguration(config)
-                    .build();
-            fileAppender.start();
-            loggerConfig.addAppender(fileAppender, null, null);
+            String backupFilePattern = "%d{yyyy-MM-dd_HH-mm-ss}.log" + (indexedArchives ? "" : ".gz");
+            if (memoryMapped) {
+                StatusLogger.getLogger().warn("{} writes to the shared {}, which cannot be memory-mapped; "
+                        + "using a regular file appender", loggerName, sharedFile);
+            }
+            appenders.add(register(config, shared.appender(sharedDir + "/" + sharedFile + "#" + pattern, loggerName, fileSettings(), () -> {
+                PatternLayout layout = shared.layout(pattern, () -> PatternLayout.newBuilder()
+                        .withConfiguration(config)
+                        .withCharset(StandardCharsets.UTF_8)
+                        .withPattern(pattern)
+                        .build());
+                TriggeringPolicy policy = createTriggeringPolicy(new SharedFileTriggeringPolicy());
+                if (indexedArchives) {
+                    policy = new BlockIndexingTriggeringPolicy(policy, archiveBlockSize);
+                }
+                return withRolloverEvents(RollingRandomAccessFileAppender.newBuilder()
+                        .withAppend(true)
+                        .withFileName(sharedDir + "/" + sharedFile)
+                        .withFilePattern(sharedDir + "/" + backupFilePattern)
+                        .withPolicy(policy)
+                        .withStrategy(createRolloverStrategy(config, sharedDir, "", ".log", policy, maxBackupFiles))
+                        .setName("LatestFileAppender")
+                        .setImmediateFlush(!async) // Async mode flushes once per batch instead
+                        .setLayout(layout)
+                        .setConfiguration(config)
+                        .build());
+            })));
         }
 
         if (attachConsole) {
-            attachConsoleAppenders(loggerConfig, config);
+            attachConsoleAppenders(appenders, config);
         }
 
-        config.addLogger(loggerName, loggerConfig);
-        ctx.updateLoggers();
+        if (!async) {
+            // The async appender measures whole batches; synchronous writes are measured one event at a time.
+            MeteredAppender metered = new MeteredAppender(loggerName + " MeteredAppender", appenders);
+            metered.start();
+            appenders = List.of(register(config, metered));
+        }
 
-        return LogManager.getLogger(loggerName);
+        if (flightRecorder) {
+            String dumpPattern = "[%d{HH:mm:ss.SSS}] [%t/%level] [%c]: %msg%n%xEx";
+            PatternLayout dumpLayout = shared.layout(dumpPattern, () -> PatternLayout.newBuilder()
+                    .withConfiguration(config)
+                    .withCharset(StandardCharsets.UTF_8)
+                    .withPattern(dumpPattern)
+                    .build());
+            FlightRecorderAppender recorder = new FlightRecorderAppender(loggerName + " FlightRecorder", null,
+                    dumpLayout, appenders, flightRecorderCapacity, flightRecorderLevel, flightRecorderTrigger,
+                    Path.of("logs", logDirectory), loggerName, flightRecorderMaxDumps);
+            recorder.start();
+            register(config, recorder);
+            FLIGHT_RECORDERS.put(loggerName, recorder);
+            appenders = List.of(recorder);
+        }
+
+        if (async) {
+            RingBufferAppender asyncAppender = new RingBufferAppender(loggerName + " AsyncAppender", null,
+                    appenders, asyncBufferSize, queueFullPolicy, discardThreshold);
+            asyncAppender.start();
+            return List.of(register(config, asyncAppender));
+        }
+        return appenders;
     }
 
     // ----------------------- Internal Utility Methods -----------------------
 
+    // Adds the appender to the configuration, which stops it when the configuration stops or is replaced.
+    private static <A extends Appender> A register(Configuration config, A appender) {
+        config.addAppender(appender);
+        return appender;
+    }
+
     private String buildHeader(String moduleName, String directory, String description, String version,
                                String javaVersion, String defaultCompat, String maxEffectiveCompat, String asmSupport) {
         String title = directory + " " + moduleName;
@@ -242,39 +718,198 @@ public class PersistentLogger {
                 .build();
     }
 
-    private RollingRandomAccessFileAppender createFileAppender(Configuration config, String directory, String moduleName, int maxBackups, PatternLayout layout) {
+    private RollingRandomAccessFileAppender createFileAppender(Configuration config, String directory, String moduleName, int maxBackups,
+                                                               Layout<? extends Serializable> layout, String extension) {
         String fullDir = "logs/" + directory;
-        String fileName = moduleName + ".log";
-        String backupPattern = moduleName + "-backup-%d{yyyy-MM-dd_HH-mm-ss}.log.gz";
-        TriggeringPolicy policy = (customTriggeringPolicy != null) ? customTriggeringPolicy : new CustomTriggeringPolicy();
-        return RollingRandomAccessFileAppender.newBuilder()
+        String fileName = moduleName + extension;
+        // Binary logs depend on their segment dictionaries and cannot be read from the middle, so they are not indexed.
+        boolean indexed = indexedArchives && !binaryFormat;
+        String backupPattern = moduleName + "-backup-%d{yyyy-MM-dd_HH-mm-ss}" + extension + (indexed ? "" : ".gz");
+        TriggeringPolicy policy = createTriggeringPolicy((customTriggeringPolicy != null) ? customTriggeringPolicy : new CustomTriggeringPolicy());
+        if (indexed) {
+            policy = new BlockIndexingTriggeringPolicy(policy, archiveBlockSize);
+        }
+        return withRolloverEvents(RollingRandomAccessFileAppender.newBuilder()
                 .withAppend(true)
                 .withFileName(fullDir + "/" + fileName)
                 .withFilePattern(fullDir + "/" + backupPattern)
                 .withPolicy(policy)
-                .withStrategy(DefaultRolloverStrategy.newBuilder()
-                        .withMax(String.valueOf(maxBackups))
-                        .withConfig(config)
-                        .build())
+                .withStrategy(createRolloverStrategy(config, fullDir, moduleName + "-backup-", extension, policy, maxBackups))
                 .setName(moduleName + " FileAppender")
+                .setImmediateFlush(!async) // Async mode flushes once per batch instead
                 .setLayout(layout)
                 .setConfiguration(config)
-                .build();
+                .build());
+    }
+
+    // Reports rollovers of the RandomAccessFile-based appenders to JDK Flight Recorder.
+    private static RollingRandomAccessFileAppender withRolloverEvents(RollingRandomAccessFileAppender appender) {
+        if (appender != null) {
+            appender.getManager().addRolloverListener(new RolloverEventListener());
+        }
+        return appender;
+    }
+
+    private DefaultRolloverStrategy createRolloverStrategy(Configuration config, String directory, String prefix, String extension,
+                                                           TriggeringPolicy policy, int maxBackups) {
+        DefaultRolloverStrategy.Builder builder = DefaultRolloverStrategy.newBuilder()
+                .withMax(String.valueOf(maxBackups))
+                .withConfig(config);
+        if (policy instanceof BlockIndexingTriggeringPolicy indexing) {
+            Pattern backupName = Pattern.compile(Pattern.quote(prefix) + "\\d{4}-\\d{2}-\\d{2}_\\d{2}-\\d{2}-\\d{2}" + Pattern.quote(extension));
+            builder.withCustomActions(new Action[]{
+                    new BlockCompressAction(Path.of(directory), backupName, indexing, archiveBlockSize, maxBackups)
+            });
+        }
+        return builder.build();
+    }
+
+    private TriggeringPolicy createTriggeringPolicy(TriggeringPolicy base) {
+        List<TriggeringPolicy> policies = new ArrayList<>();
+        if (!(base instanceof SharedFileTriggeringPolicy)) {
+            policies.add(base);
+        }
+        if (maxFileSize > 0) {
+            policies.add(new SizeTriggeringPolicy(maxFileSize));
+        }
+        if (rolloverIntervalMillis > 0) {
+            policies.add(new IntervalTriggeringPolicy(rolloverIntervalMillis));
+        }
+        if (rolloverOnSession) {
+            policies.add(new SessionTriggeringPolicy());
+        }
+
+        if (policies.isEmpty()) {
+            return base;
+        }
+        return policies.size() == 1 ? policies.get(0) : CompositeTriggeringPolicy.createPolicy(policies.toArray(new TriggeringPolicy[0]));
+    }
+
+    // The settings a file appender is created with; loggers sharing the appender should agree on them.
+    private FileSettings fileSettings() {
+        return new FileSettings(!async, maxBackupFiles, maxFileSize, rolloverIntervalMillis, rolloverOnSession,
+                indexedArchives, archiveBlockSize, memoryMapped);
     }
 
-    private void attachConsoleAppenders(LoggerConfig loggerConfig, Configuration config) {
+    private void attachConsoleAppenders(List<Appender> appenders, Configuration config) {
         Optional.ofNullable(config.getAppenders().get("Console"))
-                .ifPresent(appender -> loggerConfig.addAppender(appender, null, null));
+                .ifPresent(appenders::add);
         Optional.ofNullable(config.getAppenders().get("SysOut"))
-                .ifPresent(appender -> loggerConfig.addAppender(appender, null, null));
+                .ifPresent(appenders::add);
         Optional.ofNullable(config.getAppenders().get("ServerGuiConsole"))
-                .ifPresent(appender -> loggerConfig.addAppender(appender, null, null));
+                .ifPresent(appenders::add);
+    }
+
+    // ----------------------- Logger Configuration -----------------------
+
+    /**
+     * Logger configuration that stops the forwarding appenders of its logger (bootstrap buffer, ring buffer,
+     * flight recorder, metered appender) when the configuration stops. Log4j stops logger configurations before any appender, so
+     * buffered events are written out before the file appenders behind them are closed. Its filter is stopped
+     * first, so the final repeat summaries still reach the appenders.
+     */
+    static final class PersistentLoggerConfig extends LoggerConfig {
+        PersistentLoggerConfig(String name, Level level) {
+            super(name, level, false);
+        }
+
+        @Override
+        public boolean stop(long timeout, TimeUnit timeUnit) {
+            Filter filter = getFilter();
+            if (filter instanceof LifeCycle2 lifeCycle) {
+                lifeCycle.stop(timeout, timeUnit);
+            } else if (filter != null) {
+                filter.stop();
+            }
+            for (Appender appender : getAppenders().values()) {
+                AppenderChains.stopForwarding(appender, timeout, timeUnit);
+            }
+            return super.stop(timeout, timeUnit);
+        }
+    }
+
+    // ----------------------- Shared Resources -----------------------
+
+    /**
+     * The layouts and started file appenders of one configuration, keyed by their target, so loggers writing to
+     * the same file share one appender (and therefore one file manager). Every build and batch gets its own view
+     * onto the store, which is kept as a component of the configuration and discarded with it.
+     */
+    static final class SharedResources {
+        private final Store store;
+        private final Set<Appender> used = ConcurrentHashMap.newKeySet();
+
+        SharedResources(Configuration config) {
+            this.store = Store.of(config);
+        }
+
+        PatternLayout layout(String key, Supplier<PatternLayout> factory) {
+            return store.layout(key, factory);
+        }
+
+        /**
+         * Returns the appender for {@code key}, creating and starting it if no logger has yet. A logger asking for
+         * an existing appender with different settings is reported; the settings of the first one apply.
+         */
+        Appender appender(String key, String owner, FileSettings settings, Supplier<? extends Appender> factory) {
+            Appender appender = store.appender(key, owner, settings, factory);
+            used.add(appender);
+            return appender;
+        }
+
+        // The number of distinct file appenders used through this view.
+        int appenderCount() {
+            return used.size();
+        }
+
+        private static final class Store {
+            private static final String COMPONENT = PersistentLogger.class.getName() + ".SharedResources";
+
+            private final Map<String, PatternLayout> layouts = new HashMap<>();
+            private final Map<String, SharedAppender> appenders = new HashMap<>();
+
+            static Store of(Configuration config) {
+                Store store = config.getComponent(COMPONENT);
+                if (store == null) {
+                    config.addComponent(COMPONENT, new Store()); // Keeps the first store if another thread raced us
+                    store = config.getComponent(COMPONENT);
+                }
+                return store;
+            }
+
+            synchronized PatternLayout layout(String key, Supplier<PatternLayout> factory) {
+                return layouts.computeIfAbsent(key, k -> factory.get());
+            }
+
+            synchronized Appender appender(String key, String owner, FileSettings settings, Supplier<? extends Appender> factory) {
+                SharedAppender shared = appenders.get(key);
+                if (shared == null) {
+                    Appender appender = factory.get();
+                    appender.start();
+                    shared = new SharedAppender(appender, owner, settings);
+                    appenders.put(key, shared);
+                } else if (!shared.settings().equals(settings)) {
+                    StatusLogger.getLogger().warn("{} shares the file appender {} with {}, but its settings {} differ from {}; "
+                            + "the settings of {} apply", owner, shared.appender().getName(), shared.owner(), settings,
+                            shared.settings(), shared.owner());
+                }
+                return shared.appender();
+            }
+        }
+
+        private record SharedAppender(Appender appender, String owner, FileSettings settings) {
+        }
+    }
+
+    // The builder settings that shape a file appender.
+    record FileSettings(boolean immediateFlush, int maxBackupFiles, long maxFileSize, long rolloverIntervalMillis,
+                        boolean rolloverOnSession, boolean indexedArchives, long archiveBlockSize, boolean memoryMapped) {
     }
 
     // ----------------------- Custom Triggering Policies -----------------------
 
     private static class CustomTriggeringPolicy implements TriggeringPolicy {
-        private boolean firstEvent = true;
+        private final AtomicBoolean firstEvent = new AtomicBoolean(true);
 
         @Override
         public void initialize(RollingFileManager manager) {
@@ -283,11 +918,7 @@ public class PersistentLogger {
 
         @Override
         public boolean isTriggeringEvent(LogEvent event) {
-            if (firstEvent) {
-                firstEvent = false;
-                return true;
-            }
-            return false;
+            return firstEvent.get() && firstEvent.compareAndSet(true, false);
         }
     }
 
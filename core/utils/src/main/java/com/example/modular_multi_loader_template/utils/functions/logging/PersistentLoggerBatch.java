@@ -0,0 +1,98 @@
+package com.example.modular_multi_loader_template.utils.functions.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Builds many {@link PersistentLogger}s at once with a single logger reconfiguration.
+ *
+ * <p>{@link PersistentLogger#build()} calls {@link LoggerContext#updateLoggers()} every time, which revisits every
+ * live logger in the context. A batch registers all loggers first and updates the context once. Loggers writing
+ * to the same file share one layout and one appender, with the loggers of earlier batches and builds as well. The
+ * first logger to create a shared appender decides its settings; later loggers with different settings are reported
+ * on the status logger.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * PersistentLoggerBatch.Result result = new PersistentLoggerBatch()
+ *         .add(new PersistentLogger().setLoggerName("Network")...)
+ *         .add(new PersistentLogger().setLoggerName("Storage")...)
+ *         .build();
+ * Logger network = result.getLogger("Network");
+ * }</pre>
+ */
+public class PersistentLoggerBatch {
+    private final List<PersistentLogger> definitions = new ArrayList<>();
+
+    /**
+     * Adds a logger definition to the batch.
+     *
+     * @param logger a configured, not yet built logger.
+     * @return the batch instance.
+     */
+    public PersistentLoggerBatch add(PersistentLogger logger) {
+        this.definitions.add(Objects.requireNonNull(logger, "Logger definition cannot be null"));
+        return this;
+    }
+
+    /**
+     * Registers every logger definition and reconfigures the logger context once.
+     *
+     * @return the built loggers and their timings.
+     */
+    public Result build() {
+        long batchStart = System.nanoTime();
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+        Configuration config = ctx.getConfiguration();
+        PersistentLogger.SharedResources shared = new PersistentLogger.SharedResources(config);
+
+        Map<String, Duration> timings = new LinkedHashMap<>();
+        for (PersistentLogger definition : this.definitions) {
+            long start = System.nanoTime();
+            String name = definition.configure(config, shared);
+            timings.put(name, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        long updateStart = System.nanoTime();
+        ctx.updateLoggers();
+        Duration updateTime = Duration.ofNanos(System.nanoTime() - updateStart);
+
+        Map<String, Logger> loggers = new LinkedHashMap<>();
+        timings.keySet().forEach(name -> loggers.put(name, LogManager.getLogger(name)));
+        return new Result(Collections.unmodifiableMap(loggers), Collections.unmodifiableMap(timings),
+                updateTime, Duration.ofNanos(System.nanoTime() - batchStart), shared.appenderCount());
+    }
+
+    /**
+     * The outcome of a batch build.
+     *
+     * @param loggers        the built loggers, by name, in the order they were added.
+     * @param configureTimes the time spent creating each logger's appender chain.
+     * @param updateTime     the time spent in the single {@link LoggerContext#updateLoggers()} call.
+     * @param totalTime      the total time of the batch.
+     * @param fileAppenders  the number of distinct file appenders the batch's loggers write to.
+     */
+    public record Result(Map<String, Logger> loggers, Map<String, Duration> configureTimes,
+                         Duration updateTime, Duration totalTime, int fileAppenders) {
+
+        /**
+         * Returns the logger with the given name.
+         *
+         * @param name the logger name.
+         * @return the logger.
+         * @throws NoSuchElementException if the batch did not build a logger with that name.
+         */
+        public Logger getLogger(String name) {
+            Logger logger = loggers.get(name);
+            if (logger == null) {
+                throw new NoSuchElementException("No logger named " + name + " in this batch");
+            }
+            return logger;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LifeCycle2;
+import org.apache.logging.log4j.core.appender.AbstractOutputStreamAppender;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+import org.apache.logging.log4j.core.config.AppenderControl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops chains of forwarding appenders ({@link BootstrapAppender}, {@link RingBufferAppender},
+ * {@link FlightRecorderAppender}, {@link MeteredAppender}) from the outside in.
+ *
+ * <p>Log4j stops the appenders of a configuration in no particular order. A forwarding appender must be stopped
+ * before the appenders behind it, or the events it still holds are written to closed files. Each forwarding
+ * appender therefore stops the forwarding appenders it wraps once it has written its last event, and the logger
+ * configuration stops the outermost one before the configuration stops the rest. Plain appenders (files, console)
+ * are left to the configuration, which may share them between loggers.</p>
+ */
+public final class AppenderChains {
+    private AppenderChains() {
+    }
+
+    /**
+     * Stops the given appender and the forwarding appenders behind it, if it is a started forwarding appender.
+     *
+     * @param appender the appender to stop.
+     * @param timeout  the maximum time to wait for each appender, or {@code 0} to wait as long as needed.
+     * @param timeUnit the unit of {@code timeout}.
+     * @return {@code true} if the appender was a forwarding appender and has been stopped.
+     */
+    public static boolean stopForwarding(Appender appender, long timeout, TimeUnit timeUnit) {
+        if (!isForwarding(appender) || !appender.isStarted()) {
+            return false;
+        }
+        ((LifeCycle2) appender).stop(timeout, timeUnit);
+        return true;
+    }
+
+    /**
+     * Returns whether the appender forwards events to other appenders.
+     *
+     * @param appender the appender to check.
+     * @return {@code true} for bootstrap, ring buffer, flight recorder and metered appenders.
+     */
+    public static boolean isForwarding(Appender appender) {
+        return appender instanceof BootstrapAppender
+                || appender instanceof RingBufferAppender
+                || appender instanceof FlightRecorderAppender
+                || appender instanceof MeteredAppender;
+    }
+
+    // Called by a forwarding appender after it has written its last event to its targets.
+    static void stopTargets(AppenderControl[] targets, long timeout, TimeUnit timeUnit) {
+        if (targets == null) {
+            return;
+        }
+        for (AppenderControl target : targets) {
+            stopForwarding(target.getAppender(), timeout, timeUnit);
+        }
+    }
+
+    // Bytes written so far by the file appenders behind the given controls, for the LogWriteEvent.
+    static long writtenBytes(AppenderControl[] controls) {
+        long total = 0;
+        for (AppenderControl control : controls) {
+            Appender appender = control.getAppender();
+            if (appender instanceof MappedRollingFileAppender mapped) {
+                total += mapped.length();
+            } else if (appender instanceof FlightRecorderAppender recorder) {
+                total += writtenBytes(recorder.getTargets());
+            } else if (appender instanceof AbstractOutputStreamAppender<?> stream
+                    && stream.getManager() instanceof RollingFileManager manager) {
+                total += manager.getFileSize();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.Property;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Placeholder appender that buffers events in memory until the real appender chain is ready.
+ *
+ * <p>Until {@link #activate(List)} is called, events are copied with {@link LogEvent#toImmutable()} into a
+ * lock-free queue, so logging never waits for files to be opened or headers to be rendered. Activation replays the
+ * buffered events to the real appenders in their original order and then switches to forwarding directly; events
+ * logged while the replay is still running wait for it, so nothing overtakes an event that was buffered earlier.</p>
+ *
+ * <p>At most {@code capacity} events are buffered; further events are dropped and reported once the chain is
+ * ready.</p>
+ */
+public class BootstrapAppender extends AbstractAppender {
+    private final Queue<LogEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private final Object replayLock = new Object();
+    private final int capacity;
+
+    private volatile AppenderControl[] targets;
+    private volatile boolean replayed; // Set under replayLock once the buffer has been drained after activation
+
+    /**
+     * Creates a bootstrap appender.
+     *
+     * @param name     the appender name.
+     * @param capacity the maximum number of events buffered before activation.
+     */
+    public BootstrapAppender(String name, int capacity) {
+        super(name, null, null, true, Property.EMPTY_ARRAY);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        if (this.replayed) {
+            forward(this.targets, event);
+            return;
+        }
+        AppenderControl[] current = this.targets;
+        if (current != null) {
+            // Activation is still replaying; queue up behind the buffered events.
+            synchronized (this.replayLock) {
+                this.drain(current);
+                forward(current, event);
+            }
+            return;
+        }
+
+        if (this.buffered.incrementAndGet() > this.capacity) {
+            this.buffered.decrementAndGet();
+            this.dropped.increment();
+            return;
+        }
+        this.buffer.add(event.toImmutable());
+
+        // Activation may have happened between the check above and the enqueue; never strand an event.
+        if (this.targets != null) {
+            this.replay();
+        }
+    }
+
+    /**
+     * Hands over to the real appenders: replays every buffered event in order and forwards directly afterwards.
+     *
+     * @param appenders the started appenders that replace this buffer.
+     */
+    public void activate(List<? extends Appender> appenders) {
+        AppenderControl[] controls = appenders.stream()
+                .map(appender -> new AppenderControl(appender, null, null))
+                .toArray(AppenderControl[]::new);
+
+        synchronized (this.replayLock) {
+            this.drain(controls);
+            this.targets = controls;
+            this.drain(controls);
+            this.replayed = true;
+        }
+        this.ready.countDown();
+
+        long droppedEvents = this.dropped.sum();
+        if (droppedEvents > 0) {
+            LOGGER.warn("{} dropped {} events while the log files were being set up.", getName(), droppedEvents);
+        }
+    }
+
+    /**
+     * Waits until the real appender chain is active.
+     *
+     * @param timeout  the maximum time to wait.
+     * @param timeUnit the unit of {@code timeout}.
+     * @return {@code true} if the chain is active.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitReady(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        return this.ready.await(timeout, timeUnit);
+    }
+
+    /**
+     * Returns whether the real appender chain is active.
+     *
+     * @return {@code true} once {@link #activate(List)} has completed.
+     */
+    public boolean isReady() {
+        return this.ready.getCount() == 0;
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        try {
+            // Give a pending activation the chance to write out what was buffered.
+            if (!this.ready.await(timeout > 0 ? timeout : 5, timeout > 0 ? timeUnit : TimeUnit.SECONDS)) {
+                LOGGER.warn("{} stopped before its appenders were ready; {} buffered events were lost.",
+                        getName(), this.buffered.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        AppenderChains.stopTargets(this.targets, timeout, timeUnit);
+        setStopped();
+        return true;
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private void replay() {
+        synchronized (this.replayLock) {
+            this.drain(this.targets);
+        }
+    }
+
+    private void drain(AppenderControl[] controls) {
+        LogEvent event;
+        while ((event = this.buffer.poll()) != null) {
+            this.buffered.decrementAndGet();
+            forward(controls, event);
+        }
+    }
+
+    private void forward(AppenderControl[] controls, LogEvent event) {
+        for (AppenderControl target : controls) {
+            try {
+                target.callAppender(event);
+            } catch (RuntimeException e) {
+                error("Failed to forward event to " + target.getAppenderName(), event, e);
+            }
+        }
+    }
+}
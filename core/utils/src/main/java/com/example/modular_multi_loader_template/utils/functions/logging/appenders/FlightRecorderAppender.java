@@ -0,0 +1,248 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Keeps low-level events in memory and only writes them to disk when something goes wrong.
+ *
+ * <p>Events less specific than the {@code recordLevel} (e.g. DEBUG and TRACE when it is INFO) are copied into a
+ * fixed-size ring of preallocated {@link MutableLogEvent}s and never reach the wrapped appenders. All other events
+ * are forwarded as usual. When an event at or above the {@code triggerLevel} arrives, or {@link #dump(String)} is
+ * called, the ring is written to a separate crash-context file together with the triggering event, then cleared.</p>
+ *
+ * <p>Automatic dumps are limited to one every ten seconds so an error storm does not produce a file per error;
+ * events keep accumulating in the ring in the meantime. Only the newest {@code maxDumps} crash-context files are
+ * kept; older ones are deleted after each dump.</p>
+ */
+public class FlightRecorderAppender extends AbstractAppender {
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss-SSS");
+    private static final String FILE_INFIX = "-crash-context-";
+    private static final long DUMP_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AppenderControl[] targets;
+    private final Level recordLevel;
+    private final Level triggerLevel;
+    private final Path dumpDirectory;
+    private final String dumpPrefix;
+    private final int maxDumps;
+
+    // Ring state, guarded by "this".
+    private final MutableLogEvent[] ring;
+    private int next;
+    private int count;
+    private long lastDump = System.nanoTime() - DUMP_COOLDOWN_NANOS;
+
+    /**
+     * Creates a flight recorder in front of the given appenders.
+     *
+     * @param name          the appender name.
+     * @param filter        optional filter, may be {@code null}.
+     * @param layout        the layout used to write dump files.
+     * @param targets       appenders that receive events at or above the record level.
+     * @param capacity      the number of events kept in memory.
+     * @param recordLevel   events less specific than this level are only kept in memory.
+     * @param triggerLevel  events at or above this level dump the ring to disk.
+     * @param dumpDirectory the directory dump files are written to.
+     * @param dumpPrefix    the file name prefix of dump files.
+     * @param maxDumps      the number of dump files kept in the dump directory.
+     */
+    public FlightRecorderAppender(String name, Filter filter, Layout<? extends Serializable> layout,
+                                  List<? extends Appender> targets, int capacity, Level recordLevel,
+                                  Level triggerLevel, Path dumpDirectory, String dumpPrefix, int maxDumps) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Flight recorder capacity must be positive: " + capacity);
+        }
+        if (maxDumps <= 0) {
+            throw new IllegalArgumentException("Flight recorder dump count must be positive: " + maxDumps);
+        }
+
+        this.targets = targets.stream()
+                .map(appender -> new AppenderControl(appender, null, null))
+                .toArray(AppenderControl[]::new);
+        this.recordLevel = Objects.requireNonNull(recordLevel, "Record level cannot be null");
+        this.triggerLevel = Objects.requireNonNull(triggerLevel, "Trigger level cannot be null");
+        this.dumpDirectory = Objects.requireNonNull(dumpDirectory, "Dump directory cannot be null");
+        this.dumpPrefix = Objects.requireNonNull(dumpPrefix, "Dump prefix cannot be null");
+        this.maxDumps = maxDumps;
+
+        this.ring = new MutableLogEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.ring[i] = new MutableLogEvent();
+        }
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        Level level = event.getLevel();
+        if (level.intLevel() > this.recordLevel.intLevel()) {
+            this.record(event);
+            return;
+        }
+
+        for (AppenderControl target : this.targets) {
+            try {
+                target.callAppender(event);
+            } catch (RuntimeException e) {
+                error("Failed to forward event to " + target.getAppenderName(), event, e);
+            }
+        }
+
+        if (level.isMoreSpecificThan(this.triggerLevel)) {
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (this.count > 0 && now - this.lastDump >= DUMP_COOLDOWN_NANOS) {
+                    this.lastDump = now;
+                    this.writeDump(level + " from " + event.getLoggerName(), event);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        AppenderChains.stopTargets(this.targets, timeout, timeUnit);
+        setStopped();
+        return true;
+    }
+
+    /**
+     * Writes the recorded events to a new crash-context file and clears the ring.
+     *
+     * @param reason a short description written at the top of the file.
+     * @return the written file, or {@code null} if writing failed.
+     */
+    public synchronized Path dump(String reason) {
+        this.lastDump = System.nanoTime();
+        return this.writeDump(reason, null);
+    }
+
+    /**
+     * Returns the number of events currently held in memory.
+     *
+     * @return the recorded event count.
+     */
+    public synchronized int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns the maximum number of events held in memory.
+     *
+     * @return the ring capacity.
+     */
+    public int getCapacity() {
+        return this.ring.length;
+    }
+
+    /**
+     * Returns the appenders that receive the recorded-level events.
+     */
+    AppenderControl[] getTargets() {
+        return this.targets;
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private synchronized void record(LogEvent event) {
+        MutableLogEvent slot = this.ring[this.next];
+        slot.clear();
+        slot.initFrom(event);
+        this.next = (this.next + 1) % this.ring.length;
+        if (this.count < this.ring.length) {
+            this.count++;
+        }
+    }
+
+    // Must be called while holding the lock.
+    private Path writeDump(String reason, LogEvent trigger) {
+        String name = this.dumpPrefix + FILE_INFIX + LocalDateTime.now().format(FILE_TIMESTAMP);
+        Path file = this.dumpDirectory.resolve(name + ".log");
+        Layout<? extends Serializable> layout = getLayout();
+
+        try {
+            Files.createDirectories(this.dumpDirectory);
+            OutputStream stream = null;
+            for (int attempt = 2; stream == null; attempt++) {
+                try {
+                    stream = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                } catch (FileAlreadyExistsException e) {
+                    // Another dump in the same millisecond; "_" sorts after ".", so the names stay in order.
+                    file = this.dumpDirectory.resolve(name + "_" + attempt + ".log");
+                }
+            }
+            try (OutputStream out = new BufferedOutputStream(stream)) {
+                out.write(("Flight recorder dump (" + reason + "), last " + this.count + " event(s):\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                int start = (this.next - this.count + this.ring.length) % this.ring.length;
+                for (int i = 0; i < this.count; i++) {
+                    out.write(layout.toByteArray(this.ring[(start + i) % this.ring.length]));
+                }
+                if (trigger != null) {
+                    out.write("Triggered by:\n".getBytes(StandardCharsets.UTF_8));
+                    out.write(layout.toByteArray(trigger));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("{} failed to write flight recorder dump to {}", getName(), file, e);
+            return null;
+        }
+
+        for (int i = 0; i < this.ring.length; i++) {
+            this.ring[i].clear();
+        }
+        this.next = 0;
+        this.count = 0;
+        this.deleteOldDumps();
+        return file;
+    }
+
+    // File names start with a sortable timestamp, so the oldest dumps come first.
+    private void deleteOldDumps() {
+        String prefix = this.dumpPrefix + FILE_INFIX;
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(this.dumpDirectory)) {
+            dumps = files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(prefix) && name.endsWith(".log");
+            }).sorted().toList();
+        } catch (IOException e) {
+            LOGGER.warn("{} failed to list old flight recorder dumps in {}", getName(), this.dumpDirectory, e);
+            return;
+        }
+
+        for (int i = 0; i < dumps.size() - this.maxDumps; i++) {
+            try {
+                Files.deleteIfExists(dumps.get(i));
+            } catch (IOException e) {
+                LOGGER.warn("{} failed to delete old flight recorder dump {}", getName(), dumps.get(i), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogCompressEvent;
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogRolloverEvent;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rolling file appender that encodes events directly into a memory-mapped region of the log file.
+ *
+ * <p>The layout writes straight into a {@link MappedByteBuffer}, so appending an event is a memory copy with
+ * no {@code write} system call; the operating system writes dirty pages back in the background. When the current
+ * region is full, the next region is mapped in one large chunk (see {@code regionSize}). On stop or rollover the
+ * file is truncated back to the bytes actually written.</p>
+ *
+ * <p>When the file grows beyond {@code maxFileSize}, it is renamed to a timestamped backup
+ * ({@code <name>-backup-<timestamp>.log.gz}) and a fresh file is started immediately; the backup is gzip-compressed
+ * and old backups are pruned on a background thread, so the logging thread never waits for compression.</p>
+ *
+ * <p>The appender keeps its own file position, so it must be the only writer of its file. Never point it at a file
+ * that other appenders (such as the game's {@code latest.log} appender) also write to.</p>
+ *
+ * <p>Mapped pages survive a JVM crash but not an operating system crash. Leftover zero padding from an unclean
+ * shutdown is trimmed when the file is reopened, so the layout must never end an event with a zero byte; text
+ * layouts are fine, binary ones are not.</p>
+ */
+public class MappedRollingFileAppender extends AbstractAppender {
+    /** Default size of each mapped region: 32 MiB. */
+    public static final int DEFAULT_REGION_SIZE = 32 << 20;
+
+    private static final DateTimeFormatter BACKUP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final int TRIM_BLOCK = 64 * 1024;
+
+    private final Path file;
+    private final int regionSize;
+    private final long maxFileSize;
+    private final int maxBackups;
+    private final boolean rollOnStart;
+    private final String backupPrefix;
+    private final String extension;
+    private final Pattern backupName;
+    private final ExecutorService compressor;
+    private final MappedDestination destination = new MappedDestination();
+
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionOffset;
+
+    /**
+     * Creates a memory-mapped rolling file appender.
+     *
+     * @param name        the appender name.
+     * @param filter      optional filter, may be {@code null}.
+     * @param layout      the layout used to encode events.
+     * @param file        the active log file, e.g. {@code logs/MyApp/MyModule.log}; no other appender may write to it.
+     * @param regionSize  the number of bytes mapped at a time.
+     * @param maxFileSize the size at which the file is rolled over, or {@code 0} to never roll.
+     * @param maxBackups  the number of compressed backups to keep.
+     * @param rollOnStart whether content left from a previous run is rolled over to a backup when starting.
+     */
+    public MappedRollingFileAppender(String name, Filter filter, Layout<? extends Serializable> layout, Path file,
+                                     int regionSize, long maxFileSize, int maxBackups, boolean rollOnStart) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException("Region size must be positive: " + regionSize);
+        }
+
+        this.file = file.toAbsolutePath();
+        this.regionSize = regionSize;
+        this.maxFileSize = maxFileSize;
+        this.maxBackups = maxBackups;
+        this.rollOnStart = rollOnStart;
+
+        String fileName = this.file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.extension = dot > 0 ? fileName.substring(dot) : "";
+        this.backupPrefix = (dot > 0 ? fileName.substring(0, dot) : fileName) + "-backup-";
+        this.backupName = Pattern.compile(Pattern.quote(this.backupPrefix) + "\\d{4}-\\d{2}-\\d{2}_\\d{2}-\\d{2}-\\d{2}(-\\d+)?"
+                + Pattern.quote(this.extension) + "\\.gz");
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, name + "-Compressor");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        this.compressor = executor;
+    }
+
+    // ----------------------- Lifecycle -----------------------
+
+    @Override
+    public synchronized void start() {
+        try {
+            long previousLength = this.open();
+            if (this.rollOnStart && previousLength > 0) {
+                this.rollover();
+            }
+        } catch (IOException e) {
+            error("Failed to open memory-mapped log file " + this.file, e);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        synchronized (this) {
+            try {
+                this.close(true);
+            } catch (IOException e) {
+                error("Failed to close memory-mapped log file " + this.file, e);
+            }
+        }
+
+        this.compressor.shutdown();
+        try {
+            if (!this.compressor.awaitTermination(timeout > 0 ? timeout : 30, timeout > 0 ? timeUnit : TimeUnit.SECONDS)) {
+                LOGGER.warn("{} did not finish compressing rolled log files in time.", getName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        setStopped();
+        return true;
+    }
+
+    // ----------------------- Appending -----------------------
+
+    @Override
+    public synchronized void append(LogEvent event) {
+        if (this.region == null) {
+            return; // Failed to open or already closed.
+        }
+
+        getLayout().encode(event, this.destination);
+
+        if (this.maxFileSize > 0 && this.position() >= this.maxFileSize) {
+            try {
+                this.rollover();
+            } catch (IOException e) {
+                error("Failed to roll over memory-mapped log file " + this.file, event, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes written to the active file.
+     *
+     * @return the logical file length.
+     */
+    public synchronized long length() {
+        return this.position();
+    }
+
+    // The logical file length; callers hold the lock.
+    private long position() {
+        return this.region == null ? 0 : this.regionOffset + this.region.position();
+    }
+
+    // ----------------------- File Handling -----------------------
+
+    // Returns the length of the content already in the file, not counting a header written for a new file.
+    private long open() throws IOException {
+        Files.createDirectories(this.file.getParent());
+        this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long length = trimmedLength(this.channel, this.regionSize);
+        this.map(length);
+        if (length == 0) {
+            this.writeRaw(getLayout().getHeader());
+        }
+        return length;
+    }
+
+    private void close(boolean writeFooter) throws IOException {
+        if (this.channel == null) {
+            return;
+        }
+
+        if (writeFooter) {
+            this.writeRaw(getLayout().getFooter());
+        }
+        long length = this.length();
+        this.region.force();
+        unmap(this.region);
+        this.region = null;
+
+        try {
+            this.channel.truncate(length);
+        } catch (IOException e) {
+            // Some platforms refuse to truncate while a mapping is still alive; the padding is trimmed on reopen.
+            LOGGER.warn("Could not truncate {}: {}", this.file, e.getMessage());
+        }
+        this.channel.close();
+        this.channel = null;
+    }
+
+    private void rollover() throws IOException {
+        LogRolloverEvent jfrEvent = new LogRolloverEvent();
+        jfrEvent.begin();
+        long length = this.position();
+        this.close(true);
+
+        Path backup = this.nextBackupName();
+        Files.move(this.file, backup, StandardCopyOption.ATOMIC_MOVE);
+        this.compressor.execute(() -> this.compress(backup));
+
+        this.open();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.file = this.file.toString();
+            jfrEvent.bytes = length;
+            jfrEvent.commit();
+        }
+    }
+
+    private void map(long position) throws IOException {
+        if (this.region != null) {
+            unmap(this.region);
+        }
+        this.regionOffset = position;
+        this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, position, this.regionSize);
+    }
+
+    private void writeRaw(byte[] bytes) {
+        if (bytes != null && bytes.length > 0) {
+            this.destination.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private Path nextBackupName() {
+        String base = this.backupPrefix + LocalDateTime.now().format(BACKUP_TIMESTAMP);
+        Path candidate = this.file.resolveSibling(base + this.extension);
+        for (int i = 1; Files.exists(candidate) || Files.exists(gzipName(candidate)); i++) {
+            candidate = this.file.resolveSibling(base + "-" + i + this.extension);
+        }
+        return candidate;
+    }
+
+    // ----------------------- Background Compression -----------------------
+
+    private void compress(Path source) {
+        LogCompressEvent jfrEvent = new LogCompressEvent();
+        jfrEvent.begin();
+        Path target = gzipName(source);
+        long bytes;
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+            bytes = in.transferTo(out);
+        } catch (IOException e) {
+            LOGGER.error("Failed to compress rolled log file {}", source, e);
+            return;
+        }
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.file = target.toString();
+            jfrEvent.bytes = bytes;
+            jfrEvent.compressedBytes = target.toFile().length();
+            jfrEvent.blocks = 1;
+            jfrEvent.commit();
+        }
+
+        try {
+            Files.delete(source);
+            this.pruneBackups();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to clean up rolled log file {}: {}", source, e.getMessage());
+        }
+    }
+
+    private void pruneBackups() throws IOException {
+        List<Path> backups = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.file.getParent())) {
+            files.filter(path -> this.backupName.matcher(path.getFileName().toString()).matches()).forEach(backups::add);
+        }
+        if (backups.size() <= this.maxBackups) {
+            return;
+        }
+
+        backups.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        for (Path old : backups.subList(0, backups.size() - this.maxBackups)) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    private static Path gzipName(Path file) {
+        return file.resolveSibling(file.getFileName() + ".gz");
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    // Finds the end of the written data, skipping zero padding left behind by an unclean shutdown.
+    private static long trimmedLength(FileChannel channel, int maxPadding) throws IOException {
+        long size = channel.size();
+        long limit = Math.max(0, size - maxPadding);
+        ByteBuffer block = ByteBuffer.allocate(TRIM_BLOCK);
+        long end = size;
+        while (end > limit) {
+            int length = (int) Math.min(TRIM_BLOCK, end - limit);
+            block.clear().limit(length);
+            channel.read(block, end - length);
+            for (int i = length - 1; i >= 0; i--) {
+                if (block.get(i) != 0) {
+                    return end - length + i + 1;
+                }
+            }
+            end -= length;
+        }
+        return end;
+    }
+
+    // Releases a mapping eagerly instead of waiting for the garbage collector, so the file can be truncated.
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(field.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Fall back to the garbage collector releasing the mapping.
+        }
+    }
+
+    /**
+     * Lets the layout encode directly into the mapped region, mapping the next region when it fills up.
+     */
+    private final class MappedDestination implements ByteBufferDestination {
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return MappedRollingFileAppender.this.region;
+        }
+
+        @Override
+        public ByteBuffer drain(ByteBuffer buf) {
+            try {
+                MappedRollingFileAppender.this.map(MappedRollingFileAppender.this.regionOffset + buf.position());
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to map next region of " + MappedRollingFileAppender.this.file, e);
+            }
+            return MappedRollingFileAppender.this.region;
+        }
+
+        @Override
+        public void writeBytes(ByteBuffer data) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, this);
+        }
+
+        @Override
+        public void writeBytes(byte[] data, int offset, int length) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, offset, length, this);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogWriteEvent;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Counter;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.Property;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures synchronous writes: forwards every event to the wrapped appenders on the caller's thread and records it.
+ *
+ * <p>This is the synchronous counterpart of the measurements {@link RingBufferAppender} takes per batch. Written
+ * events and the time spent per event are recorded in {@link MetricRegistry#global()}, labelled with the appender
+ * name, and every event is reported to JDK Flight Recorder as a {@link LogWriteEvent} when that event is
+ * enabled.</p>
+ */
+public class MeteredAppender extends AbstractAppender {
+    private final AppenderControl[] targets;
+    private final Counter eventsMetric;
+    private final Histogram writeTimeMetric;
+
+    /**
+     * Creates a metered appender in front of the given appenders.
+     *
+     * @param name    the appender name.
+     * @param targets appenders that receive every event.
+     */
+    public MeteredAppender(String name, List<? extends Appender> targets) {
+        super(name, null, null, true, Property.EMPTY_ARRAY);
+        this.targets = targets.stream()
+                .map(appender -> new AppenderControl(appender, null, null))
+                .toArray(AppenderControl[]::new);
+
+        MetricRegistry metrics = MetricRegistry.global();
+        this.eventsMetric = metrics.counter("log_events_total", "Log events written by the appender.", "appender", name);
+        this.writeTimeMetric = metrics.timer("log_write_seconds", "Time spent writing one log event synchronously.", "appender", name);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        LogWriteEvent jfrEvent = new LogWriteEvent();
+        long bytesBefore = jfrEvent.isEnabled() ? AppenderChains.writtenBytes(this.targets) : 0;
+        jfrEvent.begin();
+        long start = System.nanoTime();
+
+        for (AppenderControl target : this.targets) {
+            try {
+                target.callAppender(event);
+            } catch (RuntimeException e) {
+                error("Failed to forward event to " + target.getAppenderName(), event, e);
+            }
+        }
+        this.writeTimeMetric.recordSince(start);
+        this.eventsMetric.increment();
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.appender = getName();
+            jfrEvent.events = 1;
+            jfrEvent.bytes = Math.max(0, AppenderChains.writtenBytes(this.targets) - bytesBefore); // A rollover resets the count
+            jfrEvent.commit();
+        }
+    }
+
+    /**
+     * Returns the appenders that receive the events.
+     *
+     * @return the wrapped appenders.
+     */
+    public List<Appender> getAppenders() {
+        return Arrays.stream(this.targets).map(AppenderControl::getAppender).toList();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        AppenderChains.stopTargets(this.targets, timeout, timeUnit);
+        setStopped();
+        return true;
+    }
+}
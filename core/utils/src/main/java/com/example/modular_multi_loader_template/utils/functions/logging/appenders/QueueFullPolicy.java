@@ -0,0 +1,15 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+/**
+ * Determines what {@link RingBufferAppender} does when its ring buffer is full.
+ */
+public enum QueueFullPolicy {
+    /** Wait until the background thread frees a slot. No events are lost. */
+    BLOCK,
+
+    /** Drop events at or below the discard threshold level; wait for a free slot for anything more severe. */
+    DROP_BELOW_LEVEL,
+
+    /** Drop any event that does not fit. The caller never waits. */
+    DISCARD
+}
@@ -0,0 +1,300 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.appenders;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogWriteEvent;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Counter;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender that hands events to a background thread through a bounded, preallocated ring buffer.
+ *
+ * <p>Every slot holds a {@link MutableLogEvent} created up front. Producers claim a slot with a single CAS and copy
+ * the event into it with {@link MutableLogEvent#initFrom(LogEvent)}, which uses log4j's reusable-message path
+ * (parameters are swapped, the message text is formatted into a reused buffer). In steady state, with log4j's
+ * thread-locals enabled, logging through this appender allocates nothing on the caller's thread.</p>
+ *
+ * <p>The background thread forwards each event to the wrapped appenders and marks the last event of every batch
+ * with {@code endOfBatch}, so buffered file appenders only flush once per batch.</p>
+ *
+ * <p>What happens when the buffer is full is controlled by a {@link QueueFullPolicy}. Events logged from the
+ * background thread itself (e.g. by a misbehaving appender) are written synchronously to avoid deadlocking.</p>
+ *
+ * <p>Stopping the appender writes out every event still in the buffer and waits for the background thread to
+ * finish (see {@link AppenderChains} for the order in which a chain of appenders is stopped).</p>
+ *
+ * <p>Written and dropped events and the time spent per batch are recorded in {@link MetricRegistry#global()},
+ * labelled with the appender name.</p>
+ */
+public class RingBufferAppender extends AbstractAppender {
+    private static final int SPIN_TRIES = 128;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AppenderControl[] targets;
+    private final QueueFullPolicy queueFullPolicy;
+    private final Level discardThreshold;
+
+    // Ring buffer state: slot i is free for position p when sequences[i] == p, readable when it is p + 1.
+    private final MutableLogEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // Only touched by the consumer thread.
+
+    private final LongAdder dropped = new LongAdder();
+    private final Counter eventsMetric;
+    private final Counter droppedMetric;
+    private final Histogram batchTimeMetric;
+    private final Thread consumer;
+    private volatile boolean running;
+    private volatile boolean sleeping;
+
+    /**
+     * Creates a ring buffer appender in front of the given appenders.
+     *
+     * @param name             the appender name.
+     * @param filter           optional filter, may be {@code null}.
+     * @param targets          appenders that receive the events on the background thread.
+     * @param capacity         requested buffer size; rounded up to the next power of two.
+     * @param queueFullPolicy  behaviour when the buffer is full.
+     * @param discardThreshold level at or below which events are dropped under {@link QueueFullPolicy#DROP_BELOW_LEVEL}.
+     */
+    public RingBufferAppender(String name, Filter filter, List<? extends Appender> targets, int capacity,
+                              QueueFullPolicy queueFullPolicy, Level discardThreshold) {
+        super(name, filter, null, true, Property.EMPTY_ARRAY);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive: " + capacity);
+        }
+
+        this.targets = targets.stream()
+                .map(appender -> new AppenderControl(appender, null, null))
+                .toArray(AppenderControl[]::new);
+        this.queueFullPolicy = Objects.requireNonNull(queueFullPolicy, "Queue full policy cannot be null");
+        this.discardThreshold = Objects.requireNonNull(discardThreshold, "Discard threshold cannot be null");
+
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.slots = new MutableLogEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.slots[i] = new MutableLogEvent();
+            this.sequences.set(i, i);
+        }
+
+        MetricRegistry metrics = MetricRegistry.global();
+        this.eventsMetric = metrics.counter("log_events_total", "Log events written by the appender.", "appender", name);
+        this.droppedMetric = metrics.counter("log_events_dropped_total", "Log events dropped because the ring buffer was full.", "appender", name);
+        this.batchTimeMetric = metrics.timer("log_batch_write_seconds", "Time spent forwarding one batch of log events.", "appender", name);
+
+        this.consumer = new Thread(this::drainLoop, name + "-Async");
+        this.consumer.setDaemon(true);
+    }
+
+    // ----------------------- Lifecycle -----------------------
+
+    @Override
+    public void start() {
+        this.running = true;
+        this.consumer.start();
+        super.start();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        this.running = false;
+        LockSupport.unpark(this.consumer);
+        try {
+            if (timeout > 0) {
+                this.consumer.join(timeUnit.toMillis(timeout));
+            } else {
+                this.consumer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // A producer that claimed a slot just before the consumer exited may have published after its last check.
+        if (!this.consumer.isAlive()) {
+            this.drainBatch();
+        }
+        AppenderChains.stopTargets(this.targets, timeout, timeUnit);
+
+        long droppedEvents = this.dropped.sum();
+        if (droppedEvents > 0) {
+            LOGGER.warn("{} dropped {} events because its ring buffer was full.", getName(), droppedEvents);
+        }
+        setStopped();
+        return true;
+    }
+
+    // ----------------------- Producer Side -----------------------
+
+    @Override
+    public void append(LogEvent event) {
+        if (Thread.currentThread() == this.consumer || !this.running) {
+            this.forward(event);
+            return;
+        }
+        if (this.tryPublish(event)) {
+            return;
+        }
+
+        switch (this.queueFullPolicy) {
+            case DISCARD -> this.drop();
+            case DROP_BELOW_LEVEL -> {
+                if (event.getLevel().isLessSpecificThan(this.discardThreshold)) {
+                    this.drop();
+                } else {
+                    this.publishBlocking(event);
+                }
+            }
+            case BLOCK -> this.publishBlocking(event);
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the dropped event count.
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Returns the actual (power-of-two) buffer capacity.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    private boolean tryPublish(LogEvent event) {
+        while (true) {
+            long position = this.tail.get();
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.slots[index].initFrom(event);
+                    this.sequences.set(index, position + 1);
+                    if (this.sleeping) {
+                        LockSupport.unpark(this.consumer);
+                    }
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false; // Full: the slot still holds an event from the previous lap.
+            }
+            // Otherwise another producer claimed this position first; retry with the new tail.
+        }
+    }
+
+    private void drop() {
+        this.dropped.increment();
+        this.droppedMetric.increment();
+    }
+
+    private void publishBlocking(LogEvent event) {
+        int tries = 0;
+        while (!this.tryPublish(event)) {
+            if (!this.running) {
+                this.forward(event);
+                return;
+            }
+            if (tries++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.unpark(this.consumer);
+                LockSupport.parkNanos(this, PARK_NANOS / 100);
+            }
+        }
+    }
+
+    // ----------------------- Consumer Side -----------------------
+
+    private void drainLoop() {
+        int idle = 0;
+        while (this.running || this.hasPending()) {
+            if (this.drainBatch() > 0) {
+                idle = 0;
+            } else if (idle++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                this.sleeping = true;
+                if (!this.hasPending() && this.running) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                this.sleeping = false;
+            }
+        }
+    }
+
+    private int drainBatch() {
+        if (!this.hasPending()) {
+            return 0;
+        }
+
+        LogWriteEvent jfrEvent = new LogWriteEvent();
+        long bytesBefore = jfrEvent.isEnabled() ? AppenderChains.writtenBytes(this.targets) : 0;
+        jfrEvent.begin();
+        long start = System.nanoTime();
+
+        int processed = 0;
+        while (this.hasPending()) {
+            int index = (int) (this.head & this.mask);
+            long next = this.head + 1;
+            MutableLogEvent slot = this.slots[index];
+
+            slot.setEndOfBatch(this.sequences.get((int) (next & this.mask)) != next + 1);
+            this.forward(slot);
+            slot.clear();
+
+            this.sequences.set(index, this.head + this.slots.length);
+            this.head = next;
+            processed++;
+        }
+        this.batchTimeMetric.recordSince(start);
+        this.eventsMetric.add(processed);
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.appender = getName();
+            jfrEvent.events = processed;
+            jfrEvent.bytes = Math.max(0, AppenderChains.writtenBytes(this.targets) - bytesBefore); // A rollover resets the count
+            jfrEvent.commit();
+        }
+        return processed;
+    }
+
+    private boolean hasPending() {
+        return this.sequences.get((int) (this.head & this.mask)) == this.head + 1;
+    }
+
+    private void forward(LogEvent event) {
+        for (AppenderControl target : this.targets) {
+            try {
+                target.callAppender(event);
+            } catch (RuntimeException e) {
+                error("Failed to forward event to " + target.getAppenderName(), event, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.archive;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sidecar index of a block-compressed log archive ({@code <archive>.idx}).
+ *
+ * <p>Each {@link Block} describes one independently compressed gzip member of the archive: where it lives in the
+ * compressed and in the original file, the time range of the events it contains and how many events of each level
+ * it holds. Blocks whose events were not observed while logging (e.g. content from a previous run) have an unknown
+ * time range, which every query treats as a match.</p>
+ *
+ * @param blocks The blocks in file order.
+ */
+public record ArchiveIndex(List<Block> blocks) {
+    /** Index file magic ({@code "MMLI"}). */
+    public static final int MAGIC = 0x4D4D4C49;
+
+    /** Current index format version. */
+    public static final int VERSION = 1;
+
+    /** Number of level counters per block: FATAL, ERROR, WARN, INFO, DEBUG, TRACE. */
+    public static final int LEVELS = 6;
+
+    /** Timestamp used for blocks with an unknown start. */
+    public static final long UNKNOWN_START = Long.MIN_VALUE;
+
+    /** Timestamp used for blocks with an unknown end. */
+    public static final long UNKNOWN_END = Long.MAX_VALUE;
+
+    public ArchiveIndex {
+        blocks = List.copyOf(blocks);
+    }
+
+    /**
+     * Returns the sidecar index path of an archive.
+     *
+     * @param archive The archive path.
+     * @return The index path.
+     */
+    public static Path indexFile(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + ".idx");
+    }
+
+    /**
+     * Reads the index of an archive.
+     *
+     * @param archive The archive path (not the index path).
+     * @return The index.
+     * @throws IOException if the index is missing or corrupt.
+     */
+    public static ArchiveIndex read(Path archive) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile(archive))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an archive index: " + indexFile(archive));
+            }
+            int version = in.readUnsignedByte();
+            if (version > VERSION) {
+                throw new IOException("Unsupported archive index version " + version);
+            }
+
+            int count = in.readInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long offset = in.readLong();
+                long length = in.readLong();
+                long compressedOffset = in.readLong();
+                long compressedLength = in.readLong();
+                long first = in.readLong();
+                long last = in.readLong();
+                int[] levelCounts = new int[LEVELS];
+                for (int level = 0; level < LEVELS; level++) {
+                    levelCounts[level] = in.readInt();
+                }
+                blocks.add(new Block(offset, length, compressedOffset, compressedLength, first, last, levelCounts));
+            }
+            return new ArchiveIndex(blocks);
+        }
+    }
+
+    /**
+     * Writes this index next to the given archive.
+     *
+     * @param archive The archive path (not the index path).
+     * @throws IOException if writing fails.
+     */
+    public void write(Path archive) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile(archive))))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeLong(block.offset());
+                out.writeLong(block.length());
+                out.writeLong(block.compressedOffset());
+                out.writeLong(block.compressedLength());
+                out.writeLong(block.firstTimestamp());
+                out.writeLong(block.lastTimestamp());
+                for (int level = 0; level < LEVELS; level++) {
+                    out.writeInt(block.levelCounts()[level]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the blocks that may contain events in the given time range.
+     *
+     * @param fromMillis The start of the range (inclusive).
+     * @param toMillis   The end of the range (inclusive).
+     * @return The matching blocks in file order.
+     */
+    public List<Block> blocksBetween(long fromMillis, long toMillis) {
+        List<Block> matching = new ArrayList<>();
+        for (Block block : blocks) {
+            if (block.overlaps(fromMillis, toMillis)) {
+                matching.add(block);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Maps a log4j numeric level to its counter slot.
+     *
+     * @param intLevel The numeric level (100 for FATAL up to 600 for TRACE).
+     * @return The slot in {@link Block#levelCounts()}.
+     */
+    public static int levelSlot(int intLevel) {
+        return Math.max(0, Math.min(LEVELS - 1, intLevel / 100 - 1));
+    }
+
+    /**
+     * One independently compressed block of an archive.
+     *
+     * @param offset           Offset of the block in the original file.
+     * @param length           Uncompressed length of the block.
+     * @param compressedOffset Offset of the block's gzip member in the archive.
+     * @param compressedLength Length of the block's gzip member.
+     * @param firstTimestamp   Timestamp of the first event, or {@link #UNKNOWN_START}.
+     * @param lastTimestamp    Timestamp of the last event, or {@link #UNKNOWN_END}.
+     * @param levelCounts      Number of events per level slot (see {@link #levelSlot(int)}).
+     */
+    public record Block(long offset, long length, long compressedOffset, long compressedLength,
+                        long firstTimestamp, long lastTimestamp, int[] levelCounts) {
+
+        /**
+         * Returns whether this block may contain events in the given time range.
+         *
+         * @param fromMillis The start of the range (inclusive).
+         * @param toMillis   The end of the range (inclusive).
+         * @return true if the block overlaps the range or its range is unknown.
+         */
+        public boolean overlaps(long fromMillis, long toMillis) {
+            return firstTimestamp <= toMillis && lastTimestamp >= fromMillis;
+        }
+
+        /**
+         * Returns whether this block may contain events at least as severe as the given level.
+         *
+         * @param intLevel The least severe numeric level of interest.
+         * @return true if the block counted such events or its content is unknown.
+         */
+        public boolean containsLevel(int intLevel) {
+            if (firstTimestamp == UNKNOWN_START) {
+                return true;
+            }
+            for (int slot = 0; slot <= levelSlot(intLevel); slot++) {
+                if (levelCounts[slot] > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.archive;
+
+import com.example.modular_multi_loader_template.utils.functions.logging.events.LogCompressEvent;
+import org.apache.logging.log4j.core.appender.rolling.action.AbstractAction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rollover action that compresses rolled log files into block-indexed archives.
+ *
+ * <p>Every uncompressed backup in the directory whose name matches the backup pattern is written to
+ * {@code <backup>.gz} as a sequence of independently compressed gzip members, one per block recorded by the
+ * {@link BlockIndexingTriggeringPolicy}, and an {@link ArchiveIndex} is written next to it. Concatenated gzip
+ * members are still a valid gzip file, so {@code zcat} and other tools keep working. Parts of a file the policy did
+ * not observe (e.g. content written by a previous run) are split into fixed-size blocks with an unknown time range.</p>
+ *
+ * <p>After compressing, the oldest archives beyond {@code maxArchives} are deleted together with their indexes.</p>
+ */
+public class BlockCompressAction extends AbstractAction {
+    private final Path directory;
+    private final Pattern backupName;
+    private final BlockIndexingTriggeringPolicy policy;
+    private final long blockSize;
+    private final int maxArchives;
+
+    /**
+     * Creates a block compression action.
+     *
+     * @param directory   the directory containing the rolled files.
+     * @param backupName  pattern matching the file names of uncompressed backups.
+     * @param policy      the policy that recorded the block boundaries.
+     * @param blockSize   the size of blocks for unobserved content.
+     * @param maxArchives the number of archives to keep.
+     */
+    public BlockCompressAction(Path directory, Pattern backupName, BlockIndexingTriggeringPolicy policy,
+                               long blockSize, int maxArchives) {
+        this.directory = directory;
+        this.backupName = backupName;
+        this.policy = policy;
+        this.blockSize = blockSize;
+        this.maxArchives = maxArchives;
+    }
+
+    @Override
+    public boolean execute() throws IOException {
+        // Rollover actions may run concurrently; the first one compresses every pending backup.
+        synchronized (this.policy.archiveLock) {
+            return this.compressPending();
+        }
+    }
+
+    private boolean compressPending() throws IOException {
+        List<Path> backups = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.filter(path -> this.backupName.matcher(path.getFileName().toString()).matches()).forEach(backups::add);
+        }
+        backups.sort(Comparator.comparing(path -> path.getFileName().toString()));
+
+        // Recorded blocks belong to the newest backups; older leftovers (e.g. from a crash) are indexed blindly.
+        List<List<BlockIndexingTriggeringPolicy.PendingBlock>> pending = this.policy.drainFinishedFiles();
+        int firstRecorded = backups.size() - pending.size();
+        for (int i = 0; i < backups.size(); i++) {
+            Path backup = backups.get(i);
+            compress(backup, i >= firstRecorded ? pending.get(i - firstRecorded) : List.of(), this.blockSize);
+            Files.delete(backup);
+        }
+        this.prune();
+        return true;
+    }
+
+    /**
+     * Compresses an existing file into a block-indexed archive ({@code <file>.gz} plus {@code <file>.gz.idx}) with
+     * fixed-size blocks of unknown time range. The source file is left in place.
+     *
+     * @param source    the uncompressed file.
+     * @param blockSize the uncompressed size of each block.
+     * @return the archive path.
+     * @throws IOException if reading or writing fails.
+     */
+    public static Path compress(Path source, long blockSize) throws IOException {
+        return compress(source, List.of(), blockSize);
+    }
+
+    static Path compress(Path source, List<BlockIndexingTriggeringPolicy.PendingBlock> recorded, long blockSize) throws IOException {
+        LogCompressEvent jfrEvent = new LogCompressEvent();
+        jfrEvent.begin();
+        Path archive = source.resolveSibling(source.getFileName() + ".gz");
+        long size = Files.size(source);
+        List<ArchiveIndex.Block> blocks = new ArrayList<>();
+
+        try (InputStream in = Files.newInputStream(source);
+             CountingOutputStream out = new CountingOutputStream(Files.newOutputStream(archive))) {
+            long position = 0;
+            int next = 0;
+            while (position < size) {
+                // Skip recorded blocks that no longer fit (e.g. the file was truncated).
+                while (next < recorded.size() && recorded.get(next).offset < position) {
+                    next++;
+                }
+
+                BlockIndexingTriggeringPolicy.PendingBlock block = next < recorded.size() && recorded.get(next).offset == position
+                        ? recorded.get(next++) : null;
+                long limit = next < recorded.size() ? Math.min(recorded.get(next).offset, size) : size;
+                long end = block != null ? limit : Math.min(position + blockSize, limit);
+
+                long compressedOffset = out.count;
+                GZIPOutputStream member = new GZIPOutputStream(new NonClosingOutputStream(out), 64 * 1024);
+                copy(in, member, end - position);
+                member.finish();
+
+                blocks.add(block != null
+                        ? new ArchiveIndex.Block(position, end - position, compressedOffset, out.count - compressedOffset,
+                                block.firstTimestamp, block.lastTimestamp, block.levelCounts.clone())
+                        : new ArchiveIndex.Block(position, end - position, compressedOffset, out.count - compressedOffset,
+                                ArchiveIndex.UNKNOWN_START, ArchiveIndex.UNKNOWN_END, new int[ArchiveIndex.LEVELS]));
+                position = end;
+            }
+        }
+
+        new ArchiveIndex(blocks).write(archive);
+
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.file = archive.toString();
+            jfrEvent.bytes = size;
+            jfrEvent.compressedBytes = blocks.isEmpty() ? 0 : blocks.get(blocks.size() - 1).compressedOffset()
+                    + blocks.get(blocks.size() - 1).compressedLength();
+            jfrEvent.blocks = blocks.size();
+            jfrEvent.commit();
+        }
+        return archive;
+    }
+
+    private void prune() throws IOException {
+        Pattern archiveName = Pattern.compile(this.backupName.pattern() + "\\.gz");
+        List<Path> archives = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.filter(path -> archiveName.matcher(path.getFileName().toString()).matches()).forEach(archives::add);
+        }
+        if (archives.size() <= this.maxArchives) {
+            return;
+        }
+
+        archives.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        for (Path old : archives.subList(0, archives.size() - this.maxArchives)) {
+            Files.deleteIfExists(old);
+            Files.deleteIfExists(ArchiveIndex.indexFile(old));
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new IOException("Unexpected end of file while compressing");
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BlockCompressAction[" + this.directory + "/" + this.backupName.pattern() + "]";
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream out;
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.out.close();
+        }
+    }
+
+    private static final class NonClosingOutputStream extends OutputStream {
+        private final OutputStream out;
+
+        NonClosingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+        }
+    }
+}
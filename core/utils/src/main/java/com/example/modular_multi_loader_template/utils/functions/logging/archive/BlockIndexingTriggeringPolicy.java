@@ -0,0 +1,119 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.archive;
+
+import org.apache.logging.log4j.core.LifeCycle;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.rolling.AbstractTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+import org.apache.logging.log4j.core.appender.rolling.TriggeringPolicy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triggering policy wrapper that records where each block of the active log file starts, which time range it
+ * covers and how many events of each level it contains.
+ *
+ * <p>The rolling file manager asks the policy about every event just before writing it, so
+ * {@link RollingFileManager#getFileSize()} is the offset the event will be written at. A new block starts whenever
+ * the current one has reached {@code blockSize} bytes. When the wrapped policy triggers a rollover, the blocks of the
+ * finished file are queued for the {@link BlockCompressAction} that compresses the renamed file.</p>
+ */
+public class BlockIndexingTriggeringPolicy extends AbstractTriggeringPolicy {
+    private final TriggeringPolicy delegate;
+    private final long blockSize;
+    private final Deque<List<PendingBlock>> finishedFiles = new ArrayDeque<>();
+
+    // Serializes the compress actions of this file without blocking logging, which locks the policy itself.
+    final Object archiveLock = new Object();
+
+    private RollingFileManager manager;
+    private List<PendingBlock> blocks = new ArrayList<>();
+    private PendingBlock current;
+
+    /**
+     * Wraps a triggering policy.
+     *
+     * @param delegate  the policy deciding when to roll over.
+     * @param blockSize the uncompressed size of each block in bytes.
+     */
+    public BlockIndexingTriggeringPolicy(TriggeringPolicy delegate, long blockSize) {
+        this.delegate = delegate;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public void initialize(RollingFileManager manager) {
+        this.manager = manager;
+        this.delegate.initialize(manager);
+    }
+
+    @Override
+    public void start() {
+        if (this.delegate instanceof LifeCycle lifeCycle) {
+            lifeCycle.start();
+        }
+        super.start();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        if (this.delegate instanceof LifeCycle lifeCycle) {
+            lifeCycle.stop();
+        }
+        return super.stop(timeout, timeUnit);
+    }
+
+    @Override
+    public synchronized boolean isTriggeringEvent(LogEvent event) {
+        if (this.delegate.isTriggeringEvent(event)) {
+            // This event goes to the new file; everything recorded so far belongs to the one being rolled.
+            this.finishedFiles.addLast(this.blocks);
+            this.blocks = new ArrayList<>();
+            this.current = null;
+            this.record(0, event);
+            return true;
+        }
+
+        this.record(this.manager != null ? this.manager.getFileSize() : 0, event);
+        return false;
+    }
+
+    /**
+     * Removes and returns the recorded blocks of every rolled file that has not been compressed yet.
+     *
+     * @return the blocks of each file, oldest file first.
+     */
+    synchronized List<List<PendingBlock>> drainFinishedFiles() {
+        List<List<PendingBlock>> drained = new ArrayList<>(this.finishedFiles);
+        this.finishedFiles.clear();
+        return drained;
+    }
+
+    private void record(long offset, LogEvent event) {
+        if (this.current == null || offset - this.current.offset >= this.blockSize) {
+            this.current = new PendingBlock(offset, event.getTimeMillis());
+            this.blocks.add(this.current);
+        }
+        this.current.lastTimestamp = Math.max(this.current.lastTimestamp, event.getTimeMillis());
+        this.current.levelCounts[ArchiveIndex.levelSlot(event.getLevel().intLevel())]++;
+    }
+
+    /**
+     * Block metadata collected while logging; offsets refer to the uncompressed file.
+     */
+    static final class PendingBlock {
+        final long offset;
+        final long firstTimestamp;
+        long lastTimestamp;
+        final int[] levelCounts = new int[ArchiveIndex.LEVELS];
+
+        PendingBlock(long offset, long firstTimestamp) {
+            this.offset = offset;
+            this.firstTimestamp = firstTimestamp;
+            this.lastTimestamp = firstTimestamp;
+        }
+    }
+}
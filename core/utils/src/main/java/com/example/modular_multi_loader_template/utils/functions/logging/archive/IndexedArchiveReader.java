@@ -0,0 +1,148 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.archive;
+
+import org.apache.logging.log4j.Level;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads selected blocks of a block-indexed log archive written by {@link BlockCompressAction}.
+ *
+ * <p>The sidecar {@link ArchiveIndex} is consulted first; only blocks whose time range overlaps the query and that
+ * contain events of the requested severity are read and decompressed. Each block is a complete gzip member, so
+ * reading starts directly at its compressed offset without touching the rest of the archive.</p>
+ *
+ * <p>Blocks are the unit of selection: a block at the edge of the range may contain lines slightly outside it.
+ * Recorded blocks start at event boundaries, so multi-line events such as stack traces are never split; blocks of
+ * content that was not observed while logging have a fixed size and an unknown range, and are always selected.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try (IndexedArchiveReader reader = IndexedArchiveReader.open(Path.of("logs/MyApp/2024-05-01_12-00-00.log.gz"))) {
+ *     reader.forEachLine(from, to, Level.WARN, System.out::println);
+ * }
+ * }</pre>
+ */
+public class IndexedArchiveReader implements Closeable {
+    private final FileChannel channel;
+    private final ArchiveIndex index;
+
+    private IndexedArchiveReader(FileChannel channel, ArchiveIndex index) {
+        this.channel = channel;
+        this.index = index;
+    }
+
+    /**
+     * Opens an archive together with its sidecar index.
+     *
+     * @param archive the {@code .gz} archive.
+     * @return the reader.
+     * @throws IOException if the archive or its index cannot be read.
+     */
+    public static IndexedArchiveReader open(Path archive) throws IOException {
+        ArchiveIndex index = ArchiveIndex.read(archive);
+        return new IndexedArchiveReader(FileChannel.open(archive, StandardOpenOption.READ), index);
+    }
+
+    /**
+     * Returns the index of the archive.
+     *
+     * @return the index.
+     */
+    public ArchiveIndex getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the blocks that may contain events in the time range at least as severe as the given level.
+     *
+     * @param fromMillis the start of the range (inclusive).
+     * @param toMillis   the end of the range (inclusive).
+     * @param level      the least severe level of interest.
+     * @return the matching blocks in file order.
+     */
+    public List<ArchiveIndex.Block> select(long fromMillis, long toMillis, Level level) {
+        List<ArchiveIndex.Block> selected = new ArrayList<>();
+        for (ArchiveIndex.Block block : this.index.blocksBetween(fromMillis, toMillis)) {
+            if (block.containsLevel(level.intLevel())) {
+                selected.add(block);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Opens a stream over the decompressed content of the selected blocks, in file order.
+     *
+     * @param fromMillis the start of the range (inclusive).
+     * @param toMillis   the end of the range (inclusive).
+     * @param level      the least severe level of interest.
+     * @return the decompressed content.
+     * @throws IOException if reading fails.
+     */
+    public InputStream openRange(long fromMillis, long toMillis, Level level) throws IOException {
+        List<InputStream> streams = new ArrayList<>();
+        for (ArchiveIndex.Block block : this.select(fromMillis, toMillis, level)) {
+            streams.add(this.openBlock(block));
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    /**
+     * Passes every line of the selected blocks to the consumer.
+     *
+     * @param fromMillis the start of the range (inclusive).
+     * @param toMillis   the end of the range (inclusive).
+     * @param level      the least severe level of interest.
+     * @param consumer   receives the lines in file order.
+     * @throws IOException if reading fails.
+     */
+    public void forEachLine(long fromMillis, long toMillis, Level level, Consumer<String> consumer) throws IOException {
+        for (ArchiveIndex.Block block : this.select(fromMillis, toMillis, level)) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(this.openBlock(block), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    consumer.accept(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a stream over the decompressed content of one block.
+     *
+     * @param block a block of this archive's index.
+     * @return the decompressed content.
+     * @throws IOException if the block cannot be read.
+     */
+    public InputStream openBlock(ArchiveIndex.Block block) throws IOException {
+        if (block.compressedLength() > Integer.MAX_VALUE) {
+            throw new IOException("Block too large: " + block.compressedLength() + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) block.compressedLength());
+        long position = block.compressedOffset();
+        while (buffer.hasRemaining()) {
+            int read = this.channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Archive is shorter than its index");
+            }
+            position += read;
+        }
+        return new GZIPInputStream(new ByteArrayInputStream(buffer.array()), 64 * 1024);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.binary;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+import org.apache.logging.log4j.core.layout.AbstractLayout;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.ReusableParameterizedMessage;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLogFormat.*;
+
+/**
+ * Layout that writes events as compact binary records instead of text; see {@link BinaryLogFormat}.
+ *
+ * <p>Logger, thread and level names and message templates are written once per segment into a dictionary and
+ * referenced by id afterwards. Timestamps are varint deltas to the previous event and parameters are stored
+ * unformatted for {@code {}}-style parameterized messages, so a typical event is a few dozen bytes. Other messages
+ * (e.g. printf-style ones) are stored formatted. Use {@link BinaryLogReader} to filter and render files.</p>
+ *
+ * <p>The dictionaries are stateful: records must reach the file in the order they were encoded. Encoding therefore
+ * happens under the lock of the destination (the file manager), and a new segment starts whenever a header is
+ * requested for a new file.</p>
+ */
+public class BinaryLayout extends AbstractLayout<byte[]> {
+    private static final int MAX_TEMPLATES = 4096;
+
+    private final Map<String, Integer> loggers = new HashMap<>();
+    private final Map<String, Integer> threads = new HashMap<>();
+    private final Map<Level, Integer> levels = new HashMap<>();
+    private final Map<String, Integer> templates = new HashMap<>();
+    private final RecordBuffer out = new RecordBuffer(512);
+    private final RecordBuffer payload = new RecordBuffer(256);
+
+    private boolean segmentStarted;
+    private long lastTimestamp;
+
+    /**
+     * Creates a binary layout.
+     *
+     * @param configuration the current configuration, may be {@code null}.
+     */
+    public BinaryLayout(Configuration configuration) {
+        super(configuration, null, null);
+    }
+
+    @Override
+    public synchronized byte[] getHeader() {
+        // A new file: start over so it can be read on its own.
+        this.segmentStarted = false;
+        byte[] header = new byte[HEADER_SIZE];
+        header[0] = (byte) (MAGIC >>> 24);
+        header[1] = (byte) (MAGIC >>> 16);
+        header[2] = (byte) (MAGIC >>> 8);
+        header[3] = (byte) MAGIC;
+        header[4] = (byte) VERSION;
+        return header;
+    }
+
+    @Override
+    public synchronized byte[] toByteArray(LogEvent event) {
+        this.encodeRecords(event);
+        return Arrays.copyOf(this.out.bytes, this.out.size);
+    }
+
+    @Override
+    public byte[] toSerializable(LogEvent event) {
+        return toByteArray(event);
+    }
+
+    @Override
+    public void encode(LogEvent event, ByteBufferDestination destination) {
+        synchronized (destination) {
+            synchronized (this) {
+                this.encodeRecords(event);
+                destination.writeBytes(this.out.bytes, 0, this.out.size);
+            }
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    // ----------------------- Encoding -----------------------
+
+    private void encodeRecords(LogEvent event) {
+        this.out.size = 0;
+        long timestamp = event.getTimeMillis();
+        if (!this.segmentStarted) {
+            this.loggers.clear();
+            this.threads.clear();
+            this.levels.clear();
+            this.templates.clear();
+            this.payload.size = 0;
+            this.payload.writeVarLong(timestamp);
+            this.writeRecord(SEGMENT);
+            this.lastTimestamp = timestamp;
+            this.segmentStarted = true;
+        }
+
+        int level = this.lookup(this.levels, event.getLevel(), KIND_LEVEL, event.getLevel().name());
+        int logger = this.lookup(this.loggers, nonNull(event.getLoggerName()), KIND_LOGGER, nonNull(event.getLoggerName()));
+        int thread = this.lookup(this.threads, nonNull(event.getThreadName()), KIND_THREAD, nonNull(event.getThreadName()));
+
+        Message message = event.getMessage();
+        Object[] parameters = message.getParameters();
+        String format = message.getFormat();
+        int template = 0;
+        if (isParameterized(message, format, parameters)
+                && (this.templates.containsKey(format) || this.templates.size() < MAX_TEMPLATES)) {
+            template = this.lookup(this.templates, format, KIND_TEMPLATE, format);
+        }
+
+        Throwable thrown = event.getThrown();
+        this.payload.size = 0;
+        this.payload.writeVarLong(zigZag(timestamp - this.lastTimestamp));
+        this.payload.writeVarInt(level);
+        this.payload.writeVarInt(logger);
+        this.payload.writeVarInt(thread);
+        this.payload.writeVarInt(template);
+        this.payload.writeVarInt(thrown != null ? FLAG_THROWN : 0);
+        if (template == 0) {
+            this.payload.writeString(message.getFormattedMessage());
+        } else {
+            this.payload.writeVarInt(parameters.length);
+            for (Object parameter : parameters) {
+                this.payload.writeString(String.valueOf(parameter));
+            }
+        }
+        if (thrown != null) {
+            StringWriter trace = new StringWriter();
+            thrown.printStackTrace(new PrintWriter(trace));
+            this.payload.writeString(trace.toString());
+        }
+        this.writeRecord(EVENT);
+        this.lastTimestamp = timestamp;
+    }
+
+    // Only {}-style messages can be rendered again from template and parameters; a printf-style or object message
+    // also reports a format and parameters, but ParameterizedMessage.format would not reproduce its text.
+    private static boolean isParameterized(Message message, String format, Object[] parameters) {
+        if (format == null || parameters == null || parameters.length == 0) {
+            return false;
+        }
+        if (message instanceof ParameterizedMessage || message instanceof ReusableParameterizedMessage) {
+            return true;
+        }
+        // A MutableLogEvent stands in for the reusable message it copied, whose type is gone. An object message
+        // copies its string as format and only parameter; anything else must fill exactly its placeholders.
+        return message instanceof MutableLogEvent
+                && !(parameters.length == 1 && parameters[0] == format)
+                && ParameterizedMessage.countArgumentPlaceholders(format) == parameters.length;
+    }
+
+    private <K> int lookup(Map<K, Integer> dictionary, K key, int kind, String value) {
+        Integer id = dictionary.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        // Lookups happen before the event payload is built, so the payload buffer is free here.
+        int newId = dictionary.size() + 1;
+        dictionary.put(key, newId);
+        this.payload.size = 0;
+        this.payload.writeVarInt(kind);
+        this.payload.writeVarInt(newId);
+        this.payload.writeString(value);
+        this.writeRecord(DICTIONARY);
+        return newId;
+    }
+
+    private void writeRecord(byte type) {
+        this.out.writeByte(type);
+        this.out.writeVarInt(this.payload.size);
+        this.out.writeBytes(this.payload.bytes, 0, this.payload.size);
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Growable byte array with varint and string writers, reused for every event.
+     */
+    static final class RecordBuffer {
+        byte[] bytes;
+        int size;
+
+        RecordBuffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            this.ensure(1);
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            this.writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            this.ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                this.bytes[this.size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            this.writeVarInt(encoded.length);
+            this.writeBytes(encoded, 0, encoded.length);
+        }
+
+        void writeBytes(byte[] source, int offset, int length) {
+            this.ensure(length);
+            System.arraycopy(source, offset, this.bytes, this.size, length);
+            this.size += length;
+        }
+
+        private void ensure(int additional) {
+            if (this.size + additional > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.size + additional));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.binary;
+
+/**
+ * Constants and primitive encoding helpers shared by {@link BinaryLayout} and {@link BinaryLogReader}.
+ *
+ * <p>A file starts with {@link #MAGIC} and {@link #VERSION}, followed by records of the form
+ * {@code type (1 byte), payload length (varint), payload}. Records:</p>
+ * <ul>
+ *   <li>{@link #SEGMENT} - absolute timestamp (varlong); clears the dictionaries and the timestamp base.
+ *       Every layout instance starts a new segment, so files appended to by several runs stay readable.</li>
+ *   <li>{@link #DICTIONARY} - kind (varint), id (varint), string; defines a logger, thread, level or template.</li>
+ *   <li>{@link #EVENT} - timestamp delta (zig-zag varlong), level, logger and thread ids (varints), template id
+ *       (varint), then either the formatted message (template id {@code 0}) or the parameter count and
+ *       parameters (strings), and an optional rendered throwable.</li>
+ * </ul>
+ * <p>Strings are a varint byte length followed by UTF-8 bytes.</p>
+ */
+public final class BinaryLogFormat {
+    /** File magic ({@code "MMLB"}). */
+    public static final int MAGIC = 0x4D4D4C42;
+
+    /** Current format version. */
+    public static final int VERSION = 1;
+
+    /** Size of the file header in bytes: magic plus version. */
+    public static final int HEADER_SIZE = 5;
+
+    /** Record type: start of a segment. */
+    public static final byte SEGMENT = 0;
+
+    /** Record type: dictionary entry. */
+    public static final byte DICTIONARY = 1;
+
+    /** Record type: log event. */
+    public static final byte EVENT = 2;
+
+    /** Dictionary kind: logger names. */
+    public static final int KIND_LOGGER = 0;
+
+    /** Dictionary kind: thread names. */
+    public static final int KIND_THREAD = 1;
+
+    /** Dictionary kind: level names. */
+    public static final int KIND_LEVEL = 2;
+
+    /** Dictionary kind: message templates. */
+    public static final int KIND_TEMPLATE = 3;
+
+    /** Event flag: a rendered throwable follows the parameters. */
+    public static final int FLAG_THROWN = 1;
+
+    private BinaryLogFormat() {
+    }
+
+    /**
+     * Encodes a signed value so that small magnitudes produce short varints.
+     *
+     * @param value the value.
+     * @return the zig-zag encoded value.
+     */
+    public static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Decodes a zig-zag encoded value.
+     *
+     * @param value the encoded value.
+     * @return the original value.
+     */
+    public static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
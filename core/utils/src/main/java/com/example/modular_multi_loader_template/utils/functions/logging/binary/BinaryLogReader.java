@@ -0,0 +1,334 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.binary;
+
+import org.apache.logging.log4j.Level;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.modular_multi_loader_template.utils.functions.logging.binary.BinaryLogFormat.*;
+
+/**
+ * Streams records from a binary log file written by {@link BinaryLayout}, plain or gzip-compressed.
+ *
+ * <p>Filtering happens before decoding: the timestamp, level and logger of every event are read from its
+ * fixed prefix, and events that do not match the {@link Query} are skipped without decoding any strings.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try (BinaryLogReader reader = BinaryLogReader.open(Path.of("logs/MyApp/MyModule.blog"))) {
+ *     reader.forEach(BinaryLogReader.Query.all().atLeast(Level.WARN), record -> System.out.print(record.render()));
+ * }
+ * }</pre>
+ *
+ * <p>It can also be run from the command line to render a file to text:</p>
+ * <pre>
+ * java -cp ... BinaryLogReader &lt;file&gt; [--from &lt;time&gt;] [--to &lt;time&gt;] [--level &lt;level&gt;] [--logger &lt;prefix&gt;]
+ * </pre>
+ */
+public class BinaryLogReader implements Closeable {
+    private final DataInputStream in;
+    private final List<String> loggers = new ArrayList<>();
+    private final List<String> threads = new ArrayList<>();
+    private final List<String> levels = new ArrayList<>();
+    private final List<Integer> intLevels = new ArrayList<>();
+    private final List<String> templates = new ArrayList<>();
+
+    private byte[] payload = new byte[1024];
+    private int position;
+    private int limit;
+    private long lastTimestamp;
+
+    private BinaryLogReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    /**
+     * Opens a binary log file, decompressing it if it is gzip-compressed.
+     *
+     * @param file the file to read.
+     * @return a reader positioned at the first record.
+     * @throws IOException if the file cannot be opened or is not a binary log.
+     */
+    public static BinaryLogReader open(Path file) throws IOException {
+        BufferedInputStream stream = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        stream.mark(2);
+        boolean gzip = stream.read() == 0x1F && stream.read() == 0x8B;
+        stream.reset();
+
+        BinaryLogReader reader = new BinaryLogReader(gzip ? new BufferedInputStream(new GZIPInputStream(stream, 64 * 1024)) : stream);
+        try {
+            if (reader.in.readInt() != MAGIC) {
+                throw new IOException("Not a binary log file: " + file);
+            }
+            int version = reader.in.readUnsignedByte();
+            if (version > VERSION) {
+                throw new IOException("Unsupported binary log version " + version + " in " + file);
+            }
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    /**
+     * Reads all remaining records and passes those matching the query to the consumer.
+     *
+     * @param query    the filter to apply.
+     * @param consumer receives the matching records in file order.
+     * @throws IOException if reading fails or the file is corrupt.
+     */
+    public void forEach(Query query, Consumer<BinaryLogRecord> consumer) throws IOException {
+        int type;
+        while ((type = this.in.read()) >= 0) {
+            try {
+                this.readPayload();
+            } catch (EOFException e) {
+                return; // The last record was cut off, e.g. by a crash while writing.
+            }
+            switch (type) {
+                case SEGMENT -> {
+                    this.lastTimestamp = this.readVarLong();
+                    this.loggers.clear();
+                    this.threads.clear();
+                    this.levels.clear();
+                    this.intLevels.clear();
+                    this.templates.clear();
+                }
+                case DICTIONARY -> this.readDictionaryEntry();
+                case EVENT -> {
+                    BinaryLogRecord record = this.readEvent(query);
+                    if (record != null) {
+                        consumer.accept(record);
+                    }
+                }
+                default -> {
+                    // Unknown record type from a newer writer; its payload has already been skipped.
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    // ----------------------- Decoding -----------------------
+
+    private void readDictionaryEntry() {
+        int kind = this.readVarInt();
+        int id = this.readVarInt();
+        String value = this.readString();
+        switch (kind) {
+            case KIND_LOGGER -> set(this.loggers, id, value);
+            case KIND_THREAD -> set(this.threads, id, value);
+            case KIND_TEMPLATE -> set(this.templates, id, value);
+            case KIND_LEVEL -> {
+                set(this.levels, id, value);
+                Level level = Level.getLevel(value);
+                set(this.intLevels, id, level != null ? level.intLevel() : Level.INFO.intLevel());
+            }
+            default -> {
+                // Unknown dictionary kind; ignore.
+            }
+        }
+    }
+
+    private BinaryLogRecord readEvent(Query query) {
+        long timestamp = this.lastTimestamp + unZigZag(this.readVarLong());
+        this.lastTimestamp = timestamp;
+        int level = this.readVarInt();
+        int logger = this.readVarInt();
+        int thread = this.readVarInt();
+        int template = this.readVarInt();
+        int flags = this.readVarInt();
+
+        int intLevel = this.intLevels.get(level - 1);
+        String loggerName = this.loggers.get(logger - 1);
+        if (timestamp < query.fromMillis || timestamp > query.toMillis || intLevel > query.maxIntLevel
+                || (query.loggerPrefix != null && !loggerName.startsWith(query.loggerPrefix))) {
+            return null;
+        }
+
+        String message = null;
+        String[] parameters;
+        if (template == 0) {
+            message = this.readString();
+            parameters = new String[0];
+        } else {
+            parameters = new String[this.readVarInt()];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = this.readString();
+            }
+        }
+        String thrown = (flags & FLAG_THROWN) != 0 ? this.readString() : null;
+
+        return new BinaryLogRecord(timestamp, this.levels.get(level - 1), intLevel, loggerName,
+                this.threads.get(thread - 1), template == 0 ? null : this.templates.get(template - 1),
+                parameters, message, thrown);
+    }
+
+    private void readPayload() throws IOException {
+        int length = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = this.in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (length > this.payload.length) {
+            this.payload = new byte[Math.max(length, this.payload.length * 2)];
+        }
+        this.in.readFully(this.payload, 0, length);
+        this.position = 0;
+        this.limit = length;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (this.position >= this.limit) {
+                throw new UncheckedIOException(new EOFException("Truncated binary log record"));
+            }
+            b = this.payload[this.position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private int readVarInt() {
+        return (int) this.readVarLong();
+    }
+
+    private String readString() {
+        int length = this.readVarInt();
+        String value = new String(this.payload, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        return value;
+    }
+
+    private static <T> void set(List<T> list, int id, T value) {
+        while (list.size() < id) {
+            list.add(null);
+        }
+        list.set(id - 1, value);
+    }
+
+    // ----------------------- Query -----------------------
+
+    /**
+     * Filter applied while reading. Instances are immutable; every method returns a new query.
+     *
+     * @param fromMillis   The earliest timestamp to include (inclusive).
+     * @param toMillis     The latest timestamp to include (inclusive).
+     * @param maxIntLevel  The least severe numeric level to include.
+     * @param loggerPrefix Only include loggers whose name starts with this prefix, or {@code null} for all.
+     */
+    public record Query(long fromMillis, long toMillis, int maxIntLevel, String loggerPrefix) {
+        /**
+         * Returns a query that matches every record.
+         *
+         * @return The unrestricted query.
+         */
+        public static Query all() {
+            return new Query(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, null);
+        }
+
+        /**
+         * Restricts the query to a time range.
+         *
+         * @param fromMillis The earliest timestamp (inclusive).
+         * @param toMillis   The latest timestamp (inclusive).
+         * @return The new query.
+         */
+        public Query between(long fromMillis, long toMillis) {
+            return new Query(fromMillis, toMillis, maxIntLevel, loggerPrefix);
+        }
+
+        /**
+         * Restricts the query to events at least as severe as the given level.
+         *
+         * @param level The minimum level.
+         * @return The new query.
+         */
+        public Query atLeast(Level level) {
+            return new Query(fromMillis, toMillis, level.intLevel(), loggerPrefix);
+        }
+
+        /**
+         * Restricts the query to loggers whose name starts with the given prefix.
+         *
+         * @param prefix The logger name prefix.
+         * @return The new query.
+         */
+        public Query logger(String prefix) {
+            return new Query(fromMillis, toMillis, maxIntLevel, prefix);
+        }
+    }
+
+    // ----------------------- Command Line -----------------------
+
+    /**
+     * Renders a binary log file to standard output.
+     *
+     * @param args the file, followed by optional {@code --from}, {@code --to}, {@code --level} and {@code --logger}.
+     * @throws IOException if reading fails.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryLogReader <file> [--from <time>] [--to <time>] [--level <level>] [--logger <prefix>]");
+            System.exit(1);
+        }
+
+        Query query = Query.all();
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            query = switch (args[i]) {
+                case "--from" -> query.between(parseTime(value), query.toMillis());
+                case "--to" -> query.between(query.fromMillis(), parseTime(value));
+                case "--level" -> query.atLeast(Level.toLevel(value, Level.ALL));
+                case "--logger" -> query.logger(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            };
+        }
+
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 64 * 1024);
+        try (BinaryLogReader reader = open(Path.of(args[0]))) {
+            reader.forEach(query, record -> {
+                try {
+                    out.write(record.render());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } finally {
+            out.flush();
+        }
+    }
+
+    // Accepts epoch milliseconds, ISO instants (2024-05-01T12:00:00Z) or local date-times (2024-05-01T12:00:00).
+    private static long parseTime(String value) {
+        if (value.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(value);
+        }
+        if (value.endsWith("Z")) {
+            return Instant.parse(value).toEpochMilli();
+        }
+        return LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
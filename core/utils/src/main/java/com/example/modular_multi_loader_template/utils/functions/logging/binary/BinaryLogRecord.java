@@ -0,0 +1,62 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.binary;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A log event read back from a binary log file.
+ *
+ * @param timeMillis The event timestamp in epoch milliseconds.
+ * @param level      The level name.
+ * @param intLevel   The numeric log4j level (lower is more severe).
+ * @param logger     The logger name.
+ * @param thread     The thread name.
+ * @param template   The message template, or {@code null} if the message was stored formatted.
+ * @param parameters The raw message parameters (empty if stored formatted).
+ * @param message    The formatted message if no template was stored, otherwise {@code null}.
+ * @param thrown     The rendered throwable, or {@code null}.
+ */
+public record BinaryLogRecord(
+        long timeMillis,
+        String level,
+        int intLevel,
+        String logger,
+        String thread,
+        String template,
+        String[] parameters,
+        String message,
+        String thrown
+) {
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    /**
+     * Returns the formatted message.
+     *
+     * @return The message with its parameters substituted.
+     */
+    public String formattedMessage() {
+        return template == null ? message : ParameterizedMessage.format(template, parameters);
+    }
+
+    /**
+     * Renders the record as a text log line, including the throwable if present.
+     *
+     * @return The rendered text, ending with a line separator.
+     */
+    public String render() {
+        StringBuilder builder = new StringBuilder(96)
+                .append('[').append(TIMESTAMP.format(Instant.ofEpochMilli(timeMillis))).append("] [")
+                .append(thread).append('/').append(level).append("] [")
+                .append(logger).append("]: ")
+                .append(formattedMessage())
+                .append(System.lineSeparator());
+        if (thrown != null) {
+            builder.append(thrown);
+        }
+        return builder.toString();
+    }
+}
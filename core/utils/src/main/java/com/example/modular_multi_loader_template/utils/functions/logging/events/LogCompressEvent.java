@@ -0,0 +1,34 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.events;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder event for the background compression of a rolled log file.
+ *
+ * <p>Disabled by default, like the other events of this project.</p>
+ */
+@Name(LogCompressEvent.NAME)
+@Label("Log Compression")
+@Category({"Modular Multi Loader Template", "Logging"})
+@Description("Compression of a rolled PersistentLogger file")
+@Enabled(false)
+@StackTrace(false)
+public final class LogCompressEvent extends Event {
+    /** The JFR event name. */
+    public static final String NAME = "com.example.modular_multi_loader_template.LogCompress";
+
+    @Label("File")
+    public String file;
+
+    @Label("Uncompressed Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Compressed Size")
+    @DataAmount
+    public long compressedBytes;
+
+    @Label("Blocks")
+    @Description("Number of independently compressed blocks, or 1 for a single gzip stream")
+    public int blocks;
+}
@@ -0,0 +1,27 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.events;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder event for a log file rollover, from the trigger until the new file is open. Compression of
+ * the rolled file happens in the background and is reported by {@link LogCompressEvent}.
+ *
+ * <p>Disabled by default, like the other events of this project.</p>
+ */
+@Name(LogRolloverEvent.NAME)
+@Label("Log Rollover")
+@Category({"Modular Multi Loader Template", "Logging"})
+@Description("Rollover of a PersistentLogger file")
+@Enabled(false)
+@StackTrace(false)
+public final class LogRolloverEvent extends Event {
+    /** The JFR event name. */
+    public static final String NAME = "com.example.modular_multi_loader_template.LogRollover";
+
+    @Label("File")
+    public String file;
+
+    @Label("Rolled Size")
+    @DataAmount
+    public long bytes;
+}
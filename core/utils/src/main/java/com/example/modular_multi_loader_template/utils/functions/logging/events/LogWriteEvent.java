@@ -0,0 +1,30 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.events;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder event for writing log events to a file: one per batch drained by the asynchronous appender,
+ * or one per event written synchronously through the metered appender.
+ *
+ * <p>Disabled by default; when it is not enabled, emitting it costs a few instructions.</p>
+ */
+@Name(LogWriteEvent.NAME)
+@Label("Log Write")
+@Category({"Modular Multi Loader Template", "Logging"})
+@Description("Log events written by a PersistentLogger appender")
+@Enabled(false)
+@StackTrace(false)
+public final class LogWriteEvent extends Event {
+    /** The JFR event name. */
+    public static final String NAME = "com.example.modular_multi_loader_template.LogWrite";
+
+    @Label("Appender")
+    public String appender;
+
+    @Label("Events")
+    public int events;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytes;
+}
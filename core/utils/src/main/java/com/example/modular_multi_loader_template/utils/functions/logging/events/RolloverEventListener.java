@@ -0,0 +1,35 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.events;
+
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+import org.apache.logging.log4j.core.appender.rolling.RolloverListener;
+
+import java.io.File;
+
+/**
+ * Emits a {@link LogRolloverEvent} for every rollover of a log4j {@link RollingFileManager}.
+ *
+ * <p>The manager calls both methods under its own lock, so one event in flight per listener is enough.</p>
+ */
+public class RolloverEventListener implements RolloverListener {
+    private LogRolloverEvent pending;
+
+    @Override
+    public void rolloverTriggered(String fileName) {
+        LogRolloverEvent event = new LogRolloverEvent();
+        if (event.isEnabled()) {
+            event.file = fileName;
+            event.bytes = new File(fileName).length();
+            event.begin();
+            this.pending = event;
+        }
+    }
+
+    @Override
+    public void rolloverComplete(String fileName) {
+        LogRolloverEvent event = this.pending;
+        if (event != null) {
+            this.pending = null;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.filters;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Filter that collapses repeated messages and rate-limits noisy loggers before they reach any appender.
+ *
+ * <p>Repeats are recognized by logger name, level and message template (the unformatted pattern, so
+ * {@code "Player {} lagged"} counts as one message regardless of its parameters). Within each window, the first
+ * {@code maxRepeats} occurrences pass and the rest are denied and counted. A background sweep logs a
+ * {@code "repeated N more times"} summary for every suppressed message once per window.</p>
+ *
+ * <p>Independently, every logger gets a token bucket of {@code ratePerSecond} events with a burst of
+ * {@code burst}; events beyond it are denied and summarized the same way.</p>
+ *
+ * <p>Both tables are fixed-size, open-addressed arrays updated with CAS only. Looking up an already known
+ * message compares cached hash codes and (usually identical) string references, so the per-event path does not
+ * allocate. Messages that do not fit into the table are passed through untracked, and messages idle for a minute
+ * are evicted to make room. Summaries carry {@link #SUMMARY_MARKER} and are never filtered themselves.</p>
+ *
+ * <p>Summaries are logged through {@link LogManager} unless a {@linkplain #setSummaryTarget(LoggerConfig) summary
+ * target} is set. The final summaries written by {@link #stop(long, TimeUnit)} should go to a target: when a
+ * configuration stops, Log4j has already pointed its loggers at the next configuration.</p>
+ */
+public class RepeatedMessageFilter extends AbstractFilter {
+    /** Marker attached to summary events; events with this marker always pass. */
+    public static final Marker SUMMARY_MARKER = MarkerManager.getMarker("REPEAT_SUMMARY");
+
+    private static final int MAX_PROBES = 8;
+    private static final long IDLE_EVICTION_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // Left in place of an evicted message so that lookups keep probing past it to entries inserted after it.
+    private static final MessageSlot EVICTED = new MessageSlot(0, "", Level.OFF, "", 0);
+
+    private final int maxRepeats;
+    private final long windowMillis;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private final AtomicReferenceArray<MessageSlot> messages;
+    private final AtomicReferenceArray<LoggerBucket> buckets;
+    private final int mask;
+
+    private ScheduledExecutorService sweeper;
+    private volatile LoggerConfig summaryTarget;
+
+    /**
+     * Creates a repeated-message filter.
+     *
+     * @param tableSize     the number of tracked messages and loggers; rounded up to a power of two.
+     * @param maxRepeats    occurrences of one message allowed per window, or {@code 0} to disable suppression.
+     * @param windowMillis  the repeat window and summary interval in milliseconds.
+     * @param ratePerSecond sustained events per second allowed per logger, or {@code 0} to disable rate limiting.
+     * @param burst         the number of events a logger may log at once before the rate limit applies.
+     */
+    public RepeatedMessageFilter(int tableSize, int maxRepeats, long windowMillis, int ratePerSecond, int burst) {
+        super(Result.NEUTRAL, Result.DENY);
+        if (tableSize <= 0 || windowMillis <= 0) {
+            throw new IllegalArgumentException("Table size and window must be positive");
+        }
+
+        int size = Integer.highestOneBit(tableSize) == tableSize ? tableSize : Integer.highestOneBit(tableSize) << 1;
+        this.mask = size - 1;
+        this.messages = new AtomicReferenceArray<>(size);
+        this.buckets = new AtomicReferenceArray<>(size);
+        this.maxRepeats = maxRepeats;
+        this.windowMillis = windowMillis;
+        this.emissionIntervalNanos = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+        this.burstToleranceNanos = this.emissionIntervalNanos * Math.max(0, burst - 1);
+    }
+
+    /**
+     * Sends summaries straight to the appenders of the given logger configuration, usually the one this filter
+     * is attached to, instead of through the logger currently registered under that name.
+     *
+     * @param target the logger configuration that receives the summaries, or {@code null} to use {@link LogManager}.
+     */
+    public void setSummaryTarget(LoggerConfig target) {
+        this.summaryTarget = target;
+    }
+
+    // ----------------------- Lifecycle -----------------------
+
+    @Override
+    public void start() {
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RepeatedMessageFilter-Sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::sweep, this.windowMillis, this.windowMillis, TimeUnit.MILLISECONDS);
+        super.start();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        if (this.sweeper != null) {
+            this.sweeper.shutdownNow();
+        }
+        this.sweep();
+        setStopped();
+        return true;
+    }
+
+    // ----------------------- Filtering -----------------------
+
+    @Override
+    public Result filter(LogEvent event) {
+        Marker marker = event.getMarker();
+        if (marker != null && marker.isInstanceOf(SUMMARY_MARKER)) {
+            return Result.NEUTRAL;
+        }
+
+        String loggerName = event.getLoggerName();
+        if (this.emissionIntervalNanos > 0 && !this.tryAcquire(loggerName)) {
+            return onMismatch;
+        }
+        if (this.maxRepeats > 0 && !this.isFirstRepeats(loggerName, event.getLevel(), event.getMessage(), event.getTimeMillis())) {
+            return onMismatch;
+        }
+        return onMatch;
+    }
+
+    private boolean isFirstRepeats(String loggerName, Level level, Message message, long now) {
+        String template = message != null ? message.getFormat() : null;
+        if (template == null) {
+            return true;
+        }
+
+        int hash = mix(loggerName.hashCode() * 31 + level.intLevel() + template.hashCode() * 17);
+        MessageSlot slot = this.findMessage(hash, loggerName, level, template, now);
+        if (slot == null) {
+            return true; // Table is full around this hash; do not track.
+        }
+
+        slot.lastSeen = now;
+        long start = slot.windowStart.get();
+        if (now - start >= this.windowMillis && slot.windowStart.compareAndSet(start, now)) {
+            slot.count.set(0);
+        }
+        if (slot.count.incrementAndGet() <= this.maxRepeats) {
+            return true;
+        }
+        slot.suppressed.incrementAndGet();
+        return false;
+    }
+
+    // Generic cell rate algorithm: a lock-free token bucket held in a single timestamp.
+    private boolean tryAcquire(String loggerName) {
+        LoggerBucket bucket = this.findBucket(mix(loggerName.hashCode()), loggerName);
+        if (bucket == null) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        while (true) {
+            long theoreticalArrival = bucket.theoreticalArrival.get();
+            long next = Math.max(theoreticalArrival, now) + this.emissionIntervalNanos;
+            if (next - now > this.burstToleranceNanos + this.emissionIntervalNanos) {
+                bucket.suppressed.incrementAndGet();
+                return false;
+            }
+            if (bucket.theoreticalArrival.compareAndSet(theoreticalArrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    // ----------------------- Summaries -----------------------
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < this.messages.length(); i++) {
+            MessageSlot slot = this.messages.get(i);
+            if (slot == null || slot == EVICTED) {
+                continue;
+            }
+            long repeated = slot.suppressed.getAndSet(0);
+            if (repeated > 0) {
+                this.summarize(slot.loggerName, slot.level, "Previous message repeated {} more times: {}", repeated, slot.template);
+            } else if (now - slot.lastSeen > IDLE_EVICTION_MILLIS) {
+                this.messages.compareAndSet(i, slot, EVICTED);
+            }
+        }
+
+        for (int i = 0; i < this.buckets.length(); i++) {
+            LoggerBucket bucket = this.buckets.get(i);
+            if (bucket == null) {
+                continue;
+            }
+            long limited = bucket.suppressed.getAndSet(0);
+            if (limited > 0) {
+                this.summarize(bucket.loggerName, Level.WARN, "Suppressed {} messages from {} exceeding its rate limit", limited, bucket.loggerName);
+            }
+        }
+    }
+
+    private void summarize(String loggerName, Level level, String format, Object... parameters) {
+        LoggerConfig target = this.summaryTarget;
+        if (target == null) {
+            LogManager.getLogger(loggerName).log(level, SUMMARY_MARKER, format, parameters);
+        } else if (level.isMoreSpecificThan(target.getLevel())) {
+            target.log(Log4jLogEvent.newBuilder()
+                    .setLoggerName(loggerName)
+                    .setLoggerFqcn(RepeatedMessageFilter.class.getName())
+                    .setLevel(level)
+                    .setMarker(SUMMARY_MARKER)
+                    .setMessage(new ParameterizedMessage(format, parameters))
+                    .setTimeMillis(System.currentTimeMillis())
+                    .build());
+        }
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private MessageSlot findMessage(int hash, String loggerName, Level level, String template, long now) {
+        int evicted = -1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (hash + probe) & this.mask;
+            MessageSlot slot = this.messages.get(index);
+            if (slot == EVICTED) {
+                evicted = evicted < 0 ? index : evicted;
+                continue;
+            }
+            if (slot == null) {
+                // Not in the table: take the first evicted slot of the chain, or else this empty one.
+                MessageSlot created = new MessageSlot(hash, loggerName, level, template, now);
+                if (evicted >= 0 && (slot = this.claim(evicted, EVICTED, created, hash, loggerName, level, template)) != null) {
+                    return slot;
+                }
+                slot = this.claim(index, null, created, hash, loggerName, level, template);
+                if (slot != null) {
+                    return slot;
+                }
+                continue;
+            }
+            if (slot.matches(hash, loggerName, level, template)) {
+                return slot;
+            }
+        }
+        if (evicted >= 0) {
+            return this.claim(evicted, EVICTED, new MessageSlot(hash, loggerName, level, template, now), hash, loggerName, level, template);
+        }
+        return null;
+    }
+
+    // Installs the created slot at the index, or returns the matching slot another thread installed there first.
+    private MessageSlot claim(int index, MessageSlot expected, MessageSlot created, int hash, String loggerName, Level level, String template) {
+        if (this.messages.compareAndSet(index, expected, created)) {
+            return created;
+        }
+        MessageSlot slot = this.messages.get(index);
+        return slot != null && slot != EVICTED && slot.matches(hash, loggerName, level, template) ? slot : null;
+    }
+
+    private LoggerBucket findBucket(int hash, String loggerName) {
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (hash + probe) & this.mask;
+            LoggerBucket bucket = this.buckets.get(index);
+            if (bucket == null) {
+                LoggerBucket created = new LoggerBucket(hash, loggerName);
+                if (this.buckets.compareAndSet(index, null, created)) {
+                    return created;
+                }
+                bucket = this.buckets.get(index);
+            }
+            if (bucket.hash == hash && (bucket.loggerName == loggerName || bucket.loggerName.equals(loggerName))) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class MessageSlot {
+        final int hash;
+        final String loggerName;
+        final Level level;
+        final String template;
+        final AtomicLong windowStart;
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong suppressed = new AtomicLong();
+        volatile long lastSeen;
+
+        MessageSlot(int hash, String loggerName, Level level, String template, long now) {
+            this.hash = hash;
+            this.loggerName = loggerName;
+            this.level = level;
+            this.template = template;
+            this.windowStart = new AtomicLong(now);
+            this.lastSeen = now;
+        }
+
+        boolean matches(int hash, String loggerName, Level level, String template) {
+            return this.hash == hash && this.level == level
+                    && (this.template == template || this.template.equals(template))
+                    && (this.loggerName == loggerName || this.loggerName.equals(loggerName));
+        }
+    }
+
+    private static final class LoggerBucket {
+        final int hash;
+        final String loggerName;
+        final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+        final AtomicLong suppressed = new AtomicLong();
+
+        LoggerBucket(int hash, String loggerName) {
+            this.hash = hash;
+            this.loggerName = loggerName;
+        }
+    }
+}
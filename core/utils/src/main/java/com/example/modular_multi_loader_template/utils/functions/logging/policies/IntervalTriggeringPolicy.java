@@ -0,0 +1,50 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.policies;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.rolling.AbstractTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rolls the log file over at a fixed wall-clock interval, measured from when the file was opened.
+ *
+ * <p>The next rollover time is held in an {@link AtomicLong}; exactly one event claims each rollover via CAS.</p>
+ */
+public class IntervalTriggeringPolicy extends AbstractTriggeringPolicy {
+    private final long intervalMillis;
+    private final AtomicLong nextRollover = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * Creates an interval-based policy.
+     *
+     * @param intervalMillis the time between rollovers in milliseconds.
+     */
+    public IntervalTriggeringPolicy(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Rollover interval must be positive: " + intervalMillis);
+        }
+        this.intervalMillis = intervalMillis;
+    }
+
+    @Override
+    public void initialize(RollingFileManager manager) {
+        this.nextRollover.set(manager.getFileTime() + this.intervalMillis);
+    }
+
+    @Override
+    public boolean isTriggeringEvent(LogEvent event) {
+        long now = event.getTimeMillis();
+        long next = this.nextRollover.get();
+        return now >= next && this.nextRollover.compareAndSet(next, now + this.intervalMillis);
+    }
+
+    /**
+     * Returns the time between rollovers.
+     *
+     * @return the interval in milliseconds.
+     */
+    public long getIntervalMillis() {
+        return this.intervalMillis;
+    }
+}
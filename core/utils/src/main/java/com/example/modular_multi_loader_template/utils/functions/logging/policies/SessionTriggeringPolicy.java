@@ -0,0 +1,74 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.policies;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.rolling.AbstractTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+import org.apache.logging.log4j.core.appender.rolling.RolloverListener;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rolls the log file over at the start of every game session.
+ *
+ * <p>The first event of the process starts a new file (unless the file is still empty). Later sessions,
+ * e.g. a world being opened or an integrated server starting, are announced with {@link #startNewSession()};
+ * the next event after that rolls the file again. The pending state is an {@link AtomicBoolean}, so exactly
+ * one event triggers each rollover. Any rollover clears it, so a policy next to this one in a composite that has
+ * already started a new file does not cause a second one.</p>
+ *
+ * <p>A policy registers for session boundaries when its manager initializes it rather than when it is started,
+ * because {@link org.apache.logging.log4j.core.appender.rolling.CompositeTriggeringPolicy} never starts the
+ * policies it holds. Stopping the policy, which the composite does pass on, unregisters it.</p>
+ */
+public class SessionTriggeringPolicy extends AbstractTriggeringPolicy implements RolloverListener {
+    private static final Set<SessionTriggeringPolicy> ACTIVE = new CopyOnWriteArraySet<>();
+
+    private final AtomicBoolean pending = new AtomicBoolean(true);
+    private volatile RollingFileManager manager;
+
+    /**
+     * Marks a session boundary for every active session policy.
+     */
+    public static void startNewSession() {
+        ACTIVE.forEach(policy -> policy.pending.set(true));
+    }
+
+    @Override
+    public void initialize(RollingFileManager manager) {
+        this.manager = manager;
+        manager.addRolloverListener(this);
+        ACTIVE.add(this);
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        ACTIVE.remove(this);
+        RollingFileManager current = this.manager;
+        if (current != null) {
+            current.removeRolloverListener(this);
+        }
+        return super.stop(timeout, timeUnit);
+    }
+
+    @Override
+    public void rolloverTriggered(String fileName) {
+        // Sessions announced from here on still roll the new file.
+        this.pending.set(false);
+    }
+
+    @Override
+    public void rolloverComplete(String fileName) {
+    }
+
+    @Override
+    public boolean isTriggeringEvent(LogEvent event) {
+        if (!this.pending.get() || !this.pending.compareAndSet(true, false)) {
+            return false;
+        }
+        RollingFileManager current = this.manager;
+        return current != null && current.getFileSize() > 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.modular_multi_loader_template.utils.functions.logging.policies;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.rolling.AbstractTriggeringPolicy;
+import org.apache.logging.log4j.core.appender.rolling.RollingFileManager;
+
+/**
+ * Rolls the log file over once it reaches a maximum size.
+ *
+ * <p>The size is read from {@link RollingFileManager#getFileSize()}, which the manager keeps up to date as it
+ * writes (including its unflushed buffer), so no file system call is made per event.</p>
+ */
+public class SizeTriggeringPolicy extends AbstractTriggeringPolicy {
+    private final long maxFileSize;
+    private volatile RollingFileManager manager;
+
+    /**
+     * Creates a size-based policy.
+     *
+     * @param maxFileSize the size in bytes at which the file is rolled over.
+     */
+    public SizeTriggeringPolicy(long maxFileSize) {
+        if (maxFileSize <= 0) {
+            throw new IllegalArgumentException("Maximum file size must be positive: " + maxFileSize);
+        }
+        this.maxFileSize = maxFileSize;
+    }
+
+    @Override
+    public void initialize(RollingFileManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public boolean isTriggeringEvent(LogEvent event) {
+        RollingFileManager current = this.manager;
+        return current != null && current.getFileSize() >= this.maxFileSize;
+    }
+
+    /**
+     * Returns the size at which the file is rolled over.
+     *
+     * @return the maximum file size in bytes.
+     */
+    public long getMaxFileSize() {
+        return this.maxFileSize;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.modular_multi_loader_template.utils.functions.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count backed by a {@link LongAdder}.
+ *
+ * <p>Concurrent increments are spread over striped cells instead of contending on one atomic value, so counting
+ * from many threads (e.g. every log call) stays cheap. Reading sums the cells and is meant for exporters.</p>
+ */
+public final class Counter extends Metric {
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help, Map<String, String> labels) {
+        super(name, help, labels);
+    }
+
+    /**
+     * Adds one.
+     */
+    public void increment() {
+        this.value.increment();
+    }
+
+    /**
+     * Adds the given amount.
+     *
+     * @param amount The non-negative amount to add.
+     */
+    public void add(long amount) {
+        this.value.add(amount);
+    }
+
+    /**
+     * Returns the current total.
+     *
+     * @return The sum of all increments.
+     */
+    public long sum() {
+        return this.value.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.modular_multi_loader_template.utils.functions.metrics;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value that can go up and down, sampled from a supplier whenever metrics are exported.
+ *
+ * <p>Gauges cost nothing between exports. The supplier is called on the exporter thread and must be thread-safe
+ * and cheap, e.g. reading a field or the size of a collection.</p>
+ */
+public final class Gauge extends Metric {
+    private final DoubleSupplier supplier;
+
+    Gauge(String name, String help, Map<String, String> labels, DoubleSupplier supplier) {
+        super(name, help, labels);
+        this.supplier = supplier;
+    }
+
+    /**
+     * Samples the current value.
+     *
+     * @return The value, or {@link Double#NaN} if the supplier failed.
+     */
+    public double get() {
+        try {
+            return this.supplier.getAsDouble();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.modular_multi_loader_template.utils.functions.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-memory, log-linear histogram of non-negative {@code long} values, typically latencies in nanoseconds.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} get one bucket each. Above that, every power of two is split into
+ * {@value #SUB_BUCKETS} equally wide buckets, so any recorded value is off by at most 1/{@value #SUB_BUCKETS}
+ * (6.25%) of itself. All {@value #BUCKETS} buckets live in one {@link AtomicLongArray} of about 8 KiB that is
+ * allocated once. Recording computes the bucket with a few bit operations and increments it, without
+ * allocating or locking.</p>
+ *
+ * <p>{@code exportScale} converts recorded values to the exported unit, e.g. {@code 1e-9} for nanoseconds recorded
+ * into a {@code _seconds} metric.</p>
+ */
+public final class Histogram extends Metric {
+    /** Linear buckets per power of two. */
+    public static final int SUB_BUCKETS = 16;
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Total number of buckets, covering the whole non-negative {@code long} range. */
+    public static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    private final double exportScale;
+
+    Histogram(String name, String help, Map<String, String> labels, double exportScale) {
+        super(name, help, labels);
+        this.exportScale = exportScale;
+    }
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     *
+     * @param value The value.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        this.counts.incrementAndGet(bucketOf(clamped));
+        this.count.increment();
+        this.sum.add(clamped);
+
+        long currentMax = this.max.get();
+        while (clamped > currentMax && !this.max.compareAndSet(currentMax, clamped)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as returned by {@link System#nanoTime()}.
+     *
+     * @param startNanos The start time.
+     */
+    public void recordSince(long startNanos) {
+        this.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the factor converting recorded values to the exported unit.
+     *
+     * @return The export scale.
+     */
+    public double getExportScale() {
+        return this.exportScale;
+    }
+
+    /**
+     * Copies the current state. Concurrent recording may make the copy slightly inconsistent (e.g. the count
+     * including a value whose bucket was not copied yet), which is acceptable for monitoring.
+     *
+     * @return The snapshot.
+     */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = this.counts.get(i);
+        }
+        return new Snapshot(buckets, this.count.sum(), this.sum.sum(), this.max.get());
+    }
+
+    // ----------------------- Bucket Math -----------------------
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long upperBound(int bucket) {
+        return bucket + 1 < BUCKETS ? lowerBound(bucket + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * An immutable copy of a histogram's state.
+     *
+     * @param buckets The count per bucket.
+     * @param count   The number of recorded values.
+     * @param sum     The sum of recorded values.
+     * @param max     The largest recorded value.
+     */
+    public record Snapshot(long[] buckets, long count, long sum, long max) {
+        /**
+         * Returns an upper estimate of the value below which the given fraction of values fall.
+         *
+         * @param quantile The quantile, between 0 and 1.
+         * @return The estimated value, never above the recorded maximum; {@code 0} if nothing was recorded.
+         */
+        public long valueAt(double quantile) {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Returns the mean of the recorded values.
+         *
+         * @return The mean, or {@code 0} if nothing was recorded.
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+}
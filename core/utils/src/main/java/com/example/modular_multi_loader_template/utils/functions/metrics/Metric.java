@@ -0,0 +1,84 @@
+package com.example.modular_multi_loader_template.utils.functions.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A named measurement in a {@link MetricRegistry}.
+ *
+ * <p>Names follow the Prometheus conventions ({@code snake_case}, base units such as seconds and bytes,
+ * {@code _total} for counters). Optional labels distinguish instances of the same metric, e.g. one per appender.</p>
+ */
+public abstract sealed class Metric permits Counter, Gauge, Histogram {
+    private final String name;
+    private final String help;
+    private final Map<String, String> labels;
+    private final String renderedLabels;
+
+    Metric(String name, String help, Map<String, String> labels) {
+        this.name = name;
+        this.help = help;
+        this.labels = Collections.unmodifiableMap(new LinkedHashMap<>(labels));
+        this.renderedLabels = render(labels);
+    }
+
+    /**
+     * Returns the metric name.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the description shown in the exported {@code # HELP} line.
+     *
+     * @return The help text.
+     */
+    public String getHelp() {
+        return this.help;
+    }
+
+    /**
+     * Returns the labels of this metric instance.
+     *
+     * @return The labels in definition order, possibly empty.
+     */
+    public Map<String, String> getLabels() {
+        return this.labels;
+    }
+
+    /**
+     * Returns the labels in Prometheus syntax, e.g. {@code {appender="Main"}}, or an empty string.
+     */
+    String renderedLabels() {
+        return this.renderedLabels;
+    }
+
+    static String render(Map<String, String> labels) {
+        if (labels.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder("{");
+        labels.forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append(key).append("=\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> builder.append("\\\\");
+                    case '"' -> builder.append("\\\"");
+                    case '\n' -> builder.append("\\n");
+                    default -> builder.append(c);
+                }
+            }
+            builder.append('"');
+        });
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.modular_multi_loader_template.utils.functions.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Holds the metrics of the application.
+ *
+ * <p>Metrics are created on first use and shared afterwards: asking twice for the same name and labels returns the
+ * same instance, so call sites can look a metric up once, keep it in a field and update it on hot paths without
+ * touching the registry again. Asking for an existing name with a different metric type fails.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * private static final Histogram LOAD_TIME = MetricRegistry.global()
+ *         .timer("services_load_seconds", "Time spent resolving services.");
+ *
+ * long start = System.nanoTime();
+ * ...
+ * LOAD_TIME.recordSince(start);
+ * }</pre>
+ */
+public class MetricRegistry {
+    private static final MetricRegistry GLOBAL = new MetricRegistry();
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the registry shared by the whole application, which {@link MetricsExporter} writes out.
+     *
+     * @return The global registry.
+     */
+    public static MetricRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the counter with the given name and labels, creating it if needed.
+     *
+     * @param name   The metric name, ending in {@code _total} by convention.
+     * @param help   The description.
+     * @param labels Alternating label names and values.
+     * @return The counter.
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return this.getOrCreate(Counter.class, name, labels, map -> new Counter(name, help, map));
+    }
+
+    /**
+     * Registers a gauge sampled from the given supplier. If a gauge with the same name and labels exists, it is
+     * returned unchanged and the new supplier is ignored.
+     *
+     * @param name     The metric name.
+     * @param help     The description.
+     * @param supplier Provides the current value; called on the exporter thread.
+     * @param labels   Alternating label names and values.
+     * @return The gauge.
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        return this.getOrCreate(Gauge.class, name, labels, map -> new Gauge(name, help, map, supplier));
+    }
+
+    /**
+     * Returns the histogram with the given name and labels, creating it if needed. Values are exported as recorded.
+     *
+     * @param name   The metric name.
+     * @param help   The description.
+     * @param labels Alternating label names and values.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name, String help, String... labels) {
+        return this.getOrCreate(Histogram.class, name, labels, map -> new Histogram(name, help, map, 1));
+    }
+
+    /**
+     * Returns a histogram that records nanoseconds and exports seconds, creating it if needed.
+     *
+     * @param name   The metric name, ending in {@code _seconds} by convention.
+     * @param help   The description.
+     * @param labels Alternating label names and values.
+     * @return The histogram.
+     */
+    public Histogram timer(String name, String help, String... labels) {
+        return this.getOrCreate(Histogram.class, name, labels, map -> new Histogram(name, help, map, 1e-9));
+    }
+
+    /**
+     * Returns every registered metric, sorted by name so that instances of the same metric are adjacent.
+     *
+     * @return A copy of the registered metrics.
+     */
+    public List<Metric> getMetrics() {
+        List<Metric> sorted = new ArrayList<>(this.metrics.values());
+        sorted.sort(Comparator.comparing(Metric::getName).thenComparing(Metric::renderedLabels));
+        return sorted;
+    }
+
+    /**
+     * Removes a metric, e.g. a per-appender metric after the appender stopped.
+     *
+     * @param metric The metric to remove.
+     */
+    public void remove(Metric metric) {
+        this.metrics.remove(key(metric.getName(), metric.renderedLabels()), metric);
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private <T extends Metric> T getOrCreate(Class<T> type, String name, String[] labels,
+                                             Function<Map<String, String>, T> factory) {
+        Objects.requireNonNull(name, "Metric name cannot be null");
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name-value pairs: " + Arrays.toString(labels));
+        }
+
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < labels.length; i += 2) {
+            map.put(labels[i], labels[i + 1]);
+        }
+
+        String key = key(name, Metric.render(map));
+        Metric metric = this.metrics.get(key);
+        if (metric == null) {
+            for (Metric existing : this.metrics.values()) {
+                if (existing.getName().equals(name) && !type.isInstance(existing)) {
+                    throw new IllegalArgumentException("Metric " + name + " is already registered as a "
+                            + existing.getClass().getSimpleName());
+                }
+            }
+            metric = this.metrics.computeIfAbsent(key, k -> factory.apply(map));
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a "
+                    + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    private static String key(String name, String renderedLabels) {
+        return name + renderedLabels;
+    }
+}
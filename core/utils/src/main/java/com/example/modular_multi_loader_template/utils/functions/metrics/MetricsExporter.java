@@ -0,0 +1,281 @@
+package com.example.modular_multi_loader_template.utils.functions.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes the metrics of a {@link MetricRegistry} to a file.
+ *
+ * <p>Each export replaces the whole file: it is written to a temporary file next to it and moved over the old
+ * one, so readers such as a node exporter textfile collector or a script never see a partial file. Nothing is
+ * served over the network.</p>
+ *
+ * <p>Histograms are exported as summaries with the {@link #QUANTILES} plus their sum and count; the JSON format
+ * also includes the maximum.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MetricsExporter exporter = MetricsExporter.start(MetricRegistry.global(), Path.of("logs/MyApp/metrics.prom"),
+ *         MetricsExporter.Format.PROMETHEUS, "myapp_", 15, TimeUnit.SECONDS);
+ * ...
+ * exporter.close(); // Writes a final export.
+ * }</pre>
+ */
+public class MetricsExporter implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(MetricsExporter.class);
+
+    /** The exported quantiles of every histogram. */
+    public static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final MetricRegistry registry;
+    private final Path file;
+    private final Format format;
+    private final String prefix;
+    private final ScheduledExecutorService scheduler;
+
+    private MetricsExporter(MetricRegistry registry, Path file, Format format, String prefix) {
+        this.registry = Objects.requireNonNull(registry, "Registry cannot be null");
+        this.file = Objects.requireNonNull(file, "File cannot be null");
+        this.format = Objects.requireNonNull(format, "Format cannot be null");
+        this.prefix = prefix != null ? prefix : "";
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Metrics-Exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts exporting a registry at a fixed interval.
+     *
+     * @param registry The registry to export.
+     * @param file     The file to write, replaced on every export.
+     * @param format   The file format.
+     * @param prefix   A prefix added to every metric name, e.g. the project id; may be {@code null}.
+     * @param interval The time between exports.
+     * @param unit     The unit of {@code interval}.
+     * @return The running exporter.
+     */
+    public static MetricsExporter start(MetricRegistry registry, Path file, Format format, String prefix,
+                                        long interval, TimeUnit unit) {
+        MetricsExporter exporter = new MetricsExporter(registry, file, format, prefix);
+        exporter.scheduler.scheduleWithFixedDelay(exporter::exportQuietly, interval, interval, unit);
+        return exporter;
+    }
+
+    /**
+     * Returns the file this exporter writes.
+     *
+     * @return The export file.
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Writes the current metrics immediately.
+     *
+     * @throws IOException if writing fails.
+     */
+    public synchronized void writeNow() throws IOException {
+        Path parent = this.file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            StringBuilder out = new StringBuilder(4096);
+            if (this.format == Format.JSON) {
+                this.renderJson(out);
+            } else {
+                this.renderPrometheus(out);
+            }
+            writer.append(out);
+        }
+
+        try {
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Stops the periodic export and writes the final values.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        this.exportQuietly();
+    }
+
+    // ----------------------- Rendering -----------------------
+
+    private void renderPrometheus(StringBuilder out) {
+        String lastName = null;
+        for (Metric metric : this.registry.getMetrics()) {
+            String name = this.prefix + metric.getName();
+            String labels = metric.renderedLabels();
+            if (!name.equals(lastName)) {
+                out.append("# HELP ").append(name).append(' ').append(metric.getHelp().replace("\n", " ")).append('\n');
+                out.append("# TYPE ").append(name).append(' ').append(switch (metric) {
+                    case Counter ignored -> "counter";
+                    case Gauge ignored -> "gauge";
+                    case Histogram ignored -> "summary";
+                }).append('\n');
+                lastName = name;
+            }
+
+            switch (metric) {
+                case Counter counter -> out.append(name).append(labels).append(' ').append(counter.sum()).append('\n');
+                case Gauge gauge -> out.append(name).append(labels).append(' ').append(number(gauge.get())).append('\n');
+                case Histogram histogram -> {
+                    Histogram.Snapshot snapshot = histogram.snapshot();
+                    double scale = histogram.getExportScale();
+                    for (double quantile : QUANTILES) {
+                        out.append(name).append(withLabel(labels, "quantile", Double.toString(quantile))).append(' ')
+                                .append(number(snapshot.valueAt(quantile) * scale)).append('\n');
+                    }
+                    out.append(name).append("_sum").append(labels).append(' ').append(number(snapshot.sum() * scale)).append('\n');
+                    out.append(name).append("_count").append(labels).append(' ').append(snapshot.count()).append('\n');
+                }
+            }
+        }
+    }
+
+    private void renderJson(StringBuilder out) {
+        out.append("{\n  \"timestamp\": ").append(System.currentTimeMillis()).append(",\n  \"metrics\": [");
+        boolean first = true;
+        for (Metric metric : this.registry.getMetrics()) {
+            out.append(first ? "\n" : ",\n").append("    {\"name\": ");
+            first = false;
+            jsonString(out, this.prefix + metric.getName());
+            out.append(", \"labels\": {");
+            boolean firstLabel = true;
+            for (var label : metric.getLabels().entrySet()) {
+                if (!firstLabel) {
+                    out.append(", ");
+                }
+                firstLabel = false;
+                jsonString(out, label.getKey());
+                out.append(": ");
+                jsonString(out, label.getValue());
+            }
+            out.append('}');
+
+            switch (metric) {
+                case Counter counter -> out.append(", \"type\": \"counter\", \"value\": ").append(counter.sum());
+                case Gauge gauge -> {
+                    double value = gauge.get();
+                    out.append(", \"type\": \"gauge\", \"value\": ")
+                            .append(Double.isFinite(value) ? number(value) : "null");
+                }
+                case Histogram histogram -> {
+                    Histogram.Snapshot snapshot = histogram.snapshot();
+                    double scale = histogram.getExportScale();
+                    out.append(", \"type\": \"summary\", \"count\": ").append(snapshot.count())
+                            .append(", \"sum\": ").append(number(snapshot.sum() * scale))
+                            .append(", \"max\": ").append(number(snapshot.max() * scale))
+                            .append(", \"quantiles\": {");
+                    for (int i = 0; i < QUANTILES.length; i++) {
+                        out.append(i == 0 ? "" : ", ").append('"').append(QUANTILES[i]).append("\": ")
+                                .append(number(snapshot.valueAt(QUANTILES[i]) * scale));
+                    }
+                    out.append('}');
+                }
+            }
+            out.append('}');
+        }
+        out.append("\n  ]\n}\n");
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private void exportQuietly() {
+        try {
+            this.writeNow();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to export metrics to {}: {}", this.file, e.toString());
+        }
+    }
+
+    private static String withLabel(String labels, String name, String value) {
+        String label = name + "=\"" + value + "\"";
+        return labels.isEmpty() ? "{" + label + "}" : labels.substring(0, labels.length() - 1) + "," + label + "}";
+    }
+
+    private static String number(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.9g", value).replaceFirst("\\.?0+(e|$)", "$1");
+    }
+
+    private static void jsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Supported file formats.
+     */
+    public enum Format {
+        /** The Prometheus text exposition format. */
+        PROMETHEUS(".prom"),
+        /** A JSON document with one object per metric. */
+        JSON(".json");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the conventional file extension, including the dot.
+         *
+         * @return The extension.
+         */
+        public String getExtension() {
+            return this.extension;
+        }
+    }
+}
@@ -0,0 +1,758 @@
+package com.example.modular_multi_loader_template.utils.functions.storage;
+
+import com.example.modular_multi_loader_template.utils.functions.metrics.Counter;
+import com.example.modular_multi_loader_template.utils.functions.metrics.Histogram;
+import com.example.modular_multi_loader_template.utils.functions.metrics.MetricRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Embedded key-value store backed by an append-only log, for per-world state that changes a little at a time.
+ *
+ * <p>Every {@link #put(String, byte[])} and {@link #delete(String)} appends one CRC-checked record to the active
+ * segment file, so saving costs as much as the data that changed rather than the whole state. An in-memory hash
+ * index maps each key to its latest record and is rebuilt by scanning the segments when the store is opened; a
+ * record torn by a crash fails its checksum and is cut off. Values are read through memory-mapped segments.</p>
+ *
+ * <p>Overwritten and deleted records stay in the log as garbage. Once garbage makes up the configured share of the
+ * log, a background thread copies the live records into new segments of at most the maximum segment size and deletes
+ * the old ones. A crash during compaction leaves the old segments in place.</p>
+ *
+ * <p>All methods are thread-safe. Reads run in parallel; writes are serialized. Call {@link #flush()} (e.g. on
+ * autosave) to force appended records to disk.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try (KeyValueStore store = KeyValueStore.at(saveDirectory.resolve("my_mod")).open()) {
+ *     store.putString("spawn", "0,64,0");
+ *     String spawn = store.getString("spawn");
+ *     store.flush();
+ * }
+ * }</pre>
+ */
+public class KeyValueStore implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(KeyValueStore.class);
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KeyValueStore-Compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final double compactionThreshold;
+    private final long minCompactionBytes;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object compactionLock = new Object();
+    private final Map<String, Location> index = new HashMap<>();
+    private final List<Segment> segments = new ArrayList<>(); // Replay order; the last one is active.
+    private final List<Path> pendingDeletes = new ArrayList<>();
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(4096);
+
+    private Segment active;
+    private long nextId;
+    private long generation;
+    private boolean compactionScheduled;
+    private boolean closed;
+
+    private final Counter appendedBytes;
+    private final Counter compactions;
+    private final Histogram compactionTime;
+
+    private KeyValueStore(Builder builder) {
+        this.directory = builder.directory;
+        this.maxSegmentSize = builder.maxSegmentSize;
+        this.compactionThreshold = builder.compactionThreshold;
+        this.minCompactionBytes = builder.minCompactionBytes;
+
+        MetricRegistry metrics = MetricRegistry.global();
+        String store = String.valueOf(this.directory.getFileName());
+        this.appendedBytes = metrics.counter("kv_appended_bytes_total", "Bytes appended to key-value store logs.", "store", store);
+        this.compactions = metrics.counter("kv_compactions_total", "Completed key-value store compactions.", "store", store);
+        this.compactionTime = metrics.timer("kv_compaction_seconds", "Time spent compacting a key-value store.", "store", store);
+    }
+
+    /**
+     * Starts configuring a store in the given directory, which is created if needed and should be used by this
+     * store only.
+     *
+     * @param directory The store directory, e.g. a folder inside a save directory.
+     * @return A builder for the store.
+     */
+    public static Builder at(Path directory) {
+        return new Builder(directory);
+    }
+
+    // ----------------------- Reading -----------------------
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key The key.
+     * @return A copy of the value, or {@code null} if the key is absent.
+     * @throws IOException if the segment cannot be read.
+     */
+    public byte[] get(String key) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            this.checkOpen();
+            Location location = this.index.get(key);
+            if (location == null) {
+                return null;
+            }
+
+            return location.segment().read(location.valueOffset(), location.valueLength());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value of a key as UTF-8 text.
+     *
+     * @param key The key.
+     * @return The value, or {@code null} if the key is absent.
+     * @throws IOException if the segment cannot be read.
+     */
+    public String getString(String key) throws IOException {
+        byte[] value = this.get(key);
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Returns whether a key is present.
+     *
+     * @param key The key.
+     * @return {@code true} if the key has a value.
+     */
+    public boolean contains(String key) {
+        this.lock.readLock().lock();
+        try {
+            return this.index.containsKey(key);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all present keys.
+     *
+     * @return An unmodifiable copy of the keys.
+     */
+    public Set<String> keys() {
+        this.lock.readLock().lock();
+        try {
+            return Set.copyOf(this.index.keySet());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of present keys.
+     *
+     * @return The key count.
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.index.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // ----------------------- Writing -----------------------
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   The key, not empty.
+     * @param value The value.
+     * @throws IOException if appending fails.
+     */
+    public void put(String key, byte[] value) throws IOException {
+        Objects.requireNonNull(value, "Value cannot be null");
+        byte[] keyBytes = encodeKey(key);
+
+        this.lock.writeLock().lock();
+        try {
+            this.checkOpen();
+            Location location = this.append(keyBytes, value, value.length);
+            this.release(this.index.put(key, location));
+            location.segment().liveBytes += location.recordSize();
+            this.maybeScheduleCompaction();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the value of a key to UTF-8 text.
+     *
+     * @param key   The key, not empty.
+     * @param value The value.
+     * @throws IOException if appending fails.
+     */
+    public void putString(String key, String value) throws IOException {
+        this.put(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key.
+     * @return {@code true} if the key was present.
+     * @throws IOException if appending fails.
+     */
+    public boolean delete(String key) throws IOException {
+        byte[] keyBytes = encodeKey(key);
+
+        this.lock.writeLock().lock();
+        try {
+            this.checkOpen();
+            if (!this.index.containsKey(key)) {
+                return false;
+            }
+            this.append(keyBytes, null, Segment.TOMBSTONE);
+            this.release(this.index.remove(key));
+            this.maybeScheduleCompaction();
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces appended records to disk.
+     *
+     * @throws IOException if syncing fails.
+     */
+    public void flush() throws IOException {
+        this.lock.readLock().lock();
+        try {
+            this.checkOpen();
+            this.active.channel.force(false);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the store now, on the calling thread. Normally compaction runs in the background on its own.
+     *
+     * @throws IOException if compaction fails; the store stays usable with its previous segments.
+     */
+    public void compact() throws IOException {
+        synchronized (this.compactionLock) {
+            long start = System.nanoTime();
+            if (this.compactNow()) {
+                this.compactions.increment();
+                this.compactionTime.recordSince(start);
+            }
+        }
+    }
+
+    /**
+     * Returns the share of the log taken up by overwritten and deleted records.
+     *
+     * @return The garbage ratio between 0 and 1.
+     */
+    public double getGarbageRatio() {
+        this.lock.readLock().lock();
+        try {
+            long total = this.totalRecordBytes();
+            return total == 0 ? 0 : (double) (total - this.liveRecordBytes()) / total;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Syncs and closes the store, waiting for a running compaction first.
+     *
+     * @throws IOException if syncing or closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this.compactionLock) {
+            this.lock.writeLock().lock();
+            try {
+                if (this.closed) {
+                    return;
+                }
+                this.closed = true;
+                this.index.clear();
+
+                IOException failure = null;
+                for (Segment segment : this.segments) {
+                    try {
+                        if (segment == this.active) {
+                            segment.channel.force(false);
+                        }
+                        segment.close();
+                    } catch (IOException e) {
+                        failure = failure == null ? e : failure;
+                    }
+                }
+                this.segments.clear();
+                if (failure != null) {
+                    throw failure;
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+        this.retryDeletes();
+    }
+
+    // ----------------------- Opening -----------------------
+
+    private void load() throws IOException {
+        Files.createDirectories(this.directory);
+
+        List<Segment> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(Segment.EXTENSION + ".tmp")) {
+                    Files.deleteIfExists(file); // Unfinished compaction output.
+                } else if (Segment.FILE_NAME.matcher(name).matches()) {
+                    found.add(Segment.open(file));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Segment segment : found) {
+                segment.close();
+            }
+            throw e;
+        }
+        found.sort(Comparator.comparingLong((Segment segment) -> segment.id).thenComparingLong(segment -> segment.generation));
+
+        try {
+            for (Segment segment : found) {
+                this.nextId = Math.max(this.nextId, segment.id + 1);
+                this.generation = Math.max(this.generation, segment.generation);
+                if (isReplaced(segment, found)) {
+                    // A compaction finished but could not delete its inputs.
+                    segment.close();
+                    this.tryDelete(segment.file);
+                } else {
+                    this.replay(segment);
+                    this.segments.add(segment);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Segment segment : found) {
+                segment.close();
+            }
+            this.segments.clear();
+            throw e;
+        }
+
+        Segment last = this.segments.isEmpty() ? null : this.segments.get(this.segments.size() - 1);
+        if (last != null && last.generation == 0 && last.size < this.maxSegmentSize) {
+            this.active = last;
+        } else {
+            this.roll();
+        }
+    }
+
+    private void replay(Segment segment) throws IOException {
+        long end = segment.scan((key, offset, valueLength, record) -> {
+            String name = new String(key, StandardCharsets.UTF_8);
+            Location previous;
+            if (valueLength == Segment.TOMBSTONE) {
+                previous = this.index.remove(name);
+            } else {
+                Location location = new Location(segment, offset, key.length, valueLength, record.remaining());
+                previous = this.index.put(name, location);
+                segment.liveBytes += location.recordSize();
+            }
+            this.release(previous);
+        });
+
+        // Nothing has mapped the segment yet, so the tail can be cut off on every system.
+        segment.size = end;
+        if (end < segment.channel.size()) {
+            LOGGER.warn("Discarding {} bytes of incomplete or corrupt records at the end of {}",
+                    segment.channel.size() - end, segment.file);
+            segment.channel.truncate(end);
+        }
+    }
+
+    private static boolean isReplaced(Segment segment, List<Segment> all) {
+        for (Segment other : all) {
+            if (other.generation > segment.generation && other.firstId <= segment.id && segment.id <= other.id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ----------------------- Appending -----------------------
+
+    private Location append(byte[] key, byte[] value, int valueLength) throws IOException {
+        int recordSize = Segment.RECORD_HEADER_SIZE + key.length + Math.max(0, valueLength);
+        if (this.active.size + recordSize > this.maxSegmentSize && this.active.size > Segment.HEADER_SIZE) {
+            this.roll();
+        }
+
+        if (this.writeBuffer.capacity() < recordSize) {
+            this.writeBuffer = ByteBuffer.allocate(Math.max(recordSize, this.writeBuffer.capacity() * 2));
+        }
+        ByteBuffer buffer = this.writeBuffer.clear();
+        buffer.putInt(0).putInt(key.length).putInt(valueLength).put(key);
+        if (value != null) {
+            buffer.put(value);
+        }
+        buffer.flip();
+
+        this.crc.reset();
+        this.crc.update(buffer.array(), 4, recordSize - 4);
+        buffer.putInt(0, (int) this.crc.getValue());
+
+        Segment segment = this.active;
+        long offset = segment.size;
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            position += segment.channel.write(buffer, position);
+        }
+        segment.size = offset + recordSize;
+        this.appendedBytes.add(recordSize);
+        return new Location(segment, offset, key.length, valueLength, recordSize);
+    }
+
+    private void roll() throws IOException {
+        if (this.active != null) {
+            this.active.channel.force(false);
+        }
+        long id = this.nextId++;
+        Segment segment = Segment.create(this.directory.resolve(Segment.fileName(id, 0)), id, 0, id);
+        this.segments.add(segment);
+        this.active = segment;
+    }
+
+    private void release(Location previous) {
+        if (previous != null) {
+            previous.segment().liveBytes -= previous.recordSize();
+        }
+    }
+
+    // ----------------------- Compaction -----------------------
+
+    private void maybeScheduleCompaction() {
+        if (this.compactionScheduled) {
+            return;
+        }
+        long total = this.totalRecordBytes();
+        long garbage = total - this.liveRecordBytes();
+        if (garbage >= this.minCompactionBytes && garbage >= total * this.compactionThreshold) {
+            this.compactionScheduled = true;
+            COMPACTOR.execute(() -> {
+                try {
+                    this.compact();
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.error("Failed to compact key-value store {}", this.directory, e);
+                } finally {
+                    this.lock.writeLock().lock();
+                    this.compactionScheduled = false;
+                    this.lock.writeLock().unlock();
+                }
+            });
+        }
+    }
+
+    // Copies the live records of every sealed segment into new segments; called under the compaction lock.
+    private boolean compactNow() throws IOException {
+        List<Segment> sources;
+        List<List<Segment>> groups = new ArrayList<>();
+        long outputGeneration;
+        this.lock.writeLock().lock();
+        try {
+            if (this.closed) {
+                return false;
+            }
+            if (this.active.size > Segment.HEADER_SIZE) {
+                this.roll();
+            }
+            sources = new ArrayList<>(this.segments.subList(0, this.segments.size() - 1));
+            if (sources.isEmpty() || (sources.size() == 1 && sources.get(0).liveBytes == sources.get(0).size - Segment.HEADER_SIZE)) {
+                return false;
+            }
+            outputGeneration = ++this.generation;
+
+            // Each output covers whole sources and stays within the segment size, so it can replace them on its own.
+            List<Segment> group = new ArrayList<>();
+            long groupSize = Segment.HEADER_SIZE;
+            for (Segment source : sources) {
+                if (!group.isEmpty() && groupSize + source.liveBytes > this.maxSegmentSize) {
+                    groups.add(group);
+                    group = new ArrayList<>();
+                    groupSize = Segment.HEADER_SIZE;
+                }
+                group.add(source);
+                groupSize += source.liveBytes;
+            }
+            groups.add(group);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        // Copy without holding the lock; records overwritten meanwhile are sorted out below.
+        List<Path> files = new ArrayList<>();
+        List<Path> temps = new ArrayList<>();
+        List<Move> moves = new ArrayList<>();
+        try {
+            for (List<Segment> group : groups) {
+                Path file = this.directory.resolve(Segment.fileName(group.get(group.size() - 1).id, outputGeneration));
+                Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+                files.add(file);
+                temps.add(temp);
+                this.copyLiveRecords(group, temp, outputGeneration, files.size() - 1, moves);
+            }
+
+            // Oldest first: if a crash stops this halfway, the newer sources and their tombstones are still in place.
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    Files.move(temps.get(i), files.get(i), StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temps.get(i), files.get(i));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+            }
+            throw e;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            if (this.closed) {
+                return false; // Both the outputs and the sources are valid; the next open sorts it out.
+            }
+
+            List<Segment> outputs = new ArrayList<>();
+            try {
+                for (Path file : files) {
+                    outputs.add(Segment.open(file));
+                }
+            } catch (IOException | RuntimeException e) {
+                for (Segment output : outputs) {
+                    output.close();
+                }
+                throw e;
+            }
+            for (Move move : moves) {
+                Location current = this.index.get(move.key());
+                if (current != null && current.segment() == move.source() && current.offset() == move.oldOffset()) {
+                    Segment output = outputs.get(move.output());
+                    this.index.put(move.key(), new Location(output, move.newOffset(), move.keyLength(), move.valueLength(), move.recordSize()));
+                    output.liveBytes += move.recordSize();
+                }
+            }
+            this.segments.removeAll(sources);
+            this.segments.addAll(0, outputs);
+
+            for (Segment source : sources) {
+                source.close();
+                this.tryDelete(source.file);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        this.retryDeletes();
+        return true;
+    }
+
+    private void copyLiveRecords(List<Segment> sources, Path temp, long generation, int output, List<Move> moves) throws IOException {
+        Segment last = sources.get(sources.size() - 1);
+        try (Segment target = Segment.create(temp, last.id, generation, sources.get(0).firstId)) {
+            for (Segment source : sources) {
+                source.scan((key, offset, valueLength, record) -> {
+                    if (valueLength == Segment.TOMBSTONE) {
+                        return; // The records it shadows are older and no longer current, so they are dropped too.
+                    }
+                    String name = new String(key, StandardCharsets.UTF_8);
+                    if (!this.isCurrent(name, source, offset)) {
+                        return;
+                    }
+
+                    long newOffset = target.size;
+                    int recordSize = record.remaining();
+                    long position = newOffset;
+                    while (record.hasRemaining()) {
+                        position += target.channel.write(record, position);
+                    }
+                    target.size = newOffset + recordSize;
+                    moves.add(new Move(name, source, offset, output, newOffset, key.length, valueLength, recordSize));
+                });
+            }
+            target.channel.force(true);
+        }
+    }
+
+    private boolean isCurrent(String key, Segment segment, long offset) {
+        this.lock.readLock().lock();
+        try {
+            Location location = this.index.get(key);
+            return location != null && location.segment() == segment && location.offset() == offset;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // ----------------------- Internal Utility Methods -----------------------
+
+    private long totalRecordBytes() {
+        long total = 0;
+        for (Segment segment : this.segments) {
+            total += segment.size - Segment.HEADER_SIZE;
+        }
+        return total;
+    }
+
+    private long liveRecordBytes() {
+        long live = 0;
+        for (Segment segment : this.segments) {
+            live += segment.liveBytes;
+        }
+        return live;
+    }
+
+    // Mapped files cannot be deleted on some systems until the mapping is garbage collected; retry later.
+    private void tryDelete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            synchronized (this.pendingDeletes) {
+                this.pendingDeletes.add(file);
+            }
+        }
+    }
+
+    private void retryDeletes() {
+        synchronized (this.pendingDeletes) {
+            this.pendingDeletes.removeIf(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                    return true;
+                } catch (IOException e) {
+                    return false;
+                }
+            });
+        }
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Key-value store is closed: " + this.directory);
+        }
+    }
+
+    private static byte[] encodeKey(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Location(Segment segment, long offset, int keyLength, int valueLength, int recordSize) {
+        long valueOffset() {
+            return this.offset + Segment.RECORD_HEADER_SIZE + this.keyLength;
+        }
+    }
+
+    private record Move(String key, Segment source, long oldOffset, int output, long newOffset, int keyLength, int valueLength,
+                        int recordSize) {
+    }
+
+    /**
+     * Configures and opens a {@link KeyValueStore}.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private long maxSegmentSize = 16L << 20;
+        private double compactionThreshold = 0.5;
+        private long minCompactionBytes = 1L << 20;
+
+        private Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        }
+
+        /**
+         * Sets the size at which the active segment is sealed and a new one started. Compaction splits its output at
+         * the same size. Defaults to 16 MiB.
+         *
+         * @param bytes the maximum segment size, between 4 KiB and 1 GiB.
+         * @return the builder instance.
+         */
+        public Builder setMaxSegmentSize(long bytes) {
+            if (bytes < 4096 || bytes > 1L << 30) {
+                throw new IllegalArgumentException("Segment size must be between 4 KiB and 1 GiB: " + bytes);
+            }
+            this.maxSegmentSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the share of garbage in the log that triggers a background compaction. Defaults to 0.5.
+         *
+         * @param ratio the garbage ratio, greater than 0 and at most 1.
+         * @return the builder instance.
+         */
+        public Builder setCompactionThreshold(double ratio) {
+            if (!(ratio > 0 && ratio <= 1)) {
+                throw new IllegalArgumentException("Compaction threshold must be in (0, 1]: " + ratio);
+            }
+            this.compactionThreshold = ratio;
+            return this;
+        }
+
+        /**
+         * Sets the minimum amount of garbage before a background compaction runs, so small stores are left alone.
+         * Defaults to 1 MiB.
+         *
+         * @param bytes the minimum garbage in bytes.
+         * @return the builder instance.
+         */
+        public Builder setMinCompactionBytes(long bytes) {
+            this.minCompactionBytes = Math.max(0, bytes);
+            return this;
+        }
+
+        /**
+         * Opens the store, replaying its log into the index.
+         *
+         * @return the open store.
+         * @throws IOException if the directory or a segment cannot be read.
+         */
+        public KeyValueStore open() throws IOException {
+            KeyValueStore store = new KeyValueStore(this);
+            try {
+                store.load();
+            } catch (IOException | RuntimeException e) {
+                for (Segment segment : store.segments) {
+                    segment.close();
+                }
+                throw e;
+            }
+            return store;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.modular_multi_loader_template.utils.functions.storage;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * One append-only file of a {@link KeyValueStore}.
+ *
+ * <p>A segment starts with a header of {@link #HEADER_SIZE} bytes: magic, version, and the id of the oldest
+ * segment it replaces (its own id unless it is the output of a compaction). Records follow:</p>
+ * <pre>
+ * crc32c (int)  key length (int)  value length (int, -1 for a deletion)  key (UTF-8)  value
+ * </pre>
+ * <p>The checksum covers everything after it. A record that is cut off or fails its checksum ends the segment:
+ * it is the tail of a write that was interrupted by a crash.</p>
+ *
+ * <p>Files are named {@code <id>.<generation>.kvs}. Appended segments have generation {@code 0}; a compaction
+ * writes one segment with the id of the newest segment it replaces and a higher generation than any before.</p>
+ */
+final class Segment implements Closeable {
+    /** File magic ({@code "MMKV"}). */
+    static final int MAGIC = 0x4D4D4B56;
+
+    /** Current format version. */
+    static final int VERSION = 1;
+
+    /** Size of the segment header: magic, version and first covered id. */
+    static final int HEADER_SIZE = 4 + 1 + 8;
+
+    /** Size of a record header: checksum, key length and value length. */
+    static final int RECORD_HEADER_SIZE = 12;
+
+    /** Value length marking a deletion. */
+    static final int TOMBSTONE = -1;
+
+    private static final int SCAN_BUFFER_SIZE = 64 << 10;
+
+    static final String EXTENSION = ".kvs";
+    static final Pattern FILE_NAME = Pattern.compile("(\\d+)\\.(\\d+)\\" + EXTENSION);
+
+    final long id;
+    final long generation;
+    final long firstId;
+    final Path file;
+    final FileChannel channel;
+
+    // Bytes of valid records, including the header. Only grows for the active segment, under the store's write lock.
+    volatile long size;
+    // Bytes of records that are still referenced by the index.
+    long liveBytes;
+
+    private volatile MappedByteBuffer mapped;
+
+    private Segment(long id, long generation, long firstId, Path file, FileChannel channel, long size) {
+        this.id = id;
+        this.generation = generation;
+        this.firstId = firstId;
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new, empty segment in the given file, which must not exist.
+     */
+    static Segment create(Path file, long id, long generation, long firstId) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(MAGIC).put((byte) VERSION).putLong(firstId).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, HEADER_SIZE - header.remaining());
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new Segment(id, generation, firstId, file, channel, HEADER_SIZE);
+    }
+
+    /**
+     * Opens an existing segment. Its records still have to be scanned to determine its valid size.
+     */
+    static Segment open(Path file) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IOException("Not a segment file: " + file);
+        }
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = channel.read(header, header.position());
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException("Not a key-value segment: " + file);
+            }
+            int version = header.get() & 0xFF;
+            if (version > VERSION) {
+                throw new IOException("Unsupported key-value segment version " + version + " in " + file);
+            }
+            return new Segment(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), header.getLong(),
+                    file, channel, channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static String fileName(long id, long generation) {
+        return String.format("%016d.%d%s", id, generation, EXTENSION);
+    }
+
+    /**
+     * Copies {@code length} bytes at {@code offset} into a new array.
+     *
+     * <p>Reads go through a read-only mapping that is renewed only once the segment has doubled in size since it was
+     * made. Records appended after that are read from the channel, so a lookup right after a put does not remap.</p>
+     */
+    byte[] read(long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        MappedByteBuffer current = this.mapping();
+        if (offset + length <= current.capacity()) {
+            current.get((int) offset, bytes);
+            return bytes;
+        }
+
+        ByteBuffer target = ByteBuffer.wrap(bytes);
+        while (target.hasRemaining()) {
+            if (this.channel.read(target, offset + target.position()) < 0) {
+                throw new EOFException("Record at " + offset + " runs past the end of " + this.file);
+            }
+        }
+        return bytes;
+    }
+
+    private MappedByteBuffer mapping() throws IOException {
+        MappedByteBuffer current = this.mapped;
+        if (current == null || this.size >= 2L * current.capacity()) {
+            synchronized (this) {
+                current = this.mapped;
+                if (current == null || this.size >= 2L * current.capacity()) {
+                    current = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.size);
+                    this.mapped = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Calls the visitor for every valid record from the header on, and returns the end of the last valid record.
+     *
+     * <p>The file is read with positional reads rather than mapped, so a torn tail can be truncated afterwards on
+     * systems that refuse to truncate mapped files.</p>
+     */
+    long scan(RecordVisitor visitor) throws IOException {
+        long fileSize = this.channel.size();
+        CRC32C crc = new CRC32C();
+        ByteBuffer window = ByteBuffer.allocate(SCAN_BUFFER_SIZE).limit(0);
+        long position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= fileSize) {
+            window = this.fill(window, position, RECORD_HEADER_SIZE);
+            int start = window.position();
+            int checksum = window.getInt(start);
+            int keyLength = window.getInt(start + 4);
+            int valueLength = window.getInt(start + 8);
+            long end = position + RECORD_HEADER_SIZE + keyLength + Math.max(0, valueLength);
+            if (keyLength <= 0 || valueLength < TOMBSTONE || end > fileSize) {
+                break;
+            }
+
+            int recordSize = (int) (end - position);
+            window = this.fill(window, position, recordSize);
+            start = window.position();
+            crc.reset();
+            crc.update(window.duplicate().position(start + 4).limit(start + recordSize));
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            byte[] key = new byte[keyLength];
+            window.get(start + RECORD_HEADER_SIZE, key);
+            visitor.visit(key, position, valueLength, window.duplicate().limit(start + recordSize));
+            window.position(start + recordSize);
+            position = end;
+        }
+        return position;
+    }
+
+    // Makes at least length bytes from the file offset at the window's position readable, reading on as needed.
+    private ByteBuffer fill(ByteBuffer window, long position, int length) throws IOException {
+        if (window.remaining() >= length) {
+            return window;
+        }
+        ByteBuffer target = window.capacity() >= length
+                ? window.compact()
+                : ByteBuffer.allocate(Math.max(length, window.capacity() * 2)).put(window);
+        while (target.position() < length) {
+            if (this.channel.read(target, position + target.position()) < 0) {
+                throw new EOFException("Segment shrank while it was scanned: " + this.file);
+            }
+        }
+        return target.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.mapped = null;
+        this.channel.close();
+    }
+
+    /**
+     * Receives scanned records. {@code record} holds the whole record, header included, between its position and
+     * limit, and is only valid during the call.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(byte[] key, long offset, int valueLength, ByteBuffer record) throws IOException;
+    }
+}